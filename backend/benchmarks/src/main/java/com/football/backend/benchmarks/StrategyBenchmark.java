@@ -0,0 +1,71 @@
+package com.football.backend.benchmarks;
+
+import com.football.backend.models.CompetitionStrategy;
+import com.football.backend.models.Edition;
+import com.football.backend.models.Match;
+import com.football.backend.models.Team;
+import com.football.backend.models.decider.Decider;
+import com.football.backend.models.strategy.Fixtures;
+import com.football.backend.models.strategy.KnockoutStrategy;
+import com.football.backend.models.strategy.RobinRoundDoubleStrategy;
+import com.football.backend.models.strategy.RobinRoundStrategy;
+import com.football.backend.models.strategy.Strategy;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of {@link Strategy#generateFixtures} and of the full
+ * {@link Strategy#generateStrategy} materialization, for each competition
+ * type and bracket size. Run with the GC profiler (the default in
+ * {@link BenchmarkRunner}) to also get the allocation per generated schedule.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StrategyBenchmark {
+
+    // Home team always wins, so knockout brackets cost the same on every run.
+    private static final Decider HOME_WINS = (team1, team2) -> team1;
+
+    @Param({"8", "16", "32", "64", "128", "256", "512"})
+    private int teamCount;
+
+    @Param({"ROBIN_ROUND", "ROBIN_ROUND_DOUBLE", "KNOCKOUT"})
+    private CompetitionStrategy strategyType;
+
+    private Strategy strategy;
+    private Edition edition;
+    private List<Team> teams;
+
+    @Setup
+    public void setUp() {
+        strategy = switch (strategyType) {
+            case ROBIN_ROUND -> new RobinRoundStrategy();
+            case ROBIN_ROUND_DOUBLE -> new RobinRoundDoubleStrategy();
+            case KNOCKOUT -> new KnockoutStrategy(HOME_WINS);
+        };
+        edition = new Edition(new UUID(0, 1), "Benchmark", new UUID(0, 2), strategyType);
+
+        teams = new ArrayList<>(teamCount);
+        for (int i = 0; i < teamCount; i++) {
+            teams.add(new Team(new UUID(1, i), null, "Team " + i));
+        }
+    }
+
+    @Benchmark
+    public Fixtures generateFixtures() {
+        return strategy.generateFixtures(teams);
+    }
+
+    @Benchmark
+    public List<List<Match>> generateStrategy() {
+        return strategy.generateStrategy(edition, teams);
+    }
+}
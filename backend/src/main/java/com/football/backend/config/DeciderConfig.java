@@ -0,0 +1,32 @@
+package com.football.backend.config;
+
+import com.football.backend.models.decider.Decider;
+import com.football.backend.services.EloDecider;
+import com.football.backend.services.MatchStrategyService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+@Configuration
+public class DeciderConfig {
+
+    /**
+     * The decider knockout brackets are played with: {@code power} for a random
+     * squad criterion, {@code elo} for the teams' ratings from their results.
+     * Power is the default, as it is what the /knockout-odds simulation models.
+     */
+    @Bean
+    @Primary
+    public Decider knockoutDecider(
+            @Value("${knockout.decider:power}") String decider,
+            EloDecider eloDecider,
+            MatchStrategyService matchStrategyService
+    ) {
+        return switch (decider) {
+            case "elo" -> eloDecider;
+            case "power" -> matchStrategyService;
+            default -> throw new IllegalArgumentException("Unknown knockout.decider: " + decider);
+        };
+    }
+}
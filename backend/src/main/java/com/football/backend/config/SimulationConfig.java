@@ -0,0 +1,20 @@
+package com.football.backend.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ForkJoinPool;
+
+@Configuration
+public class SimulationConfig {
+
+    /**
+     * Runs the Monte Carlo simulations, apart from the common pool so long
+     * simulations do not hold up parallel streams elsewhere.
+     */
+    @Bean(destroyMethod = "shutdownNow")
+    public ForkJoinPool simulationPool(@Value("${simulation.parallelism:0}") int parallelism) {
+        return new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    }
+}
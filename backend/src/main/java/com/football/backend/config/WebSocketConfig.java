@@ -0,0 +1,22 @@
+package com.football.backend.config;
+
+import com.football.backend.controllers.EditionTickerSocketHandler;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.socket.config.annotation.EnableWebSocket;
+import org.springframework.web.socket.config.annotation.WebSocketConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketHandlerRegistry;
+
+@Configuration
+@EnableWebSocket
+@RequiredArgsConstructor
+public class WebSocketConfig implements WebSocketConfigurer {
+
+    private final EditionTickerSocketHandler editionTickerSocketHandler;
+
+    @Override
+    public void registerWebSocketHandlers(WebSocketHandlerRegistry registry) {
+        registry.addHandler(editionTickerSocketHandler, "/ws/editions/*/ticker")
+                .setAllowedOrigins("http://localhost:5173"); // Same origin as the REST API allows
+    }
+}
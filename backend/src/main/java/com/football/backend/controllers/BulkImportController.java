@@ -0,0 +1,47 @@
+package com.football.backend.controllers;
+
+import com.football.backend.dto.BulkImportResultDto;
+import com.football.backend.services.BulkIngestionService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Bulk ingestion for the nightly data feed. Each endpoint takes newline-delimited
+ * JSON, one record per line in the shape of the matching single-record request,
+ * and answers with counts plus the lines that were rejected.
+ */
+@RestController
+@RequestMapping("/api/bulk")
+@RequiredArgsConstructor
+public class BulkImportController {
+
+    private final BulkIngestionService bulkIngestionService;
+
+    /**
+     * POST /api/bulk/players : One {@code CreatePlayerRequest} per line.
+     */
+    @PostMapping(value = "/players", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public BulkImportResultDto importPlayers(InputStream body) throws IOException {
+        return bulkIngestionService.importPlayers(body);
+    }
+
+    /**
+     * POST /api/bulk/contracts : One {@code CreateContractRequest} per line; each player joins the team they sign for.
+     */
+    @PostMapping(value = "/contracts", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public BulkImportResultDto importContracts(InputStream body) throws IOException {
+        return bulkIngestionService.importContracts(body);
+    }
+
+    /**
+     * POST /api/bulk/matches : One {@code MatchCreateRequest} per line.
+     */
+    @PostMapping(value = "/matches", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public BulkImportResultDto importMatches(InputStream body) throws IOException {
+        return bulkIngestionService.importMatches(body);
+    }
+}
@@ -0,0 +1,40 @@
+package com.football.backend.controllers;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * If-None-Match handling for the endpoints tagged with change versions.
+ */
+final class ConditionalRequests {
+
+    private static final String WEAK_PREFIX = "W/";
+
+    private ConditionalRequests() {
+    }
+
+    /**
+     * Whether the client already holds the representation tagged {@code etag}.
+     * Uses the weak comparison If-None-Match calls for.
+     */
+    static boolean isNotModified(HttpHeaders headers, String etag) {
+        if (etag == null) {
+            return false;
+        }
+        for (String tag : headers.getIfNoneMatch()) {
+            if ("*".equals(tag) || stripWeak(tag).equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    static <T> ResponseEntity<T> notModified(String etag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+    }
+
+    private static String stripWeak(String tag) {
+        return tag.startsWith(WEAK_PREFIX) ? tag.substring(WEAK_PREFIX.length()) : tag;
+    }
+}
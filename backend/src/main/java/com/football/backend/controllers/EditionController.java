@@ -1,16 +1,32 @@
 package com.football.backend.controllers;
 
 import com.football.backend.dto.CreateEditionDto;
+import com.football.backend.dto.DashboardCacheStatsDto;
 import com.football.backend.dto.EditionDashboardDto;
+import com.football.backend.dto.KnockoutOddsDto;
+import com.football.backend.dto.LeagueOddsDto;
+import com.football.backend.dto.MatchListDto;
+import com.football.backend.dto.StandingsEntryDto;
+import com.football.backend.dto.StandingsSnapshotDto;
+import com.football.backend.dto.TitleRaceDto;
 import com.football.backend.models.Edition;
+import com.football.backend.services.ChangeVersions;
+import com.football.backend.services.EditionDashboardCache;
 import com.football.backend.services.EditionDashboardService;
 import com.football.backend.services.EditionService;
+import com.football.backend.services.KnockoutSimulationService;
+import com.football.backend.services.LeagueSimulationService;
+import com.football.backend.services.StandingsService;
+import com.football.backend.services.TitleRaceService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @RestController
@@ -20,7 +36,13 @@ import java.util.UUID;
 public class EditionController {
 
     private final EditionService editionService;
+    private final EditionDashboardCache editionDashboardCache;
     private final EditionDashboardService editionDashboardService;
+    private final StandingsService standingsService;
+    private final KnockoutSimulationService knockoutSimulationService;
+    private final LeagueSimulationService leagueSimulationService;
+    private final TitleRaceService titleRaceService;
+    private final ChangeVersions changeVersions;
 
     @PostMapping
     public ResponseEntity<UUID> createEdition(@RequestBody CreateEditionDto dto) {
@@ -33,10 +55,106 @@ public class EditionController {
         return ResponseEntity.ok(editionService.getAllEditions());
     }
 
+    /**
+     * GET /api/editions/{id}/dashboard : The {@link EditionDashboardDto} as cached JSON,
+     * tagged with the edition's change version; an If-None-Match that still matches
+     * gets a 304 without a reload.
+     */
     @GetMapping("/{id}/dashboard")
-    public ResponseEntity<EditionDashboardDto> getDashboard(@PathVariable UUID id) {
-        EditionDashboardDto dashboard = editionDashboardService.getDashboard(id);
-        return ResponseEntity.ok(dashboard);
+    public ResponseEntity<byte[]> getDashboard(@PathVariable UUID id, @RequestHeader HttpHeaders headers) {
+        String current = changeVersions.currentTag(ChangeVersions.Scope.EDITION, id);
+        if (ConditionalRequests.isNotModified(headers, current)) {
+            return ConditionalRequests.notModified(current);
+        }
+        EditionDashboardCache.CachedDashboard dashboard = editionDashboardCache.get(id);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(dashboard.etag())
+                .body(dashboard.json());
+    }
+
+    /**
+     * GET /api/editions/{id}/rounds/{round} : The matches of one round (1-based), so the
+     * dashboard can load rounds on demand. Tagged with the edition's change version.
+     */
+    @GetMapping("/{id}/rounds/{round}")
+    public ResponseEntity<List<MatchListDto>> getRound(@PathVariable UUID id, @PathVariable int round,
+                                                       @RequestHeader HttpHeaders headers) {
+        editionDashboardService.requireEdition(id);
+        String current = changeVersions.currentTag(ChangeVersions.Scope.EDITION, id);
+        if (ConditionalRequests.isNotModified(headers, current)) {
+            return ConditionalRequests.notModified(current);
+        }
+        ChangeVersions.Stamp stamp = changeVersions.stamp(ChangeVersions.Scope.EDITION, id);
+        List<MatchListDto> matches = editionDashboardService.getRound(id, round);
+        return ResponseEntity.ok().eTag(changeVersions.tagOf(stamp)).body(matches);
+    }
+
+    @GetMapping("/dashboards/cache-stats")
+    public ResponseEntity<DashboardCacheStatsDto> getDashboardCacheStats() {
+        return ResponseEntity.ok(editionDashboardCache.getStats());
+    }
+
+    /**
+     * GET /api/editions/{id}/standings : Current table with its version, also sent as ETag.
+     * Responds 304 when the table is not newer than {@code sinceVersion} or If-None-Match.
+     */
+    @GetMapping("/{id}/standings")
+    public ResponseEntity<StandingsSnapshotDto> getStandings(@PathVariable UUID id,
+                                                             @RequestParam(required = false) Long sinceVersion,
+                                                             @RequestHeader HttpHeaders headers) {
+        StandingsSnapshotDto snapshot = standingsService.getStandingsSnapshot(id);
+        String etag = changeVersions.tagOf('s', snapshot.getVersion());
+        if ((sinceVersion != null && snapshot.getVersion() <= sinceVersion)
+                || ConditionalRequests.isNotModified(headers, etag)) {
+            return ConditionalRequests.notModified(etag);
+        }
+        return ResponseEntity.ok().eTag(etag).body(snapshot);
+    }
+
+    @PostMapping("/{id}/standings/rebuild")
+    public ResponseEntity<List<StandingsEntryDto>> rebuildStandings(@PathVariable UUID id) {
+        standingsService.rebuildStandings(id);
+        return ResponseEntity.ok(standingsService.getStandings(id));
+    }
+
+    /**
+     * GET /api/editions/{id}/knockout-odds : Chance of every team to reach each round of
+     * a knockout edition and to win it, from {@code iterations} simulations of its draw.
+     * Passing the returned seed back reproduces the same odds.
+     */
+    @GetMapping("/{id}/knockout-odds")
+    public ResponseEntity<KnockoutOddsDto> getKnockoutOdds(@PathVariable UUID id,
+                                                           @RequestParam(defaultValue = "100000") long iterations,
+                                                           @RequestParam(required = false) Long seed) {
+        return ResponseEntity.ok(knockoutSimulationService.simulate(id, iterations, seed));
+    }
+
+    /**
+     * GET /api/editions/{id}/league-odds : Chance of every team of a league edition to
+     * finish in each position, win the title or make the top four, from {@code iterations}
+     * simulations of the remaining fixtures. Kept until the edition changes.
+     */
+    @GetMapping("/{id}/league-odds")
+    public ResponseEntity<LeagueOddsDto> getLeagueOdds(@PathVariable UUID id,
+                                                       @RequestParam(defaultValue = "100000") long iterations,
+                                                       @RequestParam(required = false) Long seed) {
+        return ResponseEntity.ok(leagueSimulationService.simulate(id, iterations, seed));
+    }
+
+    /**
+     * GET /api/editions/{id}/title-race : Which teams of a league edition have clinched the
+     * title, are mathematically out of it or still in the race. Tagged with the edition's
+     * change version.
+     */
+    @GetMapping("/{id}/title-race")
+    public ResponseEntity<TitleRaceDto> getTitleRace(@PathVariable UUID id, @RequestHeader HttpHeaders headers) {
+        String current = changeVersions.currentTag(ChangeVersions.Scope.EDITION, id);
+        if (ConditionalRequests.isNotModified(headers, current)) {
+            return ConditionalRequests.notModified(current);
+        }
+        TitleRaceService.TaggedRace race = titleRaceService.getTitleRace(id);
+        return ResponseEntity.ok().eTag(race.etag()).body(race.race());
     }
 
     @GetMapping("/by-competition/{competitionId}")
@@ -55,4 +173,9 @@ public class EditionController {
         editionService.deleteEdition(id);
         return ResponseEntity.noContent().build();
     }
-}
\ No newline at end of file
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<Map<String, String>> handleInvalidRequest(IllegalArgumentException e) {
+        return new ResponseEntity<>(Map.of("error", e.getMessage()), HttpStatus.BAD_REQUEST);
+    }
+}
@@ -0,0 +1,55 @@
+package com.football.backend.controllers;
+
+import com.football.backend.services.EditionTicker;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.TextWebSocketHandler;
+
+import java.io.IOException;
+import java.util.UUID;
+
+/**
+ * WS /ws/editions/{editionId}/ticker : Live scores of every match in the edition.
+ * The server only pushes; anything the client sends is ignored.
+ */
+@Component
+@RequiredArgsConstructor
+public class EditionTickerSocketHandler extends TextWebSocketHandler {
+
+    private static final String EDITION_ID = "editionId";
+
+    private final EditionTicker editionTicker;
+
+    @Override
+    public void afterConnectionEstablished(WebSocketSession session) throws IOException {
+        UUID editionId = editionId(session);
+        if (editionId == null) {
+            session.close(CloseStatus.BAD_DATA.withReason("Invalid edition id"));
+            return;
+        }
+        session.getAttributes().put(EDITION_ID, editionId);
+        editionTicker.subscribe(editionId, session);
+    }
+
+    @Override
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
+        if (session.getAttributes().get(EDITION_ID) instanceof UUID editionId) {
+            editionTicker.unsubscribe(editionId, session);
+        }
+    }
+
+    // The id is the segment before "ticker"
+    private static UUID editionId(WebSocketSession session) {
+        if (session.getUri() == null) {
+            return null;
+        }
+        String[] segments = session.getUri().getPath().split("/");
+        try {
+            return UUID.fromString(segments[segments.length - 2]);
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+            return null;
+        }
+    }
+}
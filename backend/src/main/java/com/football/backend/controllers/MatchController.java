@@ -2,22 +2,33 @@ package com.football.backend.controllers;
 
 import com.football.backend.dto.MatchCreateRequest;
 import com.football.backend.dto.MatchDetailsDto;
-import com.football.backend.dto.MatchListDto;
+import com.football.backend.dto.MatchPageDto;
 import com.football.backend.dto.MatchUpdateRequest;
+import com.football.backend.dto.MatchEventAckDto;
 import com.football.backend.dto.MatchEventCreateRequest;
 import com.football.backend.dto.MatchEventDto;
 import com.football.backend.mappers.MatchEventMapper;
 import com.football.backend.mappers.MatchMapper;
 import com.football.backend.models.Match;
 import com.football.backend.models.MatchEvent;
+import com.football.backend.services.ChangeVersions;
+import com.football.backend.services.MatchEventIngestor;
 import com.football.backend.services.MatchEventService;
 import com.football.backend.services.MatchService;
+import com.football.backend.services.MatchStreamBroadcaster;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("/api/matches")
@@ -26,35 +37,61 @@ public class MatchController {
 
     private final MatchService matchService;
     private final MatchEventService matchEventService;
+    private final MatchEventIngestor matchEventIngestor;
     private final MatchMapper matchMapper;
     private final MatchEventMapper matchEventMapper;
+    private final MatchStreamBroadcaster matchStreamBroadcaster;
+    private final ChangeVersions changeVersions;
 
     @GetMapping("/schedule")
-    public List<MatchListDto> getSchedule() {
-        return matchService.getSchedule().stream()
-                .map(matchMapper::toListDto)
-                .toList();
+    public MatchPageDto getSchedule(@RequestParam(required = false) String cursor,
+                                    @RequestParam(defaultValue = "50") int limit) {
+        return matchService.getSchedule(cursor, limit);
     }
 
     @GetMapping("/results")
-    public List<MatchListDto> getFinishedMatches() {
-        return matchService.getFinishedMatches().stream()
-                .map(matchMapper::toListDto)
-                .toList();
+    public MatchPageDto getFinishedMatches(@RequestParam(required = false) String cursor,
+                                           @RequestParam(defaultValue = "50") int limit) {
+        return matchService.getFinishedMatches(cursor, limit);
     }
 
     @GetMapping
-    public List<MatchListDto> getAllMatches() {
-        return matchService.getAllMatches().stream()
-                .map(matchMapper::toListDto)
-                .toList();
+    public MatchPageDto getAllMatches(@RequestParam(required = false) String cursor,
+                                      @RequestParam(defaultValue = "50") int limit) {
+        return matchService.getAllMatches(cursor, limit);
     }
 
+    /**
+     * GET /api/matches/{id} : Tagged with the match's change version; an
+     * If-None-Match that still matches gets a 304 without a reload.
+     */
     @GetMapping("/{id:[0-9a-fA-F\\-]{36}}")
-    public MatchDetailsDto getMatch(@PathVariable UUID id) {
-        Match match = matchService.getMatch(id);
-        List<MatchEvent> events = matchEventService.getEventsForMatch(id);
-        return matchMapper.toMatchDetailsDto(match, events);
+    public ResponseEntity<MatchDetailsDto> getMatch(@PathVariable UUID id, @RequestHeader HttpHeaders headers) {
+        String current = changeVersions.currentTag(ChangeVersions.Scope.MATCH, id);
+        if (ConditionalRequests.isNotModified(headers, current)) {
+            return ConditionalRequests.notModified(current);
+        }
+        ChangeVersions.Stamp stamp = changeVersions.stamp(ChangeVersions.Scope.MATCH, id);
+        MatchDetailsDto details = loadDetails(id);
+        return ResponseEntity.ok().eTag(changeVersions.tagOf(stamp)).body(details);
+    }
+
+    /**
+     * GET /api/matches/{id}/stream : Live updates over Server-Sent Events. Sends the
+     * match state once, then "event" and "score" updates as they are committed.
+     * Reconnecting clients resume from their Last-Event-ID when it is still buffered.
+     */
+    @GetMapping(path = "/{id:[0-9a-fA-F\\-]{36}}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamMatch(@PathVariable UUID id,
+                                  @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        Long resumeFrom = parseEventId(lastEventId);
+        if (resumeFrom != null && matchStreamBroadcaster.canResume(id, resumeFrom)) {
+            return matchStreamBroadcaster.resume(id, resumeFrom);
+        }
+
+        // Read the id first: the state loaded afterwards includes at least every update up to it
+        long stateEventId = matchStreamBroadcaster.currentEventId();
+        return matchStreamBroadcaster.subscribe(id, loadDetails(id), stateEventId);
     }
 
     @PostMapping
@@ -82,6 +119,16 @@ public class MatchController {
         return matchEventMapper.toEventDto(event);
     }
 
+    /**
+     * POST /api/matches/events/batch : Queues events of any matches for group commit.
+     * Answers once all are settled with one acknowledgement per event, in request order;
+     * events of the same match are applied in the order given.
+     */
+    @PostMapping("/events/batch")
+    public CompletableFuture<List<MatchEventAckDto>> ingestEvents(@RequestBody List<MatchEventCreateRequest> requests) {
+        return matchEventIngestor.submitAll(requests);
+    }
+
     @GetMapping("/{id:[0-9a-fA-F\\-]{36}}/events")
     public List<MatchEventDto> getEvents(@PathVariable UUID id) {
         return matchEventService.getEventsForMatch(id).stream()
@@ -94,4 +141,27 @@ public class MatchController {
     public void deleteMatch(@PathVariable UUID id) {
         matchService.deleteMatch(id);
     }
+
+    // A goal or another edit changed the match since it was read
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<Map<String, String>> handleConcurrentUpdate(OptimisticLockingFailureException e) {
+        return new ResponseEntity<>(Map.of("error", "The match was modified concurrently, please retry."), HttpStatus.CONFLICT);
+    }
+
+    private MatchDetailsDto loadDetails(UUID id) {
+        Match match = matchService.getMatch(id);
+        List<MatchEvent> events = matchEventService.getEventsForMatch(id);
+        return matchMapper.toMatchDetailsDto(match, events);
+    }
+
+    private static Long parseEventId(String lastEventId) {
+        if (lastEventId == null) {
+            return null;
+        }
+        try {
+            return Long.parseLong(lastEventId.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
 }
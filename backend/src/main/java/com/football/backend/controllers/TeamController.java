@@ -1,10 +1,14 @@
 package com.football.backend.controllers;
 
+import com.football.backend.dto.CacheStatsDto;
 import com.football.backend.dto.CreateTeamRequest;
+import com.football.backend.dto.PowerRankingDto;
 import com.football.backend.dto.TeamDto;
 import com.football.backend.dto.TeamSummaryDto;
 import com.football.backend.exceptions.ResourceNotFoundException;
 import com.football.backend.exceptions.TeamAssignmentException;
+import com.football.backend.services.TeamPowerService;
+import com.football.backend.services.TeamRatingService;
 import com.football.backend.services.TeamService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
@@ -20,10 +24,15 @@ import java.util.Map;
 public class TeamController {
 
     private final TeamService teamService;
+    private final TeamPowerService teamPowerService;
+    private final TeamRatingService teamRatingService;
 
     @Autowired
-    public TeamController(TeamService teamService) {
+    public TeamController(TeamService teamService, TeamPowerService teamPowerService,
+                          TeamRatingService teamRatingService) {
         this.teamService = teamService;
+        this.teamPowerService = teamPowerService;
+        this.teamRatingService = teamRatingService;
     }
 
     @PostMapping
@@ -57,6 +66,25 @@ public class TeamController {
         return new ResponseEntity<>(teams, HttpStatus.OK);
     }
 
+    @GetMapping("/power/cache-stats")
+    public ResponseEntity<CacheStatsDto> getPowerCacheStats() {
+        return new ResponseEntity<>(teamPowerService.getCacheStats(), HttpStatus.OK);
+    }
+
+    @GetMapping("/power-rankings")
+    public ResponseEntity<List<PowerRankingDto>> getPowerRankings() {
+        return new ResponseEntity<>(teamRatingService.getPowerRankings(), HttpStatus.OK);
+    }
+
+    /**
+     * Rates every team again from all finished matches, then returns the new rankings.
+     */
+    @PostMapping("/power-rankings/rebuild")
+    public ResponseEntity<List<PowerRankingDto>> rebuildPowerRankings() {
+        teamRatingService.rebuild();
+        return new ResponseEntity<>(teamRatingService.getPowerRankings(), HttpStatus.OK);
+    }
+
     @PutMapping("/{teamId}/assignCoach/{coachId}")
     public ResponseEntity<?> assignCoachToTeam(@PathVariable String teamId, @PathVariable String coachId) {
         try {
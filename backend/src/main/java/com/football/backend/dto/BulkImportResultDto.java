@@ -0,0 +1,36 @@
+package com.football.backend.dto;
+
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Outcome of an NDJSON bulk import. Only rejected lines are listed, and at most
+ * {@code MAX_ERRORS} of them; the counters always cover the whole input.
+ */
+@Data
+public class BulkImportResultDto {
+    public static final int MAX_ERRORS = 1000;
+
+    private long lines;
+    private long imported;
+    private long rejected;
+    private List<BulkLineErrorDto> errors = new ArrayList<>();
+    private boolean errorsTruncated;
+
+    public void accept(int count) {
+        lines += count;
+        imported += count;
+    }
+
+    public void reject(long line, String message) {
+        lines++;
+        rejected++;
+        if (errors.size() < MAX_ERRORS) {
+            errors.add(new BulkLineErrorDto(line, message));
+        } else {
+            errorsTruncated = true;
+        }
+    }
+}
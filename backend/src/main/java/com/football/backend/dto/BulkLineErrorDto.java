@@ -0,0 +1,14 @@
+package com.football.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkLineErrorDto {
+    // 1-based line number in the request body
+    private long line;
+    private String message;
+}
@@ -3,9 +3,17 @@ package com.football.backend.dto;
 import java.util.UUID;
 
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 @Data
+@NoArgsConstructor
 public class CoachSummaryDto {
     private UUID id;
     private String fullName;
+
+    // Used by the JPQL constructor projection in CoachRepository.
+    public CoachSummaryDto(UUID id, String firstname, String lastname) {
+        this.id = id;
+        this.fullName = firstname + ' ' + lastname;
+    }
 }
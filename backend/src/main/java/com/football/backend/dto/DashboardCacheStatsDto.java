@@ -0,0 +1,21 @@
+package com.football.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DashboardCacheStatsDto {
+    private long hits;
+    private long misses;
+    private double hitRatio;
+    private long evictions;
+    private long rebuilds;
+    private long failedRebuilds;
+    private double rebuildAvgMillis;
+    private double rebuildMaxMillis;
+    private int size;
+    private long bytes;
+}
@@ -18,5 +18,10 @@ public class EditionDashboardDto {
     String editionName;
     String competitionName;
     List<StandingsEntryDto> table;
-    List<List<MatchListDto>> rounds;
+    // Rounds in the schedule; the current one is the first with a match left to finish
+    int roundCount;
+    Integer currentRound;
+    List<MatchListDto> matches;
+    // Matches added outside of the schedule
+    List<MatchListDto> unscheduled;
 }
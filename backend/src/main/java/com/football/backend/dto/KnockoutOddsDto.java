@@ -0,0 +1,33 @@
+package com.football.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Outcome of simulating the bracket of a knockout edition many times. The
+ * seed reproduces the same odds for the same draw and team powers.
+ */
+@Getter
+@AllArgsConstructor
+public class KnockoutOddsDto {
+    private final UUID editionId;
+    private final long iterations;
+    private final long seed;
+    private final int rounds;
+    private final double elapsedMillis;
+    // Most likely winners first
+    private final List<TeamOddsDto> teams;
+
+    @Getter
+    @AllArgsConstructor
+    public static class TeamOddsDto {
+        private final UUID teamId;
+        private final String teamName;
+        // reachRound.get(r): chance of playing round r + 1
+        private final List<Double> reachRound;
+        private final double win;
+    }
+}
@@ -0,0 +1,36 @@
+package com.football.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Where every team of a league edition is expected to finish, from simulating
+ * its remaining fixtures many times on top of the current table.
+ */
+@Getter
+@AllArgsConstructor
+public class LeagueOddsDto {
+    private final UUID editionId;
+    private final long iterations;
+    private final long seed;
+    private final int remainingFixtures;
+    private final double elapsedMillis;
+    // In current table order
+    private final List<TeamPositionOddsDto> teams;
+
+    @Getter
+    @AllArgsConstructor
+    public static class TeamPositionOddsDto {
+        private final UUID teamId;
+        private final String teamName;
+        private final int points;
+        private final double averagePoints;
+        private final double title;
+        private final double topFour;
+        // positions.get(p): chance of finishing in position p + 1
+        private final List<Double> positions;
+    }
+}
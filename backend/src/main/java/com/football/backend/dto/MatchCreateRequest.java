@@ -11,4 +11,5 @@ public class MatchCreateRequest {
     private UUID homeTeamId;
     private UUID awayTeamId;
     private LocalDateTime matchDate;
+    private Integer round;
 }
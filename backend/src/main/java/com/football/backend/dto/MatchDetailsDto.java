@@ -18,6 +18,7 @@ public class MatchDetailsDto {
     private TeamDto homeTeam;
     private TeamDto awayTeam;
     private LocalDateTime matchDate;
+    private Integer round;
     private Integer homeGoals;
     private Integer awayGoals;
     private String status;
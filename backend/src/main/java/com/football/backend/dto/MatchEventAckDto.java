@@ -0,0 +1,18 @@
+package com.football.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Outcome of one event of an ingestion batch, in request order. {@code event}
+ * is set once the event is committed, {@code error} when it was not accepted.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MatchEventAckDto {
+    private int index;
+    private MatchEventDto event;
+    private String error;
+}
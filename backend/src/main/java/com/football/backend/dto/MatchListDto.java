@@ -1,5 +1,6 @@
 package com.football.backend.dto;
 
+import com.football.backend.models.MatchStatus;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -17,7 +18,14 @@ public class MatchListDto {
     private String homeTeamName;
     private String awayTeamName;
     private LocalDateTime matchDate;
+    private Integer round;
     private Integer homeGoals;
     private Integer awayGoals;
     private String status;
+
+    // Used by the JPQL constructor projections in MatchRepository.
+    public MatchListDto(UUID id, String homeTeamName, String awayTeamName, LocalDateTime matchDate, Integer round,
+                        Integer homeGoals, Integer awayGoals, MatchStatus status) {
+        this(id, homeTeamName, awayTeamName, matchDate, round, homeGoals, awayGoals, status == null ? null : status.name());
+    }
 }
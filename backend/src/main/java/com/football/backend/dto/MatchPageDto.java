@@ -0,0 +1,18 @@
+package com.football.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MatchPageDto {
+    private List<MatchListDto> items;
+    // Token for the following page; null on the last one.
+    private String nextCursor;
+}
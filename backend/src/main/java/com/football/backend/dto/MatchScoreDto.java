@@ -0,0 +1,22 @@
+package com.football.backend.dto;
+
+import com.football.backend.models.MatchStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MatchScoreDto {
+    private UUID matchId;
+    private Integer homeGoals;
+    private Integer awayGoals;
+    private String status;
+
+    public MatchScoreDto(UUID matchId, Integer homeGoals, Integer awayGoals, MatchStatus status) {
+        this(matchId, homeGoals, awayGoals, status.name());
+    }
+}
@@ -3,12 +3,24 @@ package com.football.backend.dto;
 import java.util.UUID;
 
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 @Data
+@NoArgsConstructor
 public class PlayerSummaryDto {
     private UUID id;
     private String fullName;
     private String position;
     private Integer shirtNumber;
     private String teamName;
+
+    // Used by the JPQL constructor projection in PlayerRepository.
+    public PlayerSummaryDto(UUID id, String firstname, String lastname, String position,
+                            Integer shirtNumber, String teamName) {
+        this.id = id;
+        this.fullName = firstname + ' ' + lastname;
+        this.position = position;
+        this.shirtNumber = shirtNumber;
+        this.teamName = teamName;
+    }
 }
@@ -0,0 +1,19 @@
+package com.football.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.UUID;
+
+/**
+ * A team's place in the power rankings, by Elo rating over every finished match.
+ */
+@Getter
+@AllArgsConstructor
+public class PowerRankingDto {
+    private final int rank;
+    private final UUID teamId;
+    private final String teamName;
+    private final double rating;
+    private final int matches;
+}
@@ -0,0 +1,19 @@
+package com.football.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Immutable, pre-sorted standings table of an edition. The version grows
+ * every time the table changes, so clients can ask for it only when newer.
+ */
+@Getter
+@AllArgsConstructor
+public class StandingsSnapshotDto {
+    private final UUID editionId;
+    private final long version;
+    private final List<StandingsEntryDto> table;
+}
@@ -5,6 +5,8 @@ import com.football.backend.entities.TeamEntity;
 import lombok.Getter;
 import lombok.Setter;
 
+import java.util.UUID;
+
 @Setter
 @Getter
 public class TeamSummaryDto {
@@ -27,4 +29,13 @@ public class TeamSummaryDto {
         }
     }
 
+    // Used by the JPQL constructor projection in TeamRepository.
+    public TeamSummaryDto(UUID id, String name, String coachFirstname, String coachLastname) {
+        this.id = id.toString();
+        this.name = name;
+        this.coachName = coachFirstname == null && coachLastname == null
+                ? null
+                : coachFirstname + " " + coachLastname;
+    }
+
 }
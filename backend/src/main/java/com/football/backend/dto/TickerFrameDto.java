@@ -0,0 +1,22 @@
+package com.football.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * One frame of the edition ticker: the latest score and status of every match
+ * that changed since the client's previous frame. With {@code resync} set the
+ * client fell too far behind and should reload the dashboard instead.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TickerFrameDto {
+    private UUID editionId;
+    private boolean resync;
+    private Collection<MatchScoreDto> updates;
+}
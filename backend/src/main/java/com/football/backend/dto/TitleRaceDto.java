@@ -0,0 +1,33 @@
+package com.football.backend.dto;
+
+import com.football.backend.models.race.TitleRace;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Who has clinched the title of a league edition, who is out of it and who is
+ * still in the race, on points.
+ */
+@Getter
+@AllArgsConstructor
+public class TitleRaceDto {
+    private final UUID editionId;
+    private final int remainingFixtures;
+    // Whether teams settled in the previous table were carried over instead of checked again
+    private final boolean incremental;
+    // In current table order
+    private final List<TeamRaceDto> teams;
+
+    @Getter
+    @AllArgsConstructor
+    public static class TeamRaceDto {
+        private final UUID teamId;
+        private final String teamName;
+        private final int points;
+        private final int maxPoints;
+        private final TitleRace.Status status;
+    }
+}
@@ -1,8 +1,7 @@
 package com.football.backend.entities;
     
+import com.football.backend.entities.ids.TimeOrderedUuid;
 import jakarta.persistence.Entity;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.OneToOne;
 import jakarta.persistence.Table;
@@ -21,7 +20,7 @@ import java.util.UUID;
 @Table(name = "coach")
 public class CoachEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedUuid
     private UUID id;
 
     @OneToOne(mappedBy = "coach")
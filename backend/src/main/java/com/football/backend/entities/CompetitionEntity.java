@@ -1,5 +1,6 @@
 package com.football.backend.entities;
 
+import com.football.backend.entities.ids.TimeOrderedUuid;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -15,7 +16,7 @@ import java.util.UUID;
 @Table(name = "competition")
 public class CompetitionEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedUuid
     private UUID id;
 
     @Column(unique = true, nullable = false)
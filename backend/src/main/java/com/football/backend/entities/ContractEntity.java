@@ -3,10 +3,10 @@ package com.football.backend.entities;
 import java.util.Date;
 import java.util.UUID;
 
+import com.football.backend.entities.ids.TimeOrderedUuid;
 import jakarta.persistence.Entity;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -20,10 +20,10 @@ import lombok.NoArgsConstructor;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "contract")
+@Table(name = "contract", indexes = @Index(name = "idx_contract_player_start", columnList = "player_id, start_date"))
 public class ContractEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedUuid
     private UUID id;
 
     @ManyToOne
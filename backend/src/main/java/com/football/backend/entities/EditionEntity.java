@@ -1,5 +1,6 @@
 package com.football.backend.entities;
 
+import com.football.backend.entities.ids.TimeOrderedUuid;
 import com.football.backend.models.CompetitionStrategy;
 import jakarta.persistence.*;
 import lombok.*;
@@ -14,10 +15,10 @@ import java.util.UUID;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "edition")
+@Table(name = "edition", indexes = @Index(name = "idx_edition_competition", columnList = "competition_id"))
 public class EditionEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedUuid
     private UUID id;
 
     private String name;
@@ -1,18 +1,20 @@
 package com.football.backend.entities;
 
+import com.football.backend.entities.ids.TimeOrderedUuid;
 import com.football.backend.models.MatchStatus;
 import jakarta.persistence.CascadeType;
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -30,10 +32,16 @@ import java.util.UUID;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "matches")
+// Access paths of MatchRepository: per edition (by round or status), by status and date, by date alone
+@Table(name = "matches", indexes = {
+        @Index(name = "idx_matches_edition_round", columnList = "edition_id, round_number"),
+        @Index(name = "idx_matches_edition_status", columnList = "edition_id, status"),
+        @Index(name = "idx_matches_status_date", columnList = "status, match_date, id"),
+        @Index(name = "idx_matches_date", columnList = "match_date, id")
+})
 public class MatchEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedUuid
     private UUID id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -50,12 +58,25 @@ public class MatchEntity {
 
     private LocalDateTime matchDate;
 
+    // 1-based round of the edition's schedule; null for matches added outside of it
+    @Column(name = "round_number")
+    private Integer round;
+
+    // 0-based position of the fixture within its round, in draw order; null outside of the schedule
+    @Column(name = "round_slot")
+    private Integer slot;
+
     private Integer homeGoals;
     private Integer awayGoals;
 
     @Enumerated(EnumType.STRING)
     private MatchStatus status;
 
+    // Optimistic check for edits; score increments bump it in SQL
+    @Version
+    @Column(nullable = false)
+    private long version;
+
     @OneToMany(mappedBy = "match", cascade = CascadeType.ALL, orphanRemoval = true)
     @Builder.Default
     private List<MatchEventEntity> events = new ArrayList<>();
@@ -1,5 +1,6 @@
 package com.football.backend.entities;
 
+import com.football.backend.entities.ids.TimeOrderedUuid;
 import com.football.backend.models.MatchEventType;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
@@ -16,10 +17,10 @@ import java.util.UUID;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "match_event")
+@Table(name = "match_event", indexes = @Index(name = "idx_match_event_match", columnList = "match_id"))
 public class MatchEventEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedUuid
     private UUID id;
 
     @ManyToOne
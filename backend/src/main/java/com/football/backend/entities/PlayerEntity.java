@@ -1,5 +1,6 @@
 package com.football.backend.entities;
 
+import com.football.backend.entities.ids.TimeOrderedUuid;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import lombok.*;
@@ -13,11 +14,11 @@ import java.util.UUID;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "player")
+@Table(name = "player", indexes = @Index(name = "idx_player_team", columnList = "team_id"))
 public class PlayerEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedUuid
     private UUID id;
 
     private String firstname;
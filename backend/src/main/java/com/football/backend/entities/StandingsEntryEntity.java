@@ -3,6 +3,7 @@ package com.football.backend.entities;
 import com.football.backend.entities.compositekeys.StandingsEntryId;
 import jakarta.persistence.*;
 import lombok.*;
+import org.springframework.data.domain.Persistable;
 
 @Entity
 @Getter
@@ -11,7 +12,7 @@ import lombok.*;
 @NoArgsConstructor
 @AllArgsConstructor
 @Table(name = "standings_entry")
-public class StandingsEntryEntity {
+public class StandingsEntryEntity implements Persistable<StandingsEntryId> {
     @EmbeddedId
     @Builder.Default
     private StandingsEntryId id = new StandingsEntryId();
@@ -35,4 +36,24 @@ public class StandingsEntryEntity {
 
     @Column(name = "goals_against")
     private Integer goalsAgainst;
+
+    // The id is assigned from the edition and team, so Spring Data cannot tell
+    // a new entry from an existing one; without this, save() merges and
+    // selects every entry before inserting it.
+    @Transient
+    @Builder.Default
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private boolean newEntry = true;
+
+    @Override
+    public boolean isNew() {
+        return newEntry;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markPersisted() {
+        newEntry = false;
+    }
 }
\ No newline at end of file
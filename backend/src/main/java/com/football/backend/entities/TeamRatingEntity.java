@@ -0,0 +1,34 @@
+package com.football.backend.entities;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.util.UUID;
+
+/**
+ * A team's Elo rating, kept up to date as its matches finish. Teams without a
+ * row have not played a rated match yet and stand at the initial rating.
+ */
+@Entity
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "team_rating")
+public class TeamRatingEntity {
+    @Id
+    private UUID teamId;
+
+    @OneToOne(fetch = FetchType.LAZY)
+    @MapsId
+    @JoinColumn(name = "team_id")
+    private TeamEntity team;
+
+    @Column(nullable = false)
+    private double rating;
+
+    // Finished matches the rating is based on
+    @Column(nullable = false)
+    private int matches;
+}
@@ -1,7 +1,9 @@
 package com.football.backend.mappers;
 
 import com.football.backend.entities.EditionEntity;
+import com.football.backend.entities.StandingsEntryEntity;
 import com.football.backend.models.Edition;
+import com.football.backend.models.StandingsEntry;
 import org.mapstruct.InheritInverseConfiguration;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
@@ -17,4 +19,9 @@ public interface EditionMapper {
     @Mapping(target = "matches", ignore = true)
     @Mapping(target = "competition", ignore = true)
     EditionEntity toEntity(Edition model);
+
+    // The id comes from the edition and team; newEntry is the entity's own persistence flag
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "newEntry", ignore = true)
+    StandingsEntryEntity toEntryEntity(StandingsEntry model);
 }
\ No newline at end of file
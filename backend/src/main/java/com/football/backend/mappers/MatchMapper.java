@@ -23,6 +23,10 @@ public interface MatchMapper {
     @InheritInverseConfiguration
     @Mapping(target = "edition", ignore = true)
     @Mapping(target = "events", ignore = true)
+    // Managed by Hibernate; a mapped entity is new or gets merged onto the current row
+    @Mapping(target = "version", ignore = true)
+    // Only set when an edition's schedule is drawn
+    @Mapping(target = "slot", ignore = true)
     MatchEntity toEntity(Match model);
 
     @Mapping(target = "homeTeamName", source = "homeTeam.name")
@@ -34,6 +38,7 @@ public interface MatchMapper {
     @Mapping(target = "homeTeam", source = "match.homeTeam")
     @Mapping(target = "awayTeam", source = "match.awayTeam")
     @Mapping(target = "matchDate", source = "match.matchDate")
+    @Mapping(target = "round", source = "match.round")
     @Mapping(target = "homeGoals", source = "match.homeGoals")
     @Mapping(target = "awayGoals", source = "match.awayGoals")
     @Mapping(target = "status", expression = "java(match.getStatus().name())")
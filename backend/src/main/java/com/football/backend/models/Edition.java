@@ -15,4 +15,9 @@ public class Edition {
     private UUID competitionId;
     private CompetitionStrategy StrategyType;
     private Standings standings;
+
+    // Used by the JPQL constructor projections in EditionRepository.
+    public Edition(UUID id, String name, UUID competitionId, CompetitionStrategy strategyType) {
+        this(id, name, competitionId, strategyType, null);
+    }
 }
@@ -15,6 +15,7 @@ public class Match {
     private Team homeTeam;
     private Team awayTeam;
     private LocalDateTime matchDate;
+    private Integer round;
     private Integer homeGoals;
     private Integer awayGoals;
     private MatchStatus status;
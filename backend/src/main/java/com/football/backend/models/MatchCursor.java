@@ -0,0 +1,53 @@
+package com.football.backend.models;
+
+import com.football.backend.dto.MatchListDto;
+import com.football.backend.exceptions.InvalidCursorException;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Keyset position in a match listing: the (matchDate, id) of the last row
+ * returned. Serialized as an opaque URL-safe token for clients. A null date
+ * marks a position among the undated matches listed after all dated ones.
+ */
+@Getter
+@AllArgsConstructor
+public class MatchCursor {
+    private static final String SEPARATOR = "|";
+
+    private final LocalDateTime matchDate;
+    private final UUID id;
+
+    public static MatchCursor after(MatchListDto last) {
+        return new MatchCursor(last.getMatchDate(), last.getId());
+    }
+
+    public String encode() {
+        String raw = (matchDate == null ? "" : matchDate.toString()) + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @return The decoded cursor, or null for a missing token (first page).
+     */
+    public static MatchCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            String date = raw.substring(0, separator);
+            return new MatchCursor(date.isEmpty() ? null : LocalDateTime.parse(date),
+                    UUID.fromString(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new InvalidCursorException("Invalid cursor: " + token);
+        }
+    }
+}
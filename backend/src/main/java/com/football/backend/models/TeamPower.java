@@ -0,0 +1,40 @@
+package com.football.backend.models;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.UUID;
+
+/**
+ * The five power components of a squad, computed together from one snapshot
+ * of its players and their latest contracts. Every component is in [0, 100].
+ */
+@Getter
+@AllArgsConstructor
+public class TeamPower {
+    private final UUID teamId;
+    private final int squadSize;
+    private final double financialScore;
+    private final double ageScore;
+    private final double cohesionScore;
+    private final double tacticalScore;
+    private final double depthScore;
+
+    public static TeamPower empty(UUID teamId) {
+        return new TeamPower(teamId, 0, 0, 0, 0, 0, 0);
+    }
+
+    public int getTotalPower() {
+        if (squadSize == 0) {
+            return 0;
+        }
+
+        double totalScore = (financialScore * 0.30) +
+                (tacticalScore * 0.25) +
+                (ageScore * 0.15) +
+                (cohesionScore * 0.15) +
+                (depthScore * 0.15);
+
+        return (int) Math.min(100, totalScore);
+    }
+}
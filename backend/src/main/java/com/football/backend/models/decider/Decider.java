@@ -2,7 +2,16 @@ package com.football.backend.models.decider;
 
 import com.football.backend.models.Team;
 
+import java.util.List;
+
 @FunctionalInterface
 public interface Decider {
     Team decideWinner(Team team1, Team team2);
+
+    /**
+     * Called once with every team of the bracket before any winner is decided,
+     * so implementations can load what they need in bulk.
+     */
+    default void prepare(List<Team> teams) {
+    }
 }
\ No newline at end of file
@@ -0,0 +1,102 @@
+package com.football.backend.models.race;
+
+import java.util.Arrays;
+
+/**
+ * Directed network with integer capacities and Dinic's maximum flow. Nodes
+ * are 0 to {@code nodes - 1}; edges live in flat arrays, each followed by its
+ * reverse edge.
+ */
+final class FlowNetwork {
+
+    private final int nodes;
+    private int[] head;
+    private int[] next;
+    private int[] to;
+    private int[] capacity;
+    private int edges;
+
+    private final int[] level;
+    private final int[] cursor;
+    private final int[] queue;
+
+    FlowNetwork(int nodes, int expectedEdges) {
+        this.nodes = nodes;
+        this.head = new int[nodes];
+        Arrays.fill(head, -1);
+        this.next = new int[2 * expectedEdges];
+        this.to = new int[2 * expectedEdges];
+        this.capacity = new int[2 * expectedEdges];
+        this.level = new int[nodes];
+        this.cursor = new int[nodes];
+        this.queue = new int[nodes];
+    }
+
+    void addEdge(int from, int target, int edgeCapacity) {
+        if (edges + 2 > to.length) {
+            int grown = Math.max(4, to.length * 2);
+            next = Arrays.copyOf(next, grown);
+            to = Arrays.copyOf(to, grown);
+            capacity = Arrays.copyOf(capacity, grown);
+        }
+        link(from, target, edgeCapacity);
+        link(target, from, 0);
+    }
+
+    int maxFlow(int source, int sink) {
+        int flow = 0;
+        while (buildLevels(source, sink)) {
+            System.arraycopy(head, 0, cursor, 0, nodes);
+            int pushed;
+            while ((pushed = push(source, sink, Integer.MAX_VALUE)) > 0) {
+                flow += pushed;
+            }
+        }
+        return flow;
+    }
+
+    private void link(int from, int target, int edgeCapacity) {
+        to[edges] = target;
+        capacity[edges] = edgeCapacity;
+        next[edges] = head[from];
+        head[from] = edges++;
+    }
+
+    private boolean buildLevels(int source, int sink) {
+        Arrays.fill(level, -1);
+        level[source] = 0;
+        int read = 0;
+        int write = 0;
+        queue[write++] = source;
+        while (read < write) {
+            int node = queue[read++];
+            for (int edge = head[node]; edge != -1; edge = next[edge]) {
+                if (capacity[edge] > 0 && level[to[edge]] < 0) {
+                    level[to[edge]] = level[node] + 1;
+                    queue[write++] = to[edge];
+                }
+            }
+        }
+        return level[sink] >= 0;
+    }
+
+    private int push(int node, int sink, int limit) {
+        if (node == sink) {
+            return limit;
+        }
+        for (; cursor[node] != -1; cursor[node] = next[cursor[node]]) {
+            int edge = cursor[node];
+            int target = to[edge];
+            if (capacity[edge] > 0 && level[target] == level[node] + 1) {
+                int pushed = push(target, sink, Math.min(limit, capacity[edge]));
+                if (pushed > 0) {
+                    capacity[edge] -= pushed;
+                    // Edges come in pairs, so edge ^ 1 is the reverse one
+                    capacity[edge ^ 1] += pushed;
+                    return pushed;
+                }
+            }
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,316 @@
+package com.football.backend.models.race;
+
+import java.util.Arrays;
+
+/**
+ * Which teams of a league have mathematically clinched the title, which are
+ * out of it and which are still in the race, given the points so far and the
+ * fixtures left. Wins are worth 3 points, draws 1.
+ * <p>
+ * A team has clinched when nobody can reach its points even if it loses every
+ * remaining match. A team is eliminated when, even winning all its remaining
+ * matches, some other team finishes above it whatever the other results are.
+ * Finishing level on points keeps a team in the race, since tiebreakers are not
+ * decided by points alone.
+ * <p>
+ * Elimination is the classic max-flow reduction: every other fixture hands out
+ * points the other teams must absorb without passing the team's best total.
+ * With draws the reduction only gives bounds (the exact question is NP-complete
+ * under the 3-point rule), so each fixture hands out 2 points in the flow,
+ * which no real result undercuts, and a flow short of that proves elimination.
+ * When the bounds disagree, outcomes are searched fixture by fixture, with the
+ * flows pruning every branch; a team whose search outgrows
+ * {@link #NODE_BUDGET} is reported as undecided rather than guessed.
+ */
+public final class TitleRace {
+
+    public enum Status {
+        CLINCHED,
+        ALIVE,
+        ELIMINATED,
+        // Not settled within the search budget; still possibly in the race
+        UNDECIDED
+    }
+
+    static final int WIN = 3;
+    static final int DRAW = 1;
+    // Search nodes spent on one team before giving up on an exact answer
+    static final int NODE_BUDGET = 200_000;
+
+    private final int teams;
+    private final int[] points;
+    private final int[] home;
+    private final int[] away;
+    private final int[] remaining;
+
+    /**
+     * @param points Current points, one entry per team ordinal.
+     * @param home   Home team of every remaining fixture.
+     * @param away   Away team of every remaining fixture.
+     */
+    public TitleRace(int[] points, int[] home, int[] away) {
+        if (home.length != away.length) {
+            throw new IllegalArgumentException("Every fixture needs a home and an away team");
+        }
+        this.teams = points.length;
+        this.points = points.clone();
+        this.home = home.clone();
+        this.away = away.clone();
+        this.remaining = new int[teams];
+        for (int i = 0; i < home.length; i++) {
+            remaining[home[i]]++;
+            remaining[away[i]]++;
+        }
+    }
+
+    public int maxPoints(int team) {
+        return points[team] + WIN * remaining[team];
+    }
+
+    public Status[] analyze() {
+        return analyze(null);
+    }
+
+    /**
+     * @param settled Statuses worked out for an earlier table this one follows
+     *                from by playing some of its fixtures, or null. Clinched and
+     *                eliminated teams stay so and are not checked again.
+     */
+    public Status[] analyze(Status[] settled) {
+        Status[] statuses = new Status[teams];
+        for (int team = 0; team < teams; team++) {
+            if (settled != null && (settled[team] == Status.CLINCHED || settled[team] == Status.ELIMINATED)) {
+                statuses[team] = settled[team];
+            } else {
+                statuses[team] = status(team);
+            }
+        }
+        return statuses;
+    }
+
+    /**
+     * Whether some results of the given fixtures take every team from
+     * {@code before} to {@code after} points.
+     */
+    public static boolean canExplain(int[] before, int[] after, int[] home, int[] away) {
+        int[] missing = new int[before.length];
+        int[] games = new int[before.length];
+        for (int team = 0; team < before.length; team++) {
+            missing[team] = after[team] - before[team];
+            if (missing[team] < 0) {
+                return false;
+            }
+        }
+        for (int i = 0; i < home.length; i++) {
+            games[home[i]]++;
+            games[away[i]]++;
+        }
+        return explain(0, missing, games, home, away);
+    }
+
+    private static boolean explain(int fixture, int[] missing, int[] games, int[] home, int[] away) {
+        if (fixture == home.length) {
+            for (int team : missing) {
+                if (team != 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        int h = home[fixture];
+        int a = away[fixture];
+        games[h]--;
+        games[a]--;
+        boolean explained = false;
+        // Home win, draw, away win
+        for (int outcome = 0; outcome < 3 && !explained; outcome++) {
+            int homePoints = outcome == 0 ? WIN : outcome == 1 ? DRAW : 0;
+            int awayPoints = outcome == 2 ? WIN : outcome == 1 ? DRAW : 0;
+            missing[h] -= homePoints;
+            missing[a] -= awayPoints;
+            if (missing[h] >= 0 && missing[a] >= 0
+                    && missing[h] <= WIN * games[h] && missing[a] <= WIN * games[a]) {
+                explained = explain(fixture + 1, missing, games, home, away);
+            }
+            missing[h] += homePoints;
+            missing[a] += awayPoints;
+        }
+        games[h]++;
+        games[a]++;
+        return explained;
+    }
+
+    private Status status(int team) {
+        if (hasClinched(team)) {
+            return Status.CLINCHED;
+        }
+        try {
+            return new Search(team).canFinishTop() ? Status.ALIVE : Status.ELIMINATED;
+        } catch (BudgetExceeded e) {
+            return Status.UNDECIDED;
+        }
+    }
+
+    // Exact: the closest a rival gets is winning everything while this team loses everything
+    private boolean hasClinched(int team) {
+        for (int other = 0; other < teams; other++) {
+            if (other != team && maxPoints(other) >= points[team]) {
+                return false;
+            }
+        }
+        return teams > 0;
+    }
+
+    private static final class BudgetExceeded extends RuntimeException {
+        BudgetExceeded() {
+            super(null, null, false, false);
+        }
+    }
+
+    /**
+     * Looks for results that leave every other team at or below the team's
+     * best total, the team winning all its own fixtures.
+     */
+    private final class Search {
+        // Points every other team may still take
+        private final int[] room = new int[teams];
+        private final int[] gameHome;
+        private final int[] gameAway;
+        private final int games;
+        private final int[] perTeam = new int[teams];
+        private int nodes;
+
+        Search(int team) {
+            int best = maxPoints(team);
+            for (int other = 0; other < teams; other++) {
+                room[other] = other == team ? 0 : best - points[other];
+            }
+            int count = 0;
+            for (int i = 0; i < home.length; i++) {
+                if (home[i] != team && away[i] != team) {
+                    count++;
+                }
+            }
+            gameHome = new int[count];
+            gameAway = new int[count];
+            int g = 0;
+            for (int i = 0; i < home.length; i++) {
+                if (home[i] != team && away[i] != team) {
+                    gameHome[g] = home[i];
+                    gameAway[g] = away[i];
+                    g++;
+                }
+            }
+            games = count;
+        }
+
+        boolean canFinishTop() {
+            for (int other = 0; other < teams; other++) {
+                if (room[other] < 0) {
+                    return false;
+                }
+            }
+            return search(games);
+        }
+
+        /**
+         * Whether fixtures [0, count) can be settled within the room left.
+         * Reorders them, but never changes which ones they are.
+         */
+        private boolean search(int count) {
+            if (++nodes > NODE_BUDGET) {
+                throw new BudgetExceeded();
+            }
+            if (count == 0) {
+                return true;
+            }
+            // Necessary: even at 2 points a fixture, the others cannot take it all
+            if (!absorbs(count, 2, 1)) {
+                return false;
+            }
+            // Sufficient: all draws, or all decided
+            if (allDrawsFit(count) || absorbs(count, 1, WIN)) {
+                return true;
+            }
+
+            int tightest = 0;
+            int tightestRoom = Integer.MAX_VALUE;
+            for (int g = 0; g < count; g++) {
+                int fixtureRoom = Math.min(room[gameHome[g]], room[gameAway[g]]);
+                if (fixtureRoom < tightestRoom) {
+                    tightestRoom = fixtureRoom;
+                    tightest = g;
+                }
+            }
+            swap(tightest, count - 1);
+            int h = gameHome[count - 1];
+            int a = gameAway[count - 1];
+
+            return settle(count, h, DRAW, a, DRAW)
+                    || settle(count, h, WIN, a, 0)
+                    || settle(count, a, WIN, h, 0);
+        }
+
+        private boolean settle(int count, int first, int firstPoints, int second, int secondPoints) {
+            if (room[first] < firstPoints || room[second] < secondPoints) {
+                return false;
+            }
+            room[first] -= firstPoints;
+            room[second] -= secondPoints;
+            boolean settled = search(count - 1);
+            room[first] += firstPoints;
+            room[second] += secondPoints;
+            return settled;
+        }
+
+        private boolean allDrawsFit(int count) {
+            Arrays.fill(perTeam, 0);
+            for (int g = 0; g < count; g++) {
+                perTeam[gameHome[g]]++;
+                perTeam[gameAway[g]]++;
+            }
+            for (int other = 0; other < teams; other++) {
+                if (perTeam[other] * DRAW > room[other]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Whether the first {@code count} fixtures can each send {@code units}
+         * to their two teams, a team taking at most room / {@code unitPoints}.
+         */
+        private boolean absorbs(int count, int units, int unitPoints) {
+            long total = 0;
+            for (int other = 0; other < teams; other++) {
+                total += room[other] / unitPoints;
+            }
+            if (total < (long) units * count) {
+                return false;
+            }
+            // Source, fixtures, teams, sink
+            int source = 0;
+            int sink = count + teams + 1;
+            FlowNetwork network = new FlowNetwork(count + teams + 2, 3 * count + teams);
+            for (int g = 0; g < count; g++) {
+                network.addEdge(source, 1 + g, units);
+                network.addEdge(1 + g, 1 + count + gameHome[g], units);
+                network.addEdge(1 + g, 1 + count + gameAway[g], units);
+            }
+            for (int other = 0; other < teams; other++) {
+                network.addEdge(1 + count + other, sink, room[other] / unitPoints);
+            }
+            return network.maxFlow(source, sink) == units * count;
+        }
+
+        private void swap(int i, int j) {
+            int h = gameHome[i];
+            int a = gameAway[i];
+            gameHome[i] = gameHome[j];
+            gameAway[i] = gameAway[j];
+            gameHome[j] = h;
+            gameAway[j] = a;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.football.backend.models.rating;
+
+/**
+ * Elo ratings for football, as in the World Football Elo ratings: the home
+ * side plays {@code homeAdvantage} points above its rating, and the change is
+ * scaled by the goal difference (1 for one goal, 1.5 for two, then (11 + gd) / 8).
+ * <p>
+ * Updates are zero-sum: whatever the home team gains the away team loses,
+ * so the average rating stays at {@link #INITIAL}.
+ */
+public final class Elo {
+
+    public static final double INITIAL = 1500;
+
+    private final double kFactor;
+    private final double homeAdvantage;
+
+    public Elo(double kFactor, double homeAdvantage) {
+        if (kFactor <= 0) {
+            throw new IllegalArgumentException("The K factor must be positive");
+        }
+        this.kFactor = kFactor;
+        this.homeAdvantage = homeAdvantage;
+    }
+
+    /**
+     * Chance of a team rated {@code rating} beating one rated {@code opponent}
+     * on neutral ground, draws counting as half a win.
+     */
+    public static double expected(double rating, double opponent) {
+        return 1 / (1 + Math.pow(10, (opponent - rating) / 400));
+    }
+
+    /**
+     * What the home team's rating changes by after the result; the away team's
+     * changes by the opposite.
+     */
+    public double homeDelta(double homeRating, double awayRating, int homeGoals, int awayGoals) {
+        double actual = homeGoals > awayGoals ? 1 : homeGoals == awayGoals ? 0.5 : 0;
+        double expected = expected(homeRating + homeAdvantage, awayRating);
+        return kFactor * margin(Math.abs(homeGoals - awayGoals)) * (actual - expected);
+    }
+
+    static double margin(int goalDifference) {
+        if (goalDifference <= 1) {
+            return 1;
+        }
+        if (goalDifference == 2) {
+            return 1.5;
+        }
+        return (11.0 + goalDifference) / 8;
+    }
+}
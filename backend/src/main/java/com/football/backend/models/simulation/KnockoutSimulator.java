@@ -0,0 +1,129 @@
+package com.football.backend.models.simulation;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Monte Carlo estimate of how far every team of a knockout bracket goes.
+ * <p>
+ * Teams are referred to by their index in the criteria given to the
+ * constructor. A tie is settled the way {@code MatchStrategyService} decides
+ * it: one criterion is drawn uniformly, the higher score wins and equal scores
+ * go to a coin toss. That only depends on the pair, so the chance of every
+ * pairing is worked out once up front and each simulated tie costs one random
+ * draw. Brackets are played as {@code KnockoutStrategy} plays them: adjacent
+ * teams meet, an odd team out goes through, winners keep their order.
+ * <p>
+ * Iterations run in parallel, see {@link SeededBatches}.
+ */
+public final class KnockoutSimulator {
+
+    private final int teams;
+    // winProbability[home * teams + away]: chance that home goes through
+    private final double[] winProbability;
+
+    /**
+     * @param criteria The scores of every team, one row per team, on the same
+     *                 criteria in the same order.
+     */
+    public KnockoutSimulator(double[][] criteria) {
+        this.teams = criteria.length;
+        this.winProbability = new double[teams * teams];
+        for (int home = 0; home < teams; home++) {
+            for (int away = 0; away < teams; away++) {
+                winProbability[home * teams + away] = winProbability(criteria[home], criteria[away]);
+            }
+        }
+    }
+
+    /**
+     * Rounds needed to settle a bracket of the given size.
+     */
+    public static int roundCount(int bracketSize) {
+        return 32 - Integer.numberOfLeadingZeros(Math.max(0, bracketSize - 1));
+    }
+
+    /**
+     * Plays the bracket {@code iterations} times.
+     *
+     * @param bracket The order teams are drawn in; every team index exactly once.
+     */
+    public Result simulate(int[] bracket, long iterations, long seed, ForkJoinPool pool) {
+        if (bracket.length != teams || teams < 2) {
+            throw new IllegalArgumentException("The bracket must hold all " + teams + " teams, at least two");
+        }
+        boolean[] seen = new boolean[teams];
+        for (int team : bracket) {
+            if (team < 0 || team >= teams || seen[team]) {
+                throw new IllegalArgumentException("The bracket must hold every team exactly once");
+            }
+            seen[team] = true;
+        }
+
+        int[] draw = bracket.clone();
+        int rounds = roundCount(teams);
+        long[] reached = SeededBatches.run(pool, iterations, seed, teams * (rounds + 1),
+                (batch, random, counts) -> play(draw, rounds, batch, random, counts));
+        return new Result(teams, rounds, iterations, reached);
+    }
+
+    private static double winProbability(double[] home, double[] away) {
+        double wins = 0;
+        for (int c = 0; c < home.length; c++) {
+            if (home[c] > away[c]) {
+                wins += 1;
+            } else if (home[c] == away[c]) {
+                wins += 0.5;
+            }
+        }
+        return wins / home.length;
+    }
+
+    private void play(int[] bracket, int rounds, long iterations, SplittableRandom random, long[] reached) {
+        int stride = rounds + 1;
+        int[] current = new int[teams];
+
+        for (long iteration = 0; iteration < iterations; iteration++) {
+            System.arraycopy(bracket, 0, current, 0, teams);
+            int remaining = teams;
+            for (int round = 0; remaining > 1; round++) {
+                int winners = 0;
+                for (int i = 0; i < remaining; i += 2) {
+                    reached[current[i] * stride + round]++;
+                    if (i + 1 < remaining) {
+                        int home = current[i];
+                        int away = current[i + 1];
+                        reached[away * stride + round]++;
+                        current[winners++] = random.nextDouble() < winProbability[home * teams + away] ? home : away;
+                    } else {
+                        current[winners++] = current[i];
+                    }
+                }
+                remaining = winners;
+            }
+            reached[current[0] * stride + rounds]++;
+        }
+    }
+
+    /**
+     * How many iterations every team reached every round in. Round
+     * {@code rounds()} stands for winning the bracket.
+     */
+    public record Result(int teams, int rounds, long iterations, long[] reached) {
+
+        public long reachedCount(int team, int round) {
+            return reached[team * (rounds + 1) + round];
+        }
+
+        /**
+         * @param round 0-based, the first round being 0.
+         */
+        public double reachProbability(int team, int round) {
+            return (double) reachedCount(team, round) / iterations;
+        }
+
+        public double winProbability(int team) {
+            return reachProbability(team, rounds);
+        }
+    }
+}
@@ -0,0 +1,197 @@
+package com.football.backend.models.simulation;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Monte Carlo estimate of where every team of a league finishes, playing the
+ * remaining fixtures on top of the current table.
+ * <p>
+ * Teams are referred to by their ordinal in the arrays given to the
+ * constructor. Each side of a fixture scores a Poisson number of goals; the
+ * means start from {@link #AVERAGE_GOALS}, favour the home side by
+ * {@link #HOME_ADVANTAGE} and grow with the strength gap between the teams.
+ * Tables are ordered like the standings: points, then goal difference, then
+ * goals scored. Teams still level after that share the positions at random.
+ * <p>
+ * Iterations run in parallel, see {@link SeededBatches}.
+ */
+public final class LeagueSimulator {
+
+    // Goals a side scores on average against an equal opponent on neutral ground
+    static final double AVERAGE_GOALS = 1.35;
+    static final double HOME_ADVANTAGE = 1.1;
+    // Strengths are on a 0-100 scale: a 50 point gap multiplies the goal mean by e
+    static final double STRENGTH_SCALE = 0.02;
+
+    // Sort keys pack points, goal difference and goals scored into one long
+    private static final int GOAL_BITS = 21;
+    private static final int GOAL_DIFFERENCE_OFFSET = 1 << (GOAL_BITS - 1);
+
+    private final int teams;
+    private final int[] points;
+    private final int[] goalDifference;
+    private final int[] goalsFor;
+    private final int[] home;
+    private final int[] away;
+    // exp(-mean) of both sides of every fixture, as the Poisson draws use it
+    private final double[] homeThreshold;
+    private final double[] awayThreshold;
+
+    /**
+     * @param points         Current points, one entry per team.
+     * @param goalDifference Current goal difference, one entry per team.
+     * @param goalsFor       Current goals scored, one entry per team.
+     * @param strength       Strength of every team, from 0 to 100.
+     * @param home           Home team of every remaining fixture.
+     * @param away           Away team of every remaining fixture.
+     */
+    public LeagueSimulator(int[] points, int[] goalDifference, int[] goalsFor, double[] strength,
+                           int[] home, int[] away) {
+        this.teams = points.length;
+        if (teams < 1 || goalDifference.length != teams || goalsFor.length != teams || strength.length != teams) {
+            throw new IllegalArgumentException("Every team needs its points, goal difference, goals and strength");
+        }
+        if (home.length != away.length) {
+            throw new IllegalArgumentException("Every fixture needs a home and an away team");
+        }
+        this.points = points.clone();
+        this.goalDifference = goalDifference.clone();
+        this.goalsFor = goalsFor.clone();
+        this.home = home.clone();
+        this.away = away.clone();
+        this.homeThreshold = new double[home.length];
+        this.awayThreshold = new double[home.length];
+        for (int i = 0; i < home.length; i++) {
+            double gap = strength[home[i]] - strength[away[i]];
+            homeThreshold[i] = Math.exp(-AVERAGE_GOALS * HOME_ADVANTAGE * Math.exp(STRENGTH_SCALE * gap));
+            awayThreshold[i] = Math.exp(-AVERAGE_GOALS / HOME_ADVANTAGE * Math.exp(-STRENGTH_SCALE * gap));
+        }
+    }
+
+    /**
+     * Plays the rest of the season {@code iterations} times.
+     */
+    public Result simulate(long iterations, long seed, ForkJoinPool pool) {
+        // Positions of every team, then the points every team finished on
+        long[] counts = SeededBatches.run(pool, iterations, seed, teams * teams + teams, this::play);
+        return new Result(teams, iterations, counts);
+    }
+
+    private void play(long iterations, SplittableRandom random, long[] counts) {
+        int[] finalPoints = new int[teams];
+        int[] finalGoalDifference = new int[teams];
+        int[] finalGoalsFor = new int[teams];
+        long[] keys = new long[teams];
+        int[] order = new int[teams];
+        int pointsTotals = teams * teams;
+
+        for (long iteration = 0; iteration < iterations; iteration++) {
+            System.arraycopy(points, 0, finalPoints, 0, teams);
+            System.arraycopy(goalDifference, 0, finalGoalDifference, 0, teams);
+            System.arraycopy(goalsFor, 0, finalGoalsFor, 0, teams);
+
+            for (int i = 0; i < home.length; i++) {
+                int h = home[i];
+                int a = away[i];
+                int homeGoals = poisson(homeThreshold[i], random);
+                int awayGoals = poisson(awayThreshold[i], random);
+                finalGoalsFor[h] += homeGoals;
+                finalGoalsFor[a] += awayGoals;
+                finalGoalDifference[h] += homeGoals - awayGoals;
+                finalGoalDifference[a] += awayGoals - homeGoals;
+                if (homeGoals > awayGoals) {
+                    finalPoints[h] += 3;
+                } else if (awayGoals > homeGoals) {
+                    finalPoints[a] += 3;
+                } else {
+                    finalPoints[h]++;
+                    finalPoints[a]++;
+                }
+            }
+
+            for (int team = 0; team < teams; team++) {
+                keys[team] = ((long) finalPoints[team] << (2 * GOAL_BITS))
+                        | ((long) (finalGoalDifference[team] + GOAL_DIFFERENCE_OFFSET) << GOAL_BITS)
+                        | finalGoalsFor[team];
+                order[team] = team;
+                counts[pointsTotals + team] += finalPoints[team];
+            }
+            rank(keys, order, random);
+            for (int position = 0; position < teams; position++) {
+                counts[order[position] * teams + position]++;
+            }
+        }
+    }
+
+    /**
+     * Sorts {@code order} by descending key, then shuffles every run of equal
+     * keys so level teams get each of their positions equally often.
+     */
+    private static void rank(long[] keys, int[] order, SplittableRandom random) {
+        // Leagues are small, insertion sort beats anything fancier here
+        for (int i = 1; i < order.length; i++) {
+            int team = order[i];
+            int j = i - 1;
+            while (j >= 0 && keys[order[j]] < keys[team]) {
+                order[j + 1] = order[j];
+                j--;
+            }
+            order[j + 1] = team;
+        }
+        for (int start = 0; start < order.length; ) {
+            int end = start + 1;
+            while (end < order.length && keys[order[end]] == keys[order[start]]) {
+                end++;
+            }
+            for (int i = end - 1; i > start; i--) {
+                int j = start + random.nextInt(i - start + 1);
+                int swap = order[i];
+                order[i] = order[j];
+                order[j] = swap;
+            }
+            start = end;
+        }
+    }
+
+    // Knuth's method, fine for the small means football scores have
+    private static int poisson(double threshold, SplittableRandom random) {
+        int goals = 0;
+        double product = random.nextDouble();
+        while (product > threshold) {
+            goals++;
+            product *= random.nextDouble();
+        }
+        return goals;
+    }
+
+    /**
+     * How many iterations every team finished in every position, the first
+     * being 0, and the points it finished on.
+     */
+    public record Result(int teams, long iterations, long[] counts) {
+
+        public long positionCount(int team, int position) {
+            return counts[team * teams + position];
+        }
+
+        public double positionProbability(int team, int position) {
+            return (double) positionCount(team, position) / iterations;
+        }
+
+        /**
+         * Chance of finishing in one of the first {@code positions} places.
+         */
+        public double topProbability(int team, int positions) {
+            long finished = 0;
+            for (int position = 0; position < Math.min(positions, teams); position++) {
+                finished += positionCount(team, position);
+            }
+            return (double) finished / iterations;
+        }
+
+        public double averagePoints(int team) {
+            return (double) counts[teams * teams + team] / iterations;
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.football.backend.models.simulation;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Runs Monte Carlo iterations in fixed batches on a fork/join pool and sums
+ * the counters every batch fills in.
+ * <p>
+ * Each batch draws from its own {@link SplittableRandom}, split off the seeded
+ * root along the same task tree whatever thread runs it, so a seed always
+ * gives the same counts.
+ */
+final class SeededBatches {
+
+    // Iterations run by one task without splitting further
+    static final int BATCH = 1 << 14;
+
+    @FunctionalInterface
+    interface Batch {
+        /**
+         * Plays {@code iterations} iterations, adding to {@code counts}.
+         */
+        void play(long iterations, SplittableRandom random, long[] counts);
+    }
+
+    private SeededBatches() {
+    }
+
+    static long[] run(ForkJoinPool pool, long iterations, long seed, int counters, Batch batch) {
+        if (iterations < 1) {
+            throw new IllegalArgumentException("At least one iteration is needed");
+        }
+        return pool.invoke(new Task(batch, counters, 0, iterations, new SplittableRandom(seed)));
+    }
+
+    private static final class Task extends RecursiveTask<long[]> {
+        private final Batch batch;
+        private final int counters;
+        private final long from;
+        private final long to;
+        private final SplittableRandom random;
+
+        private Task(Batch batch, int counters, long from, long to, SplittableRandom random) {
+            this.batch = batch;
+            this.counters = counters;
+            this.from = from;
+            this.to = to;
+            this.random = random;
+        }
+
+        @Override
+        protected long[] compute() {
+            if (to - from <= BATCH) {
+                long[] counts = new long[counters];
+                batch.play(to - from, random, counts);
+                return counts;
+            }
+            long middle = (from + to) >>> 1;
+            // The left half always takes the split, so the streams only depend on the seed
+            Task left = new Task(batch, counters, from, middle, random.split());
+            Task right = new Task(batch, counters, middle, to, random);
+            left.fork();
+            long[] counts = right.compute();
+            long[] leftCounts = left.join();
+            for (int i = 0; i < counts.length; i++) {
+                counts[i] += leftCounts[i];
+            }
+            return counts;
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.football.backend.models.strategy;
+
+import com.football.backend.models.Edition;
+import com.football.backend.models.Match;
+import com.football.backend.models.MatchStatus;
+import com.football.backend.models.Team;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Compact schedule produced by a {@link Strategy}. Teams are referred to by
+ * their ordinal in the list given to the strategy; fixture {@code i} is
+ * {@code home(i)} against {@code away(i)}. Fixtures are stored round by round
+ * and rounds are played a week apart, starting at {@link #getFirstMatchDate()}.
+ */
+public final class Fixtures {
+
+    // home and away ordinals, interleaved
+    private final int[] pairs;
+    // fixtures of round r are [roundStart[r], roundStart[r + 1])
+    private final int[] roundStart;
+    private final LocalDateTime firstMatchDate;
+
+    private Fixtures(int[] pairs, int[] roundStart, LocalDateTime firstMatchDate) {
+        this.pairs = pairs;
+        this.roundStart = roundStart;
+        this.firstMatchDate = firstMatchDate;
+    }
+
+    @FunctionalInterface
+    public interface FixtureMapper<T> {
+        T map(int round, int slot, int home, int away);
+    }
+
+    public int size() {
+        return pairs.length / 2;
+    }
+
+    public int roundCount() {
+        return roundStart.length - 1;
+    }
+
+    public int home(int fixture) {
+        return pairs[2 * fixture];
+    }
+
+    public int away(int fixture) {
+        return pairs[2 * fixture + 1];
+    }
+
+    public LocalDateTime getFirstMatchDate() {
+        return firstMatchDate;
+    }
+
+    public LocalDateTime matchDate(int round) {
+        return firstMatchDate.plusWeeks(round);
+    }
+
+    /**
+     * Lazily maps every fixture, round by round. Nothing is materialized
+     * beyond what the downstream operations keep.
+     */
+    public <T> Stream<T> stream(FixtureMapper<T> mapper) {
+        return IntStream.range(0, roundCount())
+                .boxed()
+                .flatMap(round -> IntStream.range(roundStart[round], roundStart[round + 1])
+                        .mapToObj(i -> mapper.map(round, i - roundStart[round], home(i), away(i))));
+    }
+
+    /**
+     * The same schedule followed by the return legs: every round is replayed
+     * with home and away swapped, right after the last one.
+     */
+    public Fixtures withReturnLegs() {
+        int fixtures = size();
+        int rounds = roundCount();
+
+        int[] doubledPairs = Arrays.copyOf(pairs, pairs.length * 2);
+        for (int i = 0; i < fixtures; i++) {
+            doubledPairs[2 * (fixtures + i)] = away(i);
+            doubledPairs[2 * (fixtures + i) + 1] = home(i);
+        }
+
+        int[] doubledRounds = Arrays.copyOf(roundStart, 2 * rounds + 1);
+        for (int r = 1; r <= rounds; r++) {
+            doubledRounds[rounds + r] = fixtures + roundStart[r];
+        }
+        return new Fixtures(doubledPairs, doubledRounds, firstMatchDate);
+    }
+
+    /**
+     * Materializes the schedule as domain matches, one list per round.
+     */
+    public List<List<Match>> toMatches(Edition edition, List<Team> teams) {
+        List<List<Match>> rounds = new ArrayList<>(roundCount());
+        for (int r = 0; r < roundCount(); r++) {
+            LocalDateTime matchDate = matchDate(r);
+            List<Match> matches = new ArrayList<>(roundStart[r + 1] - roundStart[r]);
+            for (int i = roundStart[r]; i < roundStart[r + 1]; i++) {
+                matches.add(new Match(UUID.randomUUID(), edition, teams.get(home(i)), teams.get(away(i)),
+                        matchDate, r + 1, null, null, MatchStatus.SCHEDULED, new ArrayList<>()));
+            }
+            rounds.add(matches);
+        }
+        return rounds;
+    }
+
+    static Builder builder(int fixtures, int rounds, LocalDateTime firstMatchDate) {
+        return new Builder(fixtures, rounds, firstMatchDate);
+    }
+
+    static final class Builder {
+        private int[] pairs;
+        private int[] roundStart;
+        private int size;
+        private int rounds;
+        private final LocalDateTime firstMatchDate;
+
+        private Builder(int fixtures, int rounds, LocalDateTime firstMatchDate) {
+            this.pairs = new int[Math.max(2, 2 * fixtures)];
+            this.roundStart = new int[Math.max(2, rounds + 1)];
+            this.firstMatchDate = firstMatchDate;
+        }
+
+        void add(int home, int away) {
+            if (2 * size == pairs.length) {
+                pairs = Arrays.copyOf(pairs, pairs.length * 2);
+            }
+            pairs[2 * size] = home;
+            pairs[2 * size + 1] = away;
+            size++;
+        }
+
+        void endRound() {
+            if (rounds + 1 == roundStart.length) {
+                roundStart = Arrays.copyOf(roundStart, roundStart.length * 2);
+            }
+            roundStart[++rounds] = size;
+        }
+
+        Fixtures build() {
+            // Strategies size the builder exactly, so normally nothing is copied here
+            return new Fixtures(
+                    pairs.length == 2 * size ? pairs : Arrays.copyOf(pairs, 2 * size),
+                    roundStart.length == rounds + 1 ? roundStart : Arrays.copyOf(roundStart, rounds + 1),
+                    firstMatchDate);
+        }
+    }
+}
@@ -1,14 +1,14 @@
 package com.football.backend.models.strategy;
 
-import com.football.backend.models.Edition;
-import com.football.backend.models.Match;
-import com.football.backend.models.MatchStatus;
 import com.football.backend.models.Team;
 import com.football.backend.models.decider.Decider;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
-import java.util.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
 
 @Component
 public class KnockoutStrategy implements Strategy{
@@ -18,42 +18,58 @@ public class KnockoutStrategy implements Strategy{
         this.decider = decider;
     }
     @Override
-    public List<List<Match>> generateStrategy(Edition edition, List<Team> teams) {
-        List<List<Match>> rounds = new ArrayList<>();
+    public Fixtures generateFixtures(List<Team> teams) {
+        int numTeams = teams.size();
 
-        List<Team> currentTeams = new ArrayList<>(teams);
-        Collections.shuffle(currentTeams);
+        // Ordinals still in the bracket; winners are compacted to the front after each round
+        int[] current = new int[numTeams];
+        for (int i = 0; i < numTeams; i++) {
+            current[i] = i;
+        }
+        shuffle(current, ThreadLocalRandom.current());
 
-        Random random = new Random();
+        List<Team> bracket = new ArrayList<>(numTeams);
+        for (int ordinal : current) {
+            bracket.add(teams.get(ordinal));
+        }
+        decider.prepare(bracket);
 
         LocalDateTime matchDate = LocalDateTime.now().plusHours(3).withMinute(0).withSecond(0).withNano(0);
+        int rounds = 32 - Integer.numberOfLeadingZeros(Math.max(0, numTeams - 1));
+        Fixtures.Builder fixtures = Fixtures.builder(Math.max(0, numTeams - 1), rounds, matchDate);
 
-        while (currentTeams.size() > 1) {
-            List<Match> matchesInThisRound = new ArrayList<>();
-            List<Team> winners = new ArrayList<>();
-
-            for (int i = 0; i < currentTeams.size(); i += 2) {
+        int remaining = numTeams;
+        while (remaining > 1) {
+            int winners = 0;
 
-                if (i + 1 < currentTeams.size()) {
-                    Team team1 = currentTeams.get(i);
-                    Team team2 = currentTeams.get(i + 1);
+            for (int i = 0; i < remaining; i += 2) {
 
-                    Team winner = decider.decideWinner(team1, team2);
-                    winners.add(winner);
+                if (i + 1 < remaining) {
+                    int home = current[i];
+                    int away = current[i + 1];
+                    fixtures.add(home, away);
 
-                    Match m = new Match(UUID.randomUUID(), edition, team1, team2, matchDate, null, null, MatchStatus.SCHEDULED, null);
-                    matchesInThisRound.add(m);
+                    Team team1 = teams.get(home);
+                    Team winner = decider.decideWinner(team1, teams.get(away));
+                    current[winners++] = winner == team1 ? home : away;
                 } else {
-                    winners.add(currentTeams.get(i));
+                    current[winners++] = current[i];
                 }
             }
 
-            rounds.add(matchesInThisRound);
+            fixtures.endRound();
 
-            currentTeams = winners;
+            remaining = winners;
+        }
+        return fixtures.build();
+    }
 
-            matchDate = matchDate.plusWeeks(1);
+    private static void shuffle(int[] values, Random random) {
+        for (int i = values.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int swap = values[i];
+            values[i] = values[j];
+            values[j] = swap;
         }
-        return rounds;
     }
 }
@@ -1,20 +1,15 @@
 package com.football.backend.models.strategy;
 
-import com.football.backend.models.Edition;
-import com.football.backend.models.Match;
-import com.football.backend.models.MatchStatus;
 import com.football.backend.models.Team;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
-import java.util.*;
+import java.util.List;
 
 @Component
 public class RobinRoundStrategy implements Strategy {
     @Override
-    public List<List<Match>> generateStrategy(Edition edition, List<Team> teams) {
-        List<List<Match>> rounds = new ArrayList<>();
-
+    public Fixtures generateFixtures(List<Team> teams) {
         if (teams.size() % 2 != 0) {
             return null;
         }
@@ -22,41 +17,26 @@ public class RobinRoundStrategy implements Strategy {
         int numTeams = teams.size();
         int numRounds = numTeams - 1;
 
-        List<Team> tempTeams = new ArrayList<>(teams);
+        // Circle method: the first team stays put, the others rotate one seat per round
+        int[] seats = new int[numTeams];
+        for (int i = 0; i < numTeams; i++) {
+            seats[i] = i;
+        }
 
         LocalDateTime matchDate = LocalDateTime.now().plusHours(3).withMinute(0).withSecond(0).withNano(0);
+        Fixtures.Builder fixtures = Fixtures.builder(numRounds * numTeams / 2, numRounds, matchDate);
 
         for (int round = 0; round < numRounds; round++) {
-            List<Match> matches = new ArrayList<>();
-
             for (int i = 0; i < numTeams / 2; i++) {
-                Team home = tempTeams.get(i);
-                Team away = tempTeams.get(numTeams - 1 - i);
-
-                if (home != null && away != null) {
-                    Match m = new Match(
-                            UUID.randomUUID(),
-                            edition,
-                            home,
-                            away,
-                            matchDate,
-                            null,
-                            null,
-                            MatchStatus.SCHEDULED,
-                            new ArrayList<>()
-                    );
-                    matches.add(m);
-                }
+                fixtures.add(seats[i], seats[numTeams - 1 - i]);
             }
+            fixtures.endRound();
 
-            rounds.add(matches);
-
-            Team last = tempTeams.removeLast();
-            tempTeams.add(1, last);
-
-            matchDate = matchDate.plusWeeks(1);
+            int last = seats[numTeams - 1];
+            System.arraycopy(seats, 1, seats, 2, numTeams - 2);
+            seats[1] = last;
         }
 
-        return rounds;
+        return fixtures.build();
     }
 }
@@ -7,5 +7,16 @@ import com.football.backend.models.Team;
 import java.util.List;
 
 public interface Strategy {
-    List<List<Match>> generateStrategy(Edition edition, List<Team> teams);
+
+    /**
+     * Schedules the given teams, referring to them by their index in
+     * {@code teams}.
+     * @return The fixtures, or null when the strategy cannot schedule this many teams.
+     */
+    Fixtures generateFixtures(List<Team> teams);
+
+    default List<List<Match>> generateStrategy(Edition edition, List<Team> teams) {
+        Fixtures fixtures = generateFixtures(teams);
+        return fixtures == null ? null : fixtures.toMatches(edition, teams);
+    }
 }
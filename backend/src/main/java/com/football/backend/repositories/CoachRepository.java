@@ -1,7 +1,9 @@
 package com.football.backend.repositories;
 
+import com.football.backend.dto.CoachSummaryDto;
 import com.football.backend.entities.CoachEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -17,4 +19,7 @@ public interface CoachRepository extends JpaRepository<CoachEntity, UUID> {
 
     List<CoachEntity> findByTeamIsNull();
 
+    @Query("SELECT new com.football.backend.dto.CoachSummaryDto(c.id, c.firstname, c.lastname) FROM CoachEntity c")
+    List<CoachSummaryDto> findAllSummaries();
+
 }
@@ -1,11 +1,17 @@
 package com.football.backend.repositories;
 
 import com.football.backend.entities.EditionEntity;
+import com.football.backend.models.Edition;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 @Repository
@@ -14,4 +20,18 @@ public interface EditionRepository extends JpaRepository<EditionEntity, UUID> {
     List<EditionEntity> findByCompetition_Id(UUID competitionId);
 
     Optional<EditionEntity> findByName(String s);
+
+    @Query("SELECT new com.football.backend.models.Edition(e.id, e.name, e.competition.id, e.strategyType) " +
+            "FROM EditionEntity e")
+    List<Edition> findAllViews();
+
+    @Query("SELECT new com.football.backend.models.Edition(e.id, e.name, e.competition.id, e.strategyType) " +
+            "FROM EditionEntity e WHERE e.competition.id = :competitionId")
+    List<Edition> findViewsByCompetitionId(@Param("competitionId") UUID competitionId);
+
+    @EntityGraph(attributePaths = {"competition", "standings"})
+    Optional<EditionEntity> findWithCompetitionById(UUID id);
+
+    @Query("SELECT e.id FROM EditionEntity e WHERE e.id IN :ids")
+    Set<UUID> findExistingIds(@Param("ids") Collection<UUID> ids);
 }
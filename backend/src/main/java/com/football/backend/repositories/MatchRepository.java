@@ -1,22 +1,154 @@
 package com.football.backend.repositories;
 
+import com.football.backend.dto.MatchListDto;
+import com.football.backend.dto.MatchScoreDto;
 import com.football.backend.entities.MatchEntity;
 import com.football.backend.models.MatchStatus;
+import com.football.backend.repositories.projections.FinishedResultView;
+import com.football.backend.repositories.projections.FixtureTeamsView;
+import com.football.backend.repositories.projections.RoundProgressView;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public interface MatchRepository extends JpaRepository<MatchEntity, UUID> {
 
-    List<MatchEntity> findByMatchDateAfterOrderByMatchDateAsc(LocalDateTime from);
+    String LIST_ROW = "SELECT new com.football.backend.dto.MatchListDto(" +
+            "m.id, h.name, a.name, m.matchDate, m.round, m.homeGoals, m.awayGoals, m.status) " +
+            "FROM MatchEntity m JOIN m.homeTeam h JOIN m.awayTeam a ";
 
-    List<MatchEntity> findByStatusOrderByMatchDateDesc(MatchStatus status);
-
-    List<MatchEntity> findByEditionIdOrderByMatchDateAsc(UUID editionId);
+    /**
+     * A single match with everything its details view maps: both teams, the
+     * events and the players involved in them.
+     */
+    @EntityGraph(attributePaths = {
+            "homeTeam.coach", "awayTeam.coach",
+            "events.primaryPlayer.team.coach", "events.secondaryPlayer.team.coach"
+    })
+    Optional<MatchEntity> findDetailedById(UUID id);
 
     List<MatchEntity> findByEditionIdAndStatus(UUID editionId, MatchStatus status);
+
+    @Query("SELECT m.id FROM MatchEntity m WHERE m.edition.id = :editionId")
+    List<UUID> findIdsByEditionId(@Param("editionId") UUID editionId);
+
+    // One round, then whatever was added outside of the schedule
+    @Query(LIST_ROW + "WHERE m.edition.id = :editionId AND (m.round = :round OR m.round IS NULL) " +
+            "ORDER BY m.round ASC NULLS LAST, m.matchDate ASC, m.id ASC")
+    List<MatchListDto> findListRowsByEditionIdAndRoundOrUnscheduled(@Param("editionId") UUID editionId,
+                                                                    @Param("round") int round);
+
+    // Served by the (edition_id, round_number) index
+    @Query(LIST_ROW + "WHERE m.edition.id = :editionId AND m.round = :round ORDER BY m.matchDate ASC, m.id ASC")
+    List<MatchListDto> findListRowsByEditionIdAndRound(@Param("editionId") UUID editionId, @Param("round") int round);
+
+    @Query("SELECT MAX(m.round) AS roundCount, " +
+            "MIN(CASE WHEN m.status <> :finished THEN m.round END) AS currentRound " +
+            "FROM MatchEntity m WHERE m.edition.id = :editionId")
+    RoundProgressView findRoundProgress(@Param("editionId") UUID editionId,
+                                        @Param("finished") MatchStatus finished);
+
+    /**
+     * Every scheduled fixture, round by round in the order it was drawn. Matches
+     * saved before their slot was stored fall back to their id order.
+     */
+    @Query("SELECT m.round AS round, h.id AS homeTeamId, h.name AS homeTeamName, " +
+            "a.id AS awayTeamId, a.name AS awayTeamName " +
+            "FROM MatchEntity m JOIN m.homeTeam h JOIN m.awayTeam a " +
+            "WHERE m.edition.id = :editionId AND m.round IS NOT NULL " +
+            "ORDER BY m.round ASC, m.slot ASC NULLS LAST, m.id ASC")
+    List<FixtureTeamsView> findDrawnFixtures(@Param("editionId") UUID editionId);
+
+    @Query("SELECT m.round AS round, h.id AS homeTeamId, h.name AS homeTeamName, " +
+            "a.id AS awayTeamId, a.name AS awayTeamName " +
+            "FROM MatchEntity m JOIN m.homeTeam h JOIN m.awayTeam a " +
+            "WHERE m.edition.id = :editionId AND m.status <> :finished ORDER BY m.round ASC, m.id ASC")
+    List<FixtureTeamsView> findRemainingFixtures(@Param("editionId") UUID editionId,
+                                                 @Param("finished") MatchStatus finished);
+
+    @Query("SELECT m.homeTeam.id AS homeTeamId, m.awayTeam.id AS awayTeamId, " +
+            "m.homeGoals AS homeGoals, m.awayGoals AS awayGoals " +
+            "FROM MatchEntity m WHERE m.status = :finished ORDER BY m.matchDate ASC, m.id ASC")
+    List<FinishedResultView> findFinishedResults(@Param("finished") MatchStatus finished);
+
+    // Keyset pages for the listing endpoints. The page size comes from the
+    // Pageable; its page number is always 0, the cursor does the seeking.
+
+    @Query(LIST_ROW + "WHERE m.matchDate > :from ORDER BY m.matchDate ASC, m.id ASC")
+    List<MatchListDto> findSchedulePage(@Param("from") LocalDateTime from, Pageable page);
+
+    @Query(LIST_ROW + "WHERE m.matchDate > :from " +
+            "AND (m.matchDate > :afterDate OR (m.matchDate = :afterDate AND m.id > :afterId)) " +
+            "ORDER BY m.matchDate ASC, m.id ASC")
+    List<MatchListDto> findSchedulePageAfter(@Param("from") LocalDateTime from,
+                                             @Param("afterDate") LocalDateTime afterDate,
+                                             @Param("afterId") UUID afterId,
+                                             Pageable page);
+
+    @Query(LIST_ROW + "WHERE m.status = :status AND m.matchDate IS NOT NULL " +
+            "ORDER BY m.matchDate DESC, m.id DESC")
+    List<MatchListDto> findByStatusPage(@Param("status") MatchStatus status, Pageable page);
+
+    @Query(LIST_ROW + "WHERE m.status = :status " +
+            "AND (m.matchDate < :beforeDate OR (m.matchDate = :beforeDate AND m.id < :beforeId)) " +
+            "ORDER BY m.matchDate DESC, m.id DESC")
+    List<MatchListDto> findByStatusPageBefore(@Param("status") MatchStatus status,
+                                              @Param("beforeDate") LocalDateTime beforeDate,
+                                              @Param("beforeId") UUID beforeId,
+                                              Pageable page);
+
+    @Query(LIST_ROW + "WHERE m.matchDate IS NOT NULL ORDER BY m.matchDate ASC, m.id ASC")
+    List<MatchListDto> findDatedPage(Pageable page);
+
+    // The redundant range in front lets the planner seek idx_matches_date; the OR alone scans
+    @Query(LIST_ROW + "WHERE m.matchDate >= :afterDate " +
+            "AND (m.matchDate > :afterDate OR (m.matchDate = :afterDate AND m.id > :afterId)) " +
+            "ORDER BY m.matchDate ASC, m.id ASC")
+    List<MatchListDto> findDatedPageAfter(@Param("afterDate") LocalDateTime afterDate,
+                                          @Param("afterId") UUID afterId,
+                                          Pageable page);
+
+    // Matches without a date sort after every dated one, ordered by id alone.
+    // A null status lists them all.
+
+    @Query(LIST_ROW + "WHERE m.matchDate IS NULL AND (:status IS NULL OR m.status = :status) " +
+            "ORDER BY m.id ASC")
+    List<MatchListDto> findUndatedPage(@Param("status") MatchStatus status, Pageable page);
+
+    @Query(LIST_ROW + "WHERE m.matchDate IS NULL AND (:status IS NULL OR m.status = :status) " +
+            "AND m.id > :afterId ORDER BY m.id ASC")
+    List<MatchListDto> findUndatedPageAfter(@Param("status") MatchStatus status,
+                                            @Param("afterId") UUID afterId,
+                                            Pageable page);
+
+    /**
+     * Adds goals in a single statement, so concurrent goals never overwrite each
+     * other. Bumps the version so edits made from an older read fail instead of
+     * writing the old score back. Finished matches are left alone (0 rows): their
+     * standings need the score before and after, see {@code MatchScoreUpdater}.
+     */
+    @Modifying
+    @Query("UPDATE MatchEntity m " +
+            "SET m.homeGoals = COALESCE(m.homeGoals, 0) + :homeGoals, " +
+            "    m.awayGoals = COALESCE(m.awayGoals, 0) + :awayGoals, " +
+            "    m.version = m.version + 1 " +
+            "WHERE m.id = :id AND m.status <> :finished")
+    int incrementScore(@Param("id") UUID id,
+                       @Param("homeGoals") int homeGoals,
+                       @Param("awayGoals") int awayGoals,
+                       @Param("finished") MatchStatus finished);
+
+    @Query("SELECT new com.football.backend.dto.MatchScoreDto(m.id, m.homeGoals, m.awayGoals, m.status) " +
+            "FROM MatchEntity m WHERE m.id = :id")
+    MatchScoreDto findScoreById(@Param("id") UUID id);
 }
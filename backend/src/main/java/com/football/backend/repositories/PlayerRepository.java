@@ -1,14 +1,68 @@
 package com.football.backend.repositories;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.football.backend.dto.PlayerSummaryDto;
 import com.football.backend.entities.PlayerEntity;
+import com.football.backend.repositories.projections.PlayerContractView;
+import com.football.backend.repositories.projections.PlayerRefView;
+import com.football.backend.repositories.projections.SquadMemberView;
 
 @Repository
 public interface PlayerRepository extends JpaRepository<PlayerEntity, UUID> {
     List<PlayerEntity> findAllByTeamId(UUID teamId);
-}
\ No newline at end of file
+
+    @Query("""
+        SELECT new com.football.backend.dto.PlayerSummaryDto(
+               p.id, p.firstname, p.lastname, p.position, p.shirtNumber, t.name)
+        FROM PlayerEntity p
+        LEFT JOIN p.team t
+    """)
+    List<PlayerSummaryDto> findAllSummaries();
+
+    @Query("""
+        SELECT p.team.id AS teamId,
+               p.id AS playerId,
+               p.position AS position,
+               p.dateOfBirth AS dateOfBirth,
+               c.startDate AS contractStartDate,
+               c.salaryPerYear AS salaryPerYear
+        FROM PlayerEntity p
+        LEFT JOIN p.contracts c
+        WHERE p.team.id IN :teamIds
+    """)
+    List<SquadMemberView> findSquadMembersByTeamIds(@Param("teamIds") Collection<UUID> teamIds);
+
+    @Query("""
+        SELECT p.id AS playerId,
+               p.team.id AS teamId,
+               MAX(c.startDate) AS latestContractStart
+        FROM PlayerEntity p
+        LEFT JOIN p.contracts c
+        WHERE p.id IN :playerIds
+        GROUP BY p.id, p.team.id
+    """)
+    List<PlayerContractView> findContractViewsByIds(@Param("playerIds") Collection<UUID> playerIds);
+
+    @Modifying
+    @Query("UPDATE PlayerEntity p SET p.team.id = :teamId WHERE p.id IN :playerIds")
+    int moveToTeam(@Param("teamId") UUID teamId, @Param("playerIds") Collection<UUID> playerIds);
+
+    @Query("""
+        SELECT p.id AS playerId,
+               p.team.id AS teamId,
+               p.firstname AS firstname,
+               p.lastname AS lastname
+        FROM PlayerEntity p
+        WHERE p.id IN :playerIds
+    """)
+    List<PlayerRefView> findRefsByIds(@Param("playerIds") Collection<UUID> playerIds);
+}
@@ -1,7 +1,9 @@
 package com.football.backend.repositories;
 
 import com.football.backend.entities.StandingsEntryEntity;
+import com.football.backend.entities.compositekeys.StandingsEntryId;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -10,15 +12,33 @@ import java.util.List;
 import java.util.UUID;
 
 @Repository
-public interface StandingsEntryRepository extends JpaRepository<StandingsEntryEntity, UUID> {
+public interface StandingsEntryRepository extends JpaRepository<StandingsEntryEntity, StandingsEntryId> {
 
     @Query("""
-        SELECT s FROM StandingsEntryEntity s 
-        WHERE s.standings.edition.id = :editionId
+        SELECT s FROM StandingsEntryEntity s
+        JOIN FETCH s.team
+        WHERE s.id.editionId = :editionId
         ORDER BY 
             (s.wins * 3 + s.draws) DESC, 
             (s.goalsFor - s.goalsAgainst) DESC,
             s.goalsFor DESC
     """)
     List<StandingsEntryEntity> findStandingsByEditionId(@Param("editionId") UUID editionId);
+
+    /**
+     * Adds a result to the entry in one statement, so concurrent results for
+     * the same team add up instead of overwriting each other.
+     */
+    @Modifying
+    @Query("UPDATE StandingsEntryEntity s " +
+            "SET s.wins = s.wins + :wins, s.draws = s.draws + :draws, s.losses = s.losses + :losses, " +
+            "    s.goalsFor = s.goalsFor + :goalsFor, s.goalsAgainst = s.goalsAgainst + :goalsAgainst " +
+            "WHERE s.id.editionId = :editionId AND s.id.teamId = :teamId")
+    int addResult(@Param("editionId") UUID editionId,
+                  @Param("teamId") UUID teamId,
+                  @Param("wins") int wins,
+                  @Param("draws") int draws,
+                  @Param("losses") int losses,
+                  @Param("goalsFor") int goalsFor,
+                  @Param("goalsAgainst") int goalsAgainst);
 }
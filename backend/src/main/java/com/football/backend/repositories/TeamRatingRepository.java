@@ -0,0 +1,30 @@
+package com.football.backend.repositories;
+
+import com.football.backend.entities.TeamRatingEntity;
+import com.football.backend.repositories.projections.TeamRatingView;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface TeamRatingRepository extends JpaRepository<TeamRatingEntity, UUID> {
+
+    /**
+     * Reads the ratings for an update, holding their rows until commit. Rows
+     * are locked in id order, so two results sharing a team cannot deadlock.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM TeamRatingEntity r WHERE r.teamId IN :teamIds ORDER BY r.teamId")
+    List<TeamRatingEntity> findAllForUpdate(@Param("teamIds") Collection<UUID> teamIds);
+
+    @Query("SELECT t.id AS teamId, t.name AS teamName, r.rating AS rating, r.matches AS matches " +
+            "FROM TeamEntity t LEFT JOIN TeamRatingEntity r ON r.teamId = t.id")
+    List<TeamRatingView> findAllRatings();
+}
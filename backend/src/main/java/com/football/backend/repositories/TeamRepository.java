@@ -1,12 +1,19 @@
 package com.football.backend.repositories;
 
+import com.football.backend.dto.TeamSummaryDto;
 import com.football.backend.entities.CoachEntity;
 import com.football.backend.entities.TeamEntity;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 @Repository
@@ -20,4 +27,15 @@ public interface TeamRepository extends JpaRepository<TeamEntity, UUID> {
     Optional<TeamEntity> findByCoach(CoachEntity coach);
 
     List<TeamEntity> findByCoachIsNull();
+
+    @Query("SELECT new com.football.backend.dto.TeamSummaryDto(t.id, t.name, c.firstname, c.lastname) " +
+            "FROM TeamEntity t LEFT JOIN t.coach c")
+    List<TeamSummaryDto> findAllSummaries();
+
+    @Query("SELECT t.id FROM TeamEntity t WHERE t.id IN :ids")
+    Set<UUID> findExistingIds(@Param("ids") Collection<UUID> ids);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t FROM TeamEntity t WHERE t.id = :id")
+    Optional<TeamEntity> findByIdForUpdate(@Param("id") UUID id);
 }
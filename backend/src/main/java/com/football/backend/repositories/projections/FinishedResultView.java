@@ -0,0 +1,13 @@
+package com.football.backend.repositories.projections;
+
+import java.util.UUID;
+
+/**
+ * The two teams and the final score of a finished match, for replaying results.
+ */
+public interface FinishedResultView {
+    UUID getHomeTeamId();
+    UUID getAwayTeamId();
+    Integer getHomeGoals();
+    Integer getAwayGoals();
+}
@@ -0,0 +1,14 @@
+package com.football.backend.repositories.projections;
+
+import java.util.UUID;
+
+/**
+ * The round and the two teams of a fixture, without loading the match itself.
+ */
+public interface FixtureTeamsView {
+    Integer getRound();
+    UUID getHomeTeamId();
+    String getHomeTeamName();
+    UUID getAwayTeamId();
+    String getAwayTeamName();
+}
@@ -0,0 +1,14 @@
+package com.football.backend.repositories.projections;
+
+import java.util.Date;
+import java.util.UUID;
+
+/**
+ * A player's current team and the start of their latest contract, as needed to
+ * validate new contracts. The start date is null for players without contracts.
+ */
+public interface PlayerContractView {
+    UUID getPlayerId();
+    UUID getTeamId();
+    Date getLatestContractStart();
+}
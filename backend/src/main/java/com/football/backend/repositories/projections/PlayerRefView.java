@@ -0,0 +1,14 @@
+package com.football.backend.repositories.projections;
+
+import java.util.UUID;
+
+/**
+ * Just enough of a player to attach match events to them: the team to credit
+ * goals to and the name shown in the event feed.
+ */
+public interface PlayerRefView {
+    UUID getPlayerId();
+    UUID getTeamId();
+    String getFirstname();
+    String getLastname();
+}
@@ -0,0 +1,10 @@
+package com.football.backend.repositories.projections;
+
+/**
+ * How far an edition's schedule has got: its number of rounds and the first
+ * round with a match not finished yet (null once every round is done).
+ */
+public interface RoundProgressView {
+    Integer getRoundCount();
+    Integer getCurrentRound();
+}
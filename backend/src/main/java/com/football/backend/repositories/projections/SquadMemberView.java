@@ -0,0 +1,17 @@
+package com.football.backend.repositories.projections;
+
+import java.util.Date;
+import java.util.UUID;
+
+/**
+ * One row per (player, contract) pair of a squad, as needed by the team power
+ * calculation. Players without contracts come back with null contract columns.
+ */
+public interface SquadMemberView {
+    UUID getTeamId();
+    UUID getPlayerId();
+    String getPosition();
+    Date getDateOfBirth();
+    Date getContractStartDate();
+    Integer getSalaryPerYear();
+}
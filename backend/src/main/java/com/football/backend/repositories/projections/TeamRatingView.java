@@ -0,0 +1,14 @@
+package com.football.backend.repositories.projections;
+
+import java.util.UUID;
+
+/**
+ * A team with its rating; rating and matches are null for teams without a
+ * rated match yet.
+ */
+public interface TeamRatingView {
+    UUID getTeamId();
+    String getTeamName();
+    Double getRating();
+    Integer getMatches();
+}
@@ -0,0 +1,355 @@
+package com.football.backend.services;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.football.backend.dto.BulkImportResultDto;
+import com.football.backend.dto.CreateContractRequest;
+import com.football.backend.dto.CreatePlayerRequest;
+import com.football.backend.dto.MatchCreateRequest;
+import com.football.backend.entities.*;
+import com.football.backend.models.MatchStatus;
+import com.football.backend.repositories.EditionRepository;
+import com.football.backend.repositories.PlayerRepository;
+import com.football.backend.repositories.TeamRepository;
+import com.football.backend.repositories.projections.PlayerContractView;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Imports newline-delimited JSON, one create request per line, as sent by the
+ * nightly data feed. Lines are read as they arrive and written in chunks, each
+ * chunk in its own transaction: the team, player and edition ids of a chunk are
+ * resolved with one query per kind, and the inserts go out in JDBC batches.
+ * <p>
+ * Lines are validated like their single-record endpoints would; an invalid line
+ * is reported and skipped without affecting the rest of its chunk. A chunk that
+ * fails to commit is reported line by line, and the import carries on.
+ */
+@Slf4j
+@Service
+public class BulkIngestionService {
+
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final TeamRepository teamRepository;
+    private final PlayerRepository playerRepository;
+    private final EditionRepository editionRepository;
+    private final TeamPowerCache teamPowerCache;
+    private final ChangeVersions changeVersions;
+    private final int chunkSize;
+
+    @Autowired
+    public BulkIngestionService(
+            EntityManager entityManager,
+            ObjectMapper objectMapper,
+            PlatformTransactionManager transactionManager,
+            TeamRepository teamRepository,
+            PlayerRepository playerRepository,
+            EditionRepository editionRepository,
+            TeamPowerCache teamPowerCache,
+            ChangeVersions changeVersions,
+            @Value("${bulk-import.chunk-size:1000}") int chunkSize
+    ) {
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.teamRepository = teamRepository;
+        this.playerRepository = playerRepository;
+        this.editionRepository = editionRepository;
+        this.teamPowerCache = teamPowerCache;
+        this.changeVersions = changeVersions;
+        this.chunkSize = chunkSize;
+    }
+
+    public BulkImportResultDto importPlayers(InputStream ndjson) throws IOException {
+        return ingest("players", ndjson, CreatePlayerRequest.class, this::writePlayers);
+    }
+
+    public BulkImportResultDto importContracts(InputStream ndjson) throws IOException {
+        return ingest("contracts", ndjson, CreateContractRequest.class, this::writeContracts);
+    }
+
+    public BulkImportResultDto importMatches(InputStream ndjson) throws IOException {
+        return ingest("matches", ndjson, MatchCreateRequest.class, this::writeMatches);
+    }
+
+    /**
+     * One non-blank input line; {@code record} is null when it could not be parsed.
+     */
+    private record Line<T>(long number, T record, String parseError) {
+    }
+
+    @FunctionalInterface
+    private interface ChunkWriter<T> {
+        /**
+         * Persists the chunk's valid records inside the current transaction,
+         * putting a message for every invalid line into {@code rejections}.
+         */
+        void write(List<Line<T>> chunk, Map<Long, String> rejections);
+    }
+
+    private <T> BulkImportResultDto ingest(String name, InputStream ndjson, Class<T> type, ChunkWriter<T> writer)
+            throws IOException {
+        long start = System.nanoTime();
+        BulkImportResultDto result = new BulkImportResultDto();
+        List<Line<T>> chunk = new ArrayList<>(chunkSize);
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(ndjson, StandardCharsets.UTF_8))) {
+            long number = 0;
+            String text;
+            while ((text = reader.readLine()) != null) {
+                number++;
+                if (text.isBlank()) {
+                    continue;
+                }
+                chunk.add(parse(number, text, type));
+                if (chunk.size() == chunkSize) {
+                    writeChunk(chunk, writer, result);
+                    chunk.clear();
+                }
+            }
+        }
+        if (!chunk.isEmpty()) {
+            writeChunk(chunk, writer, result);
+        }
+
+        long elapsed = System.nanoTime() - start;
+        log.info("Bulk import of {}: {} imported, {} rejected in {} ms ({} lines/s)",
+                name, result.getImported(), result.getRejected(), TimeUnit.NANOSECONDS.toMillis(elapsed),
+                elapsed == 0 ? result.getLines() : result.getLines() * TimeUnit.SECONDS.toNanos(1) / elapsed);
+        return result;
+    }
+
+    private <T> Line<T> parse(long number, String text, Class<T> type) {
+        try {
+            return new Line<>(number, objectMapper.readValue(text, type), null);
+        } catch (JsonProcessingException e) {
+            return new Line<>(number, null, "Malformed JSON: " + e.getOriginalMessage());
+        }
+    }
+
+    private <T> void writeChunk(List<Line<T>> chunk, ChunkWriter<T> writer, BulkImportResultDto result) {
+        List<Line<T>> parsed = chunk.stream().filter(line -> line.record() != null).toList();
+        Map<Long, String> rejections = new HashMap<>();
+        String chunkError = null;
+
+        if (!parsed.isEmpty()) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    writer.write(parsed, rejections);
+                    entityManager.flush();
+                    entityManager.clear();
+                });
+            } catch (RuntimeException e) {
+                log.warn("Bulk import chunk starting at line {} rolled back", chunk.get(0).number(), e);
+                chunkError = "Not imported, chunk rolled back: " + e.getMessage();
+            }
+        }
+
+        int imported = 0;
+        for (Line<T> line : chunk) {
+            String error = line.parseError() != null ? line.parseError() : rejections.get(line.number());
+            if (error == null && chunkError != null) {
+                error = chunkError;
+            }
+            if (error != null) {
+                result.reject(line.number(), error);
+            } else {
+                imported++;
+            }
+        }
+        result.accept(imported);
+    }
+
+    private void writePlayers(List<Line<CreatePlayerRequest>> chunk, Map<Long, String> rejections) {
+        Map<Long, UUID> teamIds = new HashMap<>();
+        for (Line<CreatePlayerRequest> line : chunk) {
+            CreatePlayerRequest request = line.record();
+            if (isBlank(request.getFirstname()) || isBlank(request.getLastname())) {
+                rejections.put(line.number(), "Firstname and lastname are required.");
+            } else if (request.getTeamId() != null) {
+                try {
+                    teamIds.put(line.number(), UUID.fromString(request.getTeamId()));
+                } catch (IllegalArgumentException e) {
+                    rejections.put(line.number(), "Invalid team id: " + request.getTeamId());
+                }
+            }
+        }
+        Set<UUID> existingTeams = existing(teamIds.values(), teamRepository::findExistingIds);
+
+        Set<UUID> squadsChanged = new HashSet<>();
+        for (Line<CreatePlayerRequest> line : chunk) {
+            if (rejections.containsKey(line.number())) {
+                continue;
+            }
+            UUID teamId = teamIds.get(line.number());
+            if (teamId != null && !existingTeams.contains(teamId)) {
+                rejections.put(line.number(), "Team not found with id: " + teamId);
+                continue;
+            }
+
+            CreatePlayerRequest request = line.record();
+            entityManager.persist(PlayerEntity.builder()
+                    .firstname(request.getFirstname())
+                    .lastname(request.getLastname())
+                    .position(request.getPosition())
+                    .shirtNumber(request.getShirtNumber())
+                    .nationality(request.getNationality())
+                    .dateOfBirth(request.getDateOfBirth())
+                    .team(reference(TeamEntity.class, teamId))
+                    .build());
+            if (teamId != null) {
+                squadsChanged.add(teamId);
+            }
+        }
+        squadsChanged.forEach(teamPowerCache::invalidate);
+    }
+
+    private void writeContracts(List<Line<CreateContractRequest>> chunk, Map<Long, String> rejections) {
+        Set<UUID> playerIds = new HashSet<>();
+        Set<UUID> teamIds = new HashSet<>();
+        for (Line<CreateContractRequest> line : chunk) {
+            CreateContractRequest request = line.record();
+            if (request.getPlayerId() == null || request.getTeamId() == null
+                    || request.getStartDate() == null || request.getEndDate() == null) {
+                rejections.put(line.number(), "playerId, teamId, startDate and endDate are required.");
+            } else if (request.getEndDate().before(request.getStartDate())) {
+                rejections.put(line.number(), "Contract end date cannot be before the start date.");
+            } else {
+                playerIds.add(request.getPlayerId());
+                teamIds.add(request.getTeamId());
+            }
+        }
+
+        // Current team and latest contract start of every player, both kept up to date while the chunk is applied
+        Map<UUID, UUID> currentTeams = new HashMap<>();
+        Map<UUID, Date> latestStarts = new HashMap<>();
+        if (!playerIds.isEmpty()) {
+            for (PlayerContractView view : playerRepository.findContractViewsByIds(playerIds)) {
+                currentTeams.put(view.getPlayerId(), view.getTeamId());
+                if (view.getLatestContractStart() != null) {
+                    latestStarts.put(view.getPlayerId(), view.getLatestContractStart());
+                }
+            }
+        }
+        Set<UUID> existingTeams = existing(teamIds, teamRepository::findExistingIds);
+
+        Map<UUID, UUID> transfers = new LinkedHashMap<>();
+        Set<UUID> squadsChanged = new HashSet<>();
+        for (Line<CreateContractRequest> line : chunk) {
+            if (rejections.containsKey(line.number())) {
+                continue;
+            }
+            CreateContractRequest request = line.record();
+            UUID playerId = request.getPlayerId();
+            if (!currentTeams.containsKey(playerId)) {
+                rejections.put(line.number(), "Player not found with id: " + playerId);
+                continue;
+            }
+            if (!existingTeams.contains(request.getTeamId())) {
+                rejections.put(line.number(), "Team not found with id: " + request.getTeamId());
+                continue;
+            }
+            Date latestStart = latestStarts.get(playerId);
+            if (latestStart != null && request.getStartDate().before(latestStart)) {
+                rejections.put(line.number(), "New contract cannot start before the latest contract.");
+                continue;
+            }
+
+            entityManager.persist(ContractEntity.builder()
+                    .player(reference(PlayerEntity.class, playerId))
+                    .team(reference(TeamEntity.class, request.getTeamId()))
+                    .startDate(request.getStartDate())
+                    .endDate(request.getEndDate())
+                    .salaryPerYear(request.getSalaryPerYear())
+                    .build());
+
+            UUID previousTeam = currentTeams.put(playerId, request.getTeamId());
+            if (previousTeam != null) {
+                squadsChanged.add(previousTeam);
+            }
+            squadsChanged.add(request.getTeamId());
+            latestStarts.put(playerId, request.getStartDate());
+            transfers.put(playerId, request.getTeamId());
+        }
+
+        // The player joins the team of their latest contract: one update per destination team
+        Map<UUID, List<UUID>> playersByTeam = new HashMap<>();
+        transfers.forEach((playerId, teamId) -> playersByTeam.computeIfAbsent(teamId, id -> new ArrayList<>()).add(playerId));
+        playersByTeam.forEach(playerRepository::moveToTeam);
+
+        squadsChanged.forEach(teamPowerCache::invalidate);
+    }
+
+    private void writeMatches(List<Line<MatchCreateRequest>> chunk, Map<Long, String> rejections) {
+        Set<UUID> editionIds = new HashSet<>();
+        Set<UUID> teamIds = new HashSet<>();
+        for (Line<MatchCreateRequest> line : chunk) {
+            MatchCreateRequest request = line.record();
+            if (request.getEditionId() == null || request.getHomeTeamId() == null || request.getAwayTeamId() == null) {
+                rejections.put(line.number(), "editionId, homeTeamId and awayTeamId are required.");
+            } else if (request.getHomeTeamId().equals(request.getAwayTeamId())) {
+                rejections.put(line.number(), "A team cannot play against itself.");
+            } else {
+                editionIds.add(request.getEditionId());
+                teamIds.add(request.getHomeTeamId());
+                teamIds.add(request.getAwayTeamId());
+            }
+        }
+        Set<UUID> existingEditions = existing(editionIds, editionRepository::findExistingIds);
+        Set<UUID> existingTeams = existing(teamIds, teamRepository::findExistingIds);
+
+        Set<UUID> changedEditions = new HashSet<>();
+        for (Line<MatchCreateRequest> line : chunk) {
+            if (rejections.containsKey(line.number())) {
+                continue;
+            }
+            MatchCreateRequest request = line.record();
+            if (!existingEditions.contains(request.getEditionId())) {
+                rejections.put(line.number(), "Edition not found with ID: " + request.getEditionId());
+            } else if (!existingTeams.contains(request.getHomeTeamId())) {
+                rejections.put(line.number(), "Home team not found with id: " + request.getHomeTeamId());
+            } else if (!existingTeams.contains(request.getAwayTeamId())) {
+                rejections.put(line.number(), "Away team not found with id: " + request.getAwayTeamId());
+            } else {
+                entityManager.persist(MatchEntity.builder()
+                        .edition(reference(EditionEntity.class, request.getEditionId()))
+                        .homeTeam(reference(TeamEntity.class, request.getHomeTeamId()))
+                        .awayTeam(reference(TeamEntity.class, request.getAwayTeamId()))
+                        .matchDate(request.getMatchDate())
+                        .round(request.getRound())
+                        .status(MatchStatus.SCHEDULED)
+                        .build());
+                changedEditions.add(request.getEditionId());
+            }
+        }
+        changedEditions.forEach(changeVersions::editionChanged);
+    }
+
+    private static Set<UUID> existing(Collection<UUID> ids, Function<Collection<UUID>, Set<UUID>> lookup) {
+        return ids.isEmpty() ? Set.of() : lookup.apply(new HashSet<>(ids));
+    }
+
+    private <E> E reference(Class<E> type, UUID id) {
+        return id == null ? null : entityManager.getReference(type, id);
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isEmpty();
+    }
+}
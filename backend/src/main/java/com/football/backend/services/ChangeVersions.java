@@ -0,0 +1,231 @@
+package com.football.backend.services;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * In-memory change versions behind the ETags of edition dashboards and match
+ * details, so a revalidation is answered with a map lookup instead of a reload.
+ * <p>
+ * Every write bumps the version of what it touched once it commits. Competition
+ * edits bump a shared reference version instead, since a competition's name
+ * shows up in all of its editions. All versions come from one clock, so a tag
+ * taken before loading a payload is never newer than the payload.
+ * <p>
+ * Only the most recently used versions are kept, and deleted ids are dropped.
+ * An id without a version simply has no current tag, so its next read reloads
+ * it and reserves a new version.
+ */
+@Component
+public class ChangeVersions {
+
+    // Seeded with the wall clock so tags handed out by an earlier process never match.
+    private final AtomicLong clock = new AtomicLong(System.currentTimeMillis());
+
+    private final Versions editions;
+    private final Versions matches;
+    private volatile long referenceVersion = clock.incrementAndGet();
+
+    private final List<Consumer<UUID>> editionListeners = new CopyOnWriteArrayList<>();
+
+    @Autowired
+    public ChangeVersions(
+            @Value("${change-versions.max-editions:10000}") int maxEditions,
+            @Value("${change-versions.max-matches:100000}") int maxMatches
+    ) {
+        this.editions = new Versions(maxEditions);
+        this.matches = new Versions(maxMatches);
+    }
+
+    public enum Scope {
+        EDITION('e'),
+        MATCH('m');
+
+        private final char prefix;
+
+        Scope(char prefix) {
+            this.prefix = prefix;
+        }
+    }
+
+    /**
+     * Versions read before loading a payload; {@link #tagOf(Stamp)} turns them into its ETag.
+     */
+    public record Stamp(Scope scope, UUID id, long version, long reference, boolean reserved) {
+    }
+
+    /**
+     * The ETag a fresh load would get right now, or null when the id was never
+     * served or written. Comparing it with If-None-Match needs no reload.
+     */
+    public String currentTag(Scope scope, UUID id) {
+        Long version = versions(scope).get(id);
+        return version == null ? null : tag(scope.prefix, version, referenceVersion);
+    }
+
+    public Stamp stamp(Scope scope, UUID id) {
+        long reference = referenceVersion;
+        Long version = versions(scope).get(id);
+        return version != null
+                ? new Stamp(scope, id, version, reference, false)
+                : new Stamp(scope, id, clock.incrementAndGet(), reference, true);
+    }
+
+    /**
+     * The ETag of a payload loaded after taking the stamp. Should a write commit in
+     * the meantime, the current version moves past the stamp and the tag simply
+     * never matches again.
+     */
+    public String tagOf(Stamp stamp) {
+        if (stamp.reserved()) {
+            versions(stamp.scope()).reserve(stamp.id(), stamp.version());
+        }
+        return tag(stamp.scope().prefix, stamp.version(), stamp.reference());
+    }
+
+    /**
+     * The ETag of a payload that carries its own version, like a standings snapshot.
+     */
+    public String tagOf(char prefix, long version) {
+        return tag(prefix, version, referenceVersion);
+    }
+
+    /**
+     * Registers a callback run on the committing thread, after the version of an
+     * edition moved. Reference data changes are not reported.
+     */
+    public void onEditionChanged(Consumer<UUID> listener) {
+        editionListeners.add(listener);
+    }
+
+    public void editionChanged(UUID editionId) {
+        afterCommit(() -> {
+            bump(editions, editionId);
+            notifyEditionChanged(editionId);
+        });
+    }
+
+    public void matchChanged(UUID matchId, UUID editionId) {
+        afterCommit(() -> {
+            bump(matches, matchId);
+            bump(editions, editionId);
+            notifyEditionChanged(editionId);
+        });
+    }
+
+    /**
+     * Drops the version of a deleted match once the deletion commits; its edition changed with it.
+     */
+    public void matchDeleted(UUID matchId, UUID editionId) {
+        afterCommit(() -> {
+            matches.remove(matchId, clock.incrementAndGet());
+            bump(editions, editionId);
+            notifyEditionChanged(editionId);
+        });
+    }
+
+    /**
+     * Drops the versions of a deleted edition and of its matches once the deletion commits.
+     */
+    public void editionDeleted(UUID editionId, Collection<UUID> matchIds) {
+        afterCommit(() -> {
+            long version = clock.incrementAndGet();
+            matchIds.forEach(matchId -> matches.remove(matchId, version));
+            editions.remove(editionId, version);
+            notifyEditionChanged(editionId);
+        });
+    }
+
+    public void referenceDataChanged() {
+        afterCommit(() -> referenceVersion = clock.incrementAndGet());
+    }
+
+    private void bump(Versions versions, UUID id) {
+        if (id != null) {
+            versions.put(id, clock.incrementAndGet());
+        }
+    }
+
+    private void notifyEditionChanged(UUID editionId) {
+        if (editionId != null) {
+            editionListeners.forEach(listener -> listener.accept(editionId));
+        }
+    }
+
+    private static String tag(char prefix, long version, long reference) {
+        return "\"" + prefix + version + "-" + reference + "\"";
+    }
+
+    private Versions versions(Scope scope) {
+        return scope == Scope.EDITION ? editions : matches;
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    /**
+     * The versions of one scope, the least recently used dropped beyond {@code maxEntries}.
+     */
+    private static final class Versions {
+
+        // Access ordered for LRU eviction; guarded by this, as is dropped
+        private final Map<UUID, Long> entries;
+        // Newest version dropped so far: a reservation not newer may have been
+        // loaded before a write whose version is gone, so it is not kept
+        private long dropped;
+
+        Versions(int maxEntries) {
+            this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<UUID, Long> eldest) {
+                    if (size() <= maxEntries) {
+                        return false;
+                    }
+                    dropped = Math.max(dropped, eldest.getValue());
+                    return true;
+                }
+            };
+        }
+
+        synchronized Long get(UUID id) {
+            return entries.get(id);
+        }
+
+        synchronized void put(UUID id, long version) {
+            entries.put(id, version);
+        }
+
+        synchronized void reserve(UUID id, long version) {
+            if (version > dropped) {
+                entries.putIfAbsent(id, version);
+            }
+        }
+
+        synchronized void remove(UUID id, long version) {
+            entries.remove(id);
+            dropped = Math.max(dropped, version);
+        }
+    }
+}
@@ -10,7 +10,6 @@ import com.football.backend.repositories.CoachRepository;
 
 import java.util.List;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 import org.hibernate.Hibernate;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -43,11 +42,7 @@ public class CoachService {
 
     @Transactional(readOnly = true)
     public List<CoachSummaryDto> getAllCoaches() {
-        List<CoachEntity> coaches = coachRepository.findAll();
-        
-        return coaches.stream()
-                .map(coachMapper::toSummaryDto) 
-                .collect(Collectors.toList());
+        return coachRepository.findAllSummaries();
     }
 
     @Transactional(readOnly = true)
@@ -65,6 +60,6 @@ public class CoachService {
         List<CoachEntity> coaches = coachRepository.findByTeamIsNull();
         return coaches.stream()
                 .map(coachMapper::toSummaryDto)
-                .collect(Collectors.toList());
+                .toList();
     }
 }
@@ -19,6 +19,7 @@ public class CompetitionService {
 
     private final CompetitionRepository competitionRepository;
     private final EditionService editionService;
+    private final ChangeVersions changeVersions;
 
     @Transactional
     public UUID createCompetition(CreateCompetitionDto dto) {
@@ -59,6 +60,8 @@ public class CompetitionService {
         competition.setName(dto.getCompetitionName());
 
         competitionRepository.save(competition);
+        // The competition's name is part of its editions' dashboards
+        changeVersions.referenceDataChanged();
     }
 
     @Transactional
@@ -67,6 +70,7 @@ public class CompetitionService {
             throw new RuntimeException("Cannot delete. Competition not found with ID: " + id);
         }
         competitionRepository.deleteById(id);
+        changeVersions.referenceDataChanged();
     }
 
     private Competition toDto(CompetitionEntity entity) {
@@ -25,12 +25,14 @@ public class ContractService {
     private final ContractRepository contractRepository;
     private final PlayerRepository playerRepository;
     private final TeamRepository teamRepository;
+    private final TeamPowerCache teamPowerCache;
 
     @Autowired
-    public ContractService(ContractRepository contractRepository, PlayerRepository playerRepository, TeamRepository teamRepository) {
+    public ContractService(ContractRepository contractRepository, PlayerRepository playerRepository, TeamRepository teamRepository, TeamPowerCache teamPowerCache) {
         this.contractRepository = contractRepository;
         this.playerRepository = playerRepository;
         this.teamRepository = teamRepository;
+        this.teamPowerCache = teamPowerCache;
     }
 
     @Transactional
@@ -62,7 +64,15 @@ public class ContractService {
                 .salaryPerYear(request.getSalaryPerYear())
                 .build();
 
-        return contractRepository.save(newContract);
+        ContractEntity savedContract = contractRepository.save(newContract);
+
+        // Salary and cohesion are computed for the player's current squad
+        if (player.getTeam() != null) {
+            teamPowerCache.invalidate(player.getTeam().getId());
+        }
+        teamPowerCache.invalidate(team.getId());
+
+        return savedContract;
     }
 
     @Transactional(readOnly = true)
@@ -1,140 +1,104 @@
 package com.football.backend.services;
 
-import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.football.backend.entities.*;
 import com.football.backend.models.CompetitionStrategy;
 import com.football.backend.models.MatchEventType;
 import com.football.backend.models.MatchStatus;
-import com.football.backend.repositories.*;
+import jakarta.persistence.EntityManager;
 import lombok.Data;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
 import java.io.InputStream;
 import java.time.LocalDateTime;
-import java.util.ArrayList;
 import java.util.Date;
-import java.util.List;
+import java.util.HashMap;
 import java.util.Map;
-import java.util.function.Function;
-import java.util.stream.Collectors;
-
+import java.util.UUID;
+
+/**
+ * Loads the bundled seed files. Each file is streamed row by row through a
+ * {@link JsonBulkImporter}; later files refer to earlier rows through the
+ * natural keys used in the JSON (team name, player name, match teams and date),
+ * which are mapped to generated ids in memory instead of reloading entities.
+ */
 @Service
 public class DatabaseSeeder {
 
-    private final TeamRepository teamRepository;
-    private final CoachRepository coachRepository;
-    private final PlayerRepository playerRepository;
-    private final ContractRepository contractRepository;
-    private final MatchRepository matchRepository;
-    private final MatchEventRepository matchEventRepository;
-    private final CompetitionRepository competitionRepository;
-    private final EditionRepository editionRepository;
+    private final EntityManager entityManager;
+    private final int batchSize;
 
     @Autowired
     public DatabaseSeeder(
-            TeamRepository teamRepository,
-            CoachRepository coachRepository,
-            PlayerRepository playerRepository,
-            ContractRepository contractRepository,
-            MatchRepository matchRepository,
-            MatchEventRepository matchEventRepository,
-            CompetitionRepository competitionRepository,
-            EditionRepository editionRepository
+            EntityManager entityManager,
+            @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:100}") int batchSize
     ) {
-        this.teamRepository = teamRepository;
-        this.coachRepository = coachRepository;
-        this.playerRepository = playerRepository;
-        this.contractRepository = contractRepository;
-        this.matchRepository = matchRepository;
-        this.matchEventRepository = matchEventRepository;
-        this.competitionRepository = competitionRepository;
-        this.editionRepository = editionRepository;
+        this.entityManager = entityManager;
+        this.batchSize = batchSize;
     }
 
     @Transactional
     public void seedDatabase() {
         try {
-            ObjectMapper mapper = new ObjectMapper();
-
-            // Seed Teams
-            InputStream teamsInputStream = new ClassPathResource("seed/teams.json").getInputStream();
-            List<TeamSeedDto> teamDtos = mapper.readValue(teamsInputStream, new TypeReference<>() {});
-            List<TeamEntity> teamEntities = teamDtos.stream()
-                    .map(dto -> TeamEntity.builder().name(dto.getName()).build())
-                    .collect(Collectors.toList());
-            teamRepository.saveAll(teamEntities);
-            Map<String, TeamEntity> teamsByName = teamEntities.stream()
-                    .collect(Collectors.toMap(TeamEntity::getName, Function.identity()));
-
-            // Seed Coaches
-            InputStream coachesInputStream = new ClassPathResource("seed/coaches.json").getInputStream();
-            List<CoachSeedDto> coachDtos = mapper.readValue(coachesInputStream, new TypeReference<>() {});
-            List<CoachEntity> coachEntities = coachDtos.stream()
-                    .map(dto -> {
-                        TeamEntity team = teamsByName.get(dto.getTeamName());
-                        return CoachEntity.builder()
-                                .firstname(dto.getFirstname())
-                                .lastname(dto.getLastname())
-                                .team(team)
-                                .build();
-                    })
-                    .collect(Collectors.toList());
-            coachRepository.saveAll(coachEntities);
-
-            // Update teams with coaches
-            coachEntities.forEach(coach -> {
-                if (coach.getTeam() != null) {
-                    coach.getTeam().setCoach(coach);
-                    teamRepository.save(coach.getTeam());
+            JsonBulkImporter importer = new JsonBulkImporter(entityManager, new ObjectMapper(), batchSize);
+
+            // Coaches go first: the team owns the coach reference, so teams can point at them as they are inserted
+            Map<String, UUID> coachIdsByTeamName = new HashMap<>();
+            importer.importArray("coaches", open("seed/coaches.json"), CoachSeedDto.class, dto -> {
+                CoachEntity coach = CoachEntity.builder()
+                        .firstname(dto.getFirstname())
+                        .lastname(dto.getLastname())
+                        .build();
+                importer.persist(coach);
+                if (dto.getTeamName() != null) {
+                    coachIdsByTeamName.put(dto.getTeamName(), coach.getId());
                 }
             });
 
-            InputStream competitionsInputStream = new ClassPathResource("seed/competitions.json").getInputStream();
-            List<CompetitionSeedDto> competitionDtos = mapper.readValue(competitionsInputStream, new TypeReference<>() {});
-
-            List<CompetitionEntity> competitionEntities = competitionDtos.stream()
-                    .map(dto -> CompetitionEntity.builder()
-                            .name(dto.getName())
-                            .build())
-                    .collect(Collectors.toList());
-            competitionRepository.saveAll(competitionEntities);
-
-            Map<String, CompetitionEntity> competitionsByName = competitionEntities.stream()
-                    .collect(Collectors.toMap(CompetitionEntity::getName, Function.identity()));
+            Map<String, UUID> teamIds = new HashMap<>();
+            importer.importArray("teams", open("seed/teams.json"), TeamSeedDto.class, dto -> {
+                TeamEntity team = TeamEntity.builder()
+                        .name(dto.getName())
+                        .coach(importer.reference(CoachEntity.class, coachIdsByTeamName.get(dto.getName())))
+                        .build();
+                importer.persist(team);
+                putUnique(teamIds, dto.getName(), team.getId());
+            });
 
-            // 4. Seed Editions [NEW]
-            InputStream editionsInputStream = new ClassPathResource("seed/editions.json").getInputStream();
-            List<EditionSeedDto> editionDtos = mapper.readValue(editionsInputStream, new TypeReference<>() {});
+            Map<String, UUID> competitionIds = new HashMap<>();
+            importer.importArray("competitions", open("seed/competitions.json"), CompetitionSeedDto.class, dto -> {
+                CompetitionEntity competition = CompetitionEntity.builder()
+                        .name(dto.getName())
+                        .build();
+                importer.persist(competition);
+                putUnique(competitionIds, dto.getName(), competition.getId());
+            });
 
-            List<EditionEntity> editionEntities = new ArrayList<>();
-            for (EditionSeedDto dto : editionDtos) {
-                CompetitionEntity competition = competitionsByName.get(dto.getCompetitionName());
-                if (competition == null) {
+            Map<String, UUID> editionIds = new HashMap<>();
+            importer.importArray("editions", open("seed/editions.json"), EditionSeedDto.class, dto -> {
+                UUID competitionId = competitionIds.get(dto.getCompetitionName());
+                if (competitionId == null) {
                     throw new IllegalStateException("Competition not found: " + dto.getCompetitionName());
                 }
 
                 EditionEntity edition = EditionEntity.builder()
                         .name(dto.getName())
-                        .competition(competition)
+                        .competition(importer.reference(CompetitionEntity.class, competitionId))
                         .strategyType(CompetitionStrategy.valueOf(dto.getStrategyType())) // Maps string to Enum
                         .build();
-                editionEntities.add(edition);
-            }
-            editionRepository.saveAll(editionEntities);
-
-            Map<String, EditionEntity> editionsByName = editionEntities.stream()
-                    .collect(Collectors.toMap(EditionEntity::getName, Function.identity()));
-
+                importer.persist(edition);
+                putUnique(editionIds, dto.getName(), edition.getId());
+            });
 
-            // Seed Players and Contracts
-            InputStream playersInputStream = new ClassPathResource("seed/players.json").getInputStream();
-            List<PlayerSeedDto> playerDtos = mapper.readValue(playersInputStream, new TypeReference<>() {});
-            playerDtos.forEach(dto -> {
-                TeamEntity team = teamsByName.get(dto.getTeamName());
+            // Players and Contracts
+            Map<String, UUID> playerIds = new HashMap<>();
+            importer.importArray("players", open("seed/players.json"), PlayerSeedDto.class, dto -> {
+                TeamEntity team = importer.reference(TeamEntity.class, teamIds.get(dto.getTeamName()));
                 PlayerEntity player = PlayerEntity.builder()
                         .firstname(dto.getFirstname())
                         .lastname(dto.getLastname())
@@ -144,131 +108,83 @@ public class DatabaseSeeder {
                         .dateOfBirth(dto.getDateOfBirth())
                         .team(team)
                         .build();
-                playerRepository.save(player);
+                importer.persist(player);
+                putUnique(playerIds, playerKey(dto.getFirstname(), dto.getLastname(), dto.getTeamName()), player.getId());
 
                 if (dto.getContract() != null) {
-                    ContractEntity contract = ContractEntity.builder()
+                    importer.persist(ContractEntity.builder()
                             .player(player)
                             .team(team)
                             .startDate(dto.getContract().getStartDate())
                             .endDate(dto.getContract().getEndDate())
                             .salaryPerYear(dto.getContract().getSalaryPerYear())
-                            .build();
-                    contractRepository.save(contract);
+                            .build());
                 }
             });
 
-            Map<String, PlayerEntity> playersByKey = playerRepository.findAll()
-                    .stream()
-                    .collect(Collectors.toMap(
-                            p -> playerKey(p.getFirstname(), p.getLastname(), p.getTeam().getName()),
-                            Function.identity()
-                    ));
+            Map<String, UUID> matchIds = new HashMap<>();
+            importer.importArray("matches", open("seed/matches.json"), MatchSeedDto.class, dto -> {
+                UUID homeTeamId = teamIds.get(dto.getHomeTeamName());
+                UUID awayTeamId = teamIds.get(dto.getAwayTeamName());
+                UUID editionId = editionIds.get(dto.getEditionName());
 
-            InputStream matchesInputStream = new ClassPathResource("seed/matches.json").getInputStream();
-            List<MatchSeedDto> matchDtos = mapper.readValue(matchesInputStream, new TypeReference<>() {});
-
-            List<MatchEntity> matchEntities = new ArrayList<>();
-            for (MatchSeedDto dto : matchDtos) {
-                TeamEntity homeTeam = teamsByName.get(dto.getHomeTeamName());
-                TeamEntity awayTeam = teamsByName.get(dto.getAwayTeamName());
-
-                EditionEntity edition = editionsByName.get(dto.getEditionName());
-
-                if (homeTeam == null || awayTeam == null) {
+                if (homeTeamId == null || awayTeamId == null) {
                     throw new IllegalStateException("Team not found for match seed: " + dto);
                 }
-                if (edition == null) {
+                if (editionId == null) {
                     throw new IllegalStateException("Edition not found for match seed: " + dto.getEditionName());
                 }
 
                 LocalDateTime matchDate = LocalDateTime.parse(dto.getMatchDate());
-                MatchStatus status = MatchStatus.valueOf(dto.getStatus());
-
                 MatchEntity match = MatchEntity.builder()
-                        .edition(edition)
-                        .homeTeam(homeTeam)
-                        .awayTeam(awayTeam)
+                        .edition(importer.reference(EditionEntity.class, editionId))
+                        .homeTeam(importer.reference(TeamEntity.class, homeTeamId))
+                        .awayTeam(importer.reference(TeamEntity.class, awayTeamId))
                         .matchDate(matchDate)
                         .homeGoals(dto.getHomeGoals())
                         .awayGoals(dto.getAwayGoals())
-                        .status(status)
-                        .events(new ArrayList<>())
+                        .status(MatchStatus.valueOf(dto.getStatus()))
                         .build();
+                importer.persist(match);
+                putUnique(matchIds, matchKey(dto.getHomeTeamName(), dto.getAwayTeamName(), matchDate), match.getId());
+            });
 
-                matchEntities.add(match);
-            }
-            matchRepository.saveAll(matchEntities);
-
-            Map<String, MatchEntity> matchesByKey = matchEntities.stream()
-                    .collect(Collectors.toMap(
-                            m -> matchKey(
-                                    m.getHomeTeam().getName(),
-                                    m.getAwayTeam().getName(),
-                                    m.getMatchDate()
-                            ),
-                            Function.identity()
-                    ));
-
-            InputStream eventsInputStream = new ClassPathResource("seed/match_events.json").getInputStream();
-            List<MatchEventSeedDto> eventDtos = mapper.readValue(eventsInputStream, new TypeReference<>() {});
-
-            List<MatchEventEntity> eventEntities = new ArrayList<>();
-
-            for (MatchEventSeedDto dto : eventDtos) {
+            importer.importArray("match events", open("seed/match_events.json"), MatchEventSeedDto.class, dto -> {
                 LocalDateTime matchDate = LocalDateTime.parse(dto.getMatchDate());
-                MatchEntity match = matchesByKey.get(
-                        matchKey(dto.getHomeTeamName(), dto.getAwayTeamName(), matchDate)
-                );
-                if (match == null) {
+                UUID matchId = matchIds.get(matchKey(dto.getHomeTeamName(), dto.getAwayTeamName(), matchDate));
+                if (matchId == null) {
                     throw new IllegalStateException("Match not found for event seed: " + dto);
                 }
 
-                PlayerEntity primaryPlayer = null;
-                if (dto.getPrimaryPlayer() != null) {
-                    primaryPlayer = playersByKey.get(
-                            playerKey(
-                                    dto.getPrimaryPlayer().getFirstname(),
-                                    dto.getPrimaryPlayer().getLastname(),
-                                    dto.getPrimaryPlayer().getTeamName()
-                            )
-                    );
-                }
-
-                PlayerEntity secondaryPlayer = null;
-                if (dto.getSecondaryPlayer() != null) {
-                    secondaryPlayer = playersByKey.get(
-                            playerKey(
-                                    dto.getSecondaryPlayer().getFirstname(),
-                                    dto.getSecondaryPlayer().getLastname(),
-                                    dto.getSecondaryPlayer().getTeamName()
-                            )
-                    );
-                }
-
-                MatchEventType type = MatchEventType.valueOf(dto.getType());
-
-                MatchEventEntity event = MatchEventEntity.builder()
-                        .match(match)
-                        .type(type)
-                        .primaryPlayer(primaryPlayer)
-                        .secondaryPlayer(secondaryPlayer)
+                importer.persist(MatchEventEntity.builder()
+                        .match(importer.reference(MatchEntity.class, matchId))
+                        .type(MatchEventType.valueOf(dto.getType()))
+                        .primaryPlayer(importer.reference(PlayerEntity.class, playerId(playerIds, dto.getPrimaryPlayer())))
+                        .secondaryPlayer(importer.reference(PlayerEntity.class, playerId(playerIds, dto.getSecondaryPlayer())))
                         .minute(dto.getMinute())
                         .details(dto.getDetails())
-                        .build();
-
-                eventEntities.add(event);
-                match.getEvents().add(event);
-            }
-
-            matchEventRepository.saveAll(eventEntities);
-            matchRepository.saveAll(matchEntities);
+                        .build());
+            });
 
         } catch (Exception e) {
             throw new RuntimeException("Failed to seed database", e);
         }
     }
 
+    private static InputStream open(String path) throws IOException {
+        return new ClassPathResource(path).getInputStream();
+    }
+
+    private static void putUnique(Map<String, UUID> ids, String key, UUID id) {
+        if (ids.putIfAbsent(key, id) != null) {
+            throw new IllegalStateException("Duplicate key in seed data: " + key);
+        }
+    }
+
+    private static UUID playerId(Map<String, UUID> playerIds, PlayerRef ref) {
+        return ref == null ? null : playerIds.get(playerKey(ref.getFirstname(), ref.getLastname(), ref.getTeamName()));
+    }
+
     private static String playerKey(String firstname, String lastname, String teamName) {
         return firstname + "|" + lastname + "|" + teamName;
     }
@@ -0,0 +1,245 @@
+package com.football.backend.services;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.football.backend.dto.DashboardCacheStatsDto;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Edition dashboards kept as ready-to-send JSON, with the ETag they were built for.
+ * <p>
+ * An entry is served as long as its tag is the edition's current one in
+ * {@link ChangeVersions}; otherwise the reader rebuilds it. When an edition
+ * that is cached changes, it is also rebuilt in the background right after the
+ * commit, so polling readers rarely hit a stale entry. Cold editions are only
+ * rebuilt on their next read.
+ * <p>
+ * Rebuilds of an edition are shared: readers that miss while one is running
+ * wait for it rather than loading the dashboard again, as long as it started
+ * from the edition's current version.
+ * <p>
+ * Memory is bounded by the total size of the cached JSON; the least recently
+ * read editions are evicted first.
+ */
+@Slf4j
+@Component
+public class EditionDashboardCache {
+
+    private final EditionDashboardService editionDashboardService;
+    private final ChangeVersions changeVersions;
+    private final ObjectMapper objectMapper;
+    private final long maxBytes;
+
+    private final ExecutorService rebuilder = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "edition-dashboard-rebuild");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final Set<UUID> queued = ConcurrentHashMap.newKeySet();
+    private final Map<UUID, Rebuild> running = new ConcurrentHashMap<>();
+
+    // Access ordered for LRU eviction; guarded by this, as is bytes
+    private final Map<UUID, CachedDashboard> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long bytes;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicLong rebuilds = new AtomicLong();
+    private final AtomicLong failedRebuilds = new AtomicLong();
+    private final AtomicLong rebuildNanos = new AtomicLong();
+    private final AtomicLong rebuildMaxNanos = new AtomicLong();
+
+    @Autowired
+    public EditionDashboardCache(
+            EditionDashboardService editionDashboardService,
+            ChangeVersions changeVersions,
+            ObjectMapper objectMapper,
+            @Value("${edition-dashboard.cache.max-size:64MB}") DataSize maxSize
+    ) {
+        this.editionDashboardService = editionDashboardService;
+        this.changeVersions = changeVersions;
+        this.objectMapper = objectMapper;
+        this.maxBytes = maxSize.toBytes();
+        changeVersions.onEditionChanged(this::scheduleRebuild);
+    }
+
+    /**
+     * The serialized dashboard of the edition with its ETag, rebuilt first when
+     * the cached one is missing or outdated.
+     */
+    public CachedDashboard get(UUID editionId) {
+        CachedDashboard cached = lookup(editionId);
+        if (cached != null && cached.etag().equals(changeVersions.currentTag(ChangeVersions.Scope.EDITION, editionId))) {
+            hits.incrementAndGet();
+            return cached;
+        }
+        misses.incrementAndGet();
+        return rebuildShared(editionId);
+    }
+
+    public DashboardCacheStatsDto getStats() {
+        long hitCount = hits.get();
+        long missCount = misses.get();
+        long rebuildCount = rebuilds.get();
+        int size;
+        long cachedBytes;
+        synchronized (this) {
+            size = entries.size();
+            cachedBytes = bytes;
+        }
+        return new DashboardCacheStatsDto(
+                hitCount,
+                missCount,
+                hitCount + missCount == 0 ? 0 : (double) hitCount / (hitCount + missCount),
+                evictions.get(),
+                rebuildCount,
+                failedRebuilds.get(),
+                rebuildCount == 0 ? 0 : rebuildNanos.get() / 1e6 / rebuildCount,
+                rebuildMaxNanos.get() / 1e6,
+                size,
+                cachedBytes
+        );
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rebuilder.shutdownNow();
+    }
+
+    private void scheduleRebuild(UUID editionId) {
+        if (lookup(editionId) == null || !queued.add(editionId)) {
+            return;
+        }
+        rebuilder.execute(() -> {
+            // Dequeued first, so a change committed during the rebuild queues another one
+            queued.remove(editionId);
+            try {
+                rebuildShared(editionId);
+            } catch (RuntimeException e) {
+                log.warn("Could not rebuild dashboard of edition {}: {}", editionId, e.getMessage());
+                evict(editionId);
+            }
+        });
+    }
+
+    private CachedDashboard rebuildShared(UUID editionId) {
+        // Stamped before loading: a change committed meanwhile makes the entry outdated right away
+        ChangeVersions.Stamp stamp = changeVersions.stamp(ChangeVersions.Scope.EDITION, editionId);
+        Rebuild mine = new Rebuild(stamp, new CompletableFuture<>());
+        Rebuild rebuild = running.compute(editionId,
+                (id, current) -> current != null && current.covers(stamp) ? current : mine);
+        if (rebuild != mine) {
+            return await(rebuild.result());
+        }
+        try {
+            CachedDashboard built = rebuild(editionId, stamp);
+            mine.result().complete(built);
+            return built;
+        } catch (RuntimeException e) {
+            mine.result().completeExceptionally(e);
+            throw e;
+        } finally {
+            running.remove(editionId, mine);
+        }
+    }
+
+    private CachedDashboard rebuild(UUID editionId, ChangeVersions.Stamp stamp) {
+        long started = System.nanoTime();
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(editionDashboardService.getDashboard(editionId));
+            CachedDashboard built = new CachedDashboard(changeVersions.tagOf(stamp), stamp.version(), stamp.reference(), json);
+            store(editionId, built);
+            rebuilds.incrementAndGet();
+            return built;
+        } catch (JsonProcessingException e) {
+            failedRebuilds.incrementAndGet();
+            throw new IllegalStateException("Could not serialize dashboard of edition " + editionId, e);
+        } catch (RuntimeException e) {
+            failedRebuilds.incrementAndGet();
+            throw e;
+        } finally {
+            long elapsed = System.nanoTime() - started;
+            rebuildNanos.addAndGet(elapsed);
+            rebuildMaxNanos.accumulateAndGet(elapsed, Math::max);
+        }
+    }
+
+    private synchronized CachedDashboard lookup(UUID editionId) {
+        return entries.get(editionId);
+    }
+
+    private synchronized void store(UUID editionId, CachedDashboard built) {
+        if (built.json().length > maxBytes) {
+            return;
+        }
+        CachedDashboard current = entries.get(editionId);
+        if (current != null && current.isNewerThan(built)) {
+            // A concurrent rebuild that started later got here first
+            return;
+        }
+        if (current != null) {
+            bytes -= current.json().length;
+        }
+        entries.put(editionId, built);
+        bytes += built.json().length;
+
+        Iterator<CachedDashboard> eldest = entries.values().iterator();
+        while (bytes > maxBytes && eldest.hasNext()) {
+            bytes -= eldest.next().json().length;
+            eldest.remove();
+            evictions.incrementAndGet();
+        }
+    }
+
+    private synchronized void evict(UUID editionId) {
+        CachedDashboard removed = entries.remove(editionId);
+        if (removed != null) {
+            bytes -= removed.json().length;
+        }
+    }
+
+    private static CachedDashboard await(CompletableFuture<CachedDashboard> result) {
+        try {
+            return result.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private record Rebuild(ChangeVersions.Stamp stamp, CompletableFuture<CachedDashboard> result) {
+
+        // Whether it loads the edition as of the other stamp or later
+        boolean covers(ChangeVersions.Stamp other) {
+            return stamp.reference() >= other.reference()
+                    && (other.reserved() || stamp.version() >= other.version());
+        }
+    }
+
+    public record CachedDashboard(String etag, long version, long reference, byte[] json) {
+
+        boolean isNewerThan(CachedDashboard other) {
+            return version > other.version || (version == other.version && reference > other.reference);
+        }
+    }
+}
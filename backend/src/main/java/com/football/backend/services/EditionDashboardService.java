@@ -4,19 +4,19 @@ import com.football.backend.dto.EditionDashboardDto;
 import com.football.backend.dto.MatchListDto;
 import com.football.backend.dto.StandingsEntryDto;
 import com.football.backend.entities.EditionEntity;
-import com.football.backend.mappers.MatchMapper;
+import com.football.backend.exceptions.ResourceNotFoundException;
 import com.football.backend.models.CompetitionStrategy;
-import com.football.backend.models.Match;
+import com.football.backend.models.MatchStatus;
 import com.football.backend.repositories.EditionRepository;
 import com.football.backend.repositories.MatchRepository;
+import com.football.backend.repositories.projections.RoundProgressView;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
-import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -27,13 +27,25 @@ public class EditionDashboardService {
     private final MatchRepository matchRepository;
     private final StandingsService standingsService;
 
-    private final MatchMapper matchMapper;
-
     public EditionDashboardDto getDashboard(UUID editionId) {
 
-        EditionEntity edition = editionRepository.findById(editionId).orElseThrow();
+        EditionEntity edition = editionRepository.findWithCompetitionById(editionId)
+                .orElseThrow(() -> new ResourceNotFoundException("Edition not found with ID: " + editionId));
+
+        // Only the round being played ships with the dashboard; clients fetch the others by number
+        RoundProgressView progress = matchRepository.findRoundProgress(editionId, MatchStatus.FINISHED);
+        int roundCount = progress.getRoundCount() != null ? progress.getRoundCount() : 0;
+        Integer currentRound = progress.getCurrentRound() != null ? progress.getCurrentRound()
+                : roundCount > 0 ? Integer.valueOf(roundCount) : null;
 
-        List<List<MatchListDto>> rounds = groupByMatchDay(editionId);
+        // Rows are projected straight from the query, no entities are loaded. Matches
+        // added outside of the schedule have no round and come last.
+        List<MatchListDto> matches = new ArrayList<>();
+        List<MatchListDto> unscheduled = new ArrayList<>();
+        for (MatchListDto row : matchRepository.findListRowsByEditionIdAndRoundOrUnscheduled(
+                editionId, currentRound != null ? currentRound : 0)) {
+            (row.getRound() != null ? matches : unscheduled).add(row);
+        }
 
         List<StandingsEntryDto> table =
                 edition.getStrategyType() == CompetitionStrategy.KNOCKOUT
@@ -46,31 +58,26 @@ public class EditionDashboardService {
                 edition.getName(),
                 edition.getCompetition().getName(),
                 table,
-                rounds
+                roundCount,
+                currentRound,
+                matches,
+                unscheduled
         );
     }
 
-    private List<List<MatchListDto>> groupByMatchDay(UUID editionId) {
-
-        LocalDateTime tbdDate = LocalDateTime.MAX;
-
-        return matchRepository.findByEditionIdOrderByMatchDateAsc(editionId)
-                .stream()
-                .map(matchMapper::toDomain)
-                .collect(Collectors.groupingBy(
-                        m -> m.getMatchDate() != null ? m.getMatchDate().toLocalDate() : tbdDate,
-
-                        java.util.LinkedHashMap::new,
+    /**
+     * The matches of a single round, read through the (edition_id, round_number) index.
+     */
+    public List<MatchListDto> getRound(UUID editionId, int round) {
+        return matchRepository.findListRowsByEditionIdAndRound(editionId, round);
+    }
 
-                        Collectors.toList()
-                ))
-                .values()
-                .stream()
-                .map(list -> list.stream()
-                        .map(matchMapper::toListDto)
-                        .toList()
-                )
-                .toList();
+    /**
+     * Fails with {@link ResourceNotFoundException} unless the edition exists.
+     */
+    public void requireEdition(UUID editionId) {
+        if (!editionRepository.existsById(editionId)) {
+            throw new ResourceNotFoundException("Edition not found with ID: " + editionId);
+        }
     }
 }
-
@@ -6,9 +6,9 @@ import com.football.backend.entities.EditionEntity;
 import com.football.backend.entities.MatchEntity;
 import com.football.backend.entities.TeamEntity;
 import com.football.backend.mappers.EditionMapper;
-import com.football.backend.mappers.MatchMapper;
 import com.football.backend.mappers.TeamMapper;
 import com.football.backend.models.*;
+import com.football.backend.models.strategy.Fixtures;
 import com.football.backend.models.strategy.KnockoutStrategy;
 import com.football.backend.models.strategy.RobinRoundDoubleStrategy;
 import com.football.backend.models.strategy.RobinRoundStrategy;
@@ -22,9 +22,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
-import java.util.Map;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -35,6 +33,7 @@ public class EditionService {
     private final TeamRepository teamRepository;
     private final StandingsService standingsService;
     private final MatchRepository matchRepository;
+    private final ChangeVersions changeVersions;
 
     private final KnockoutStrategy knockoutStrategy;
     private final RobinRoundStrategy robinRoundStrategy;
@@ -42,7 +41,6 @@ public class EditionService {
 
     private final EditionMapper editionMapper;
     private final TeamMapper teamMapper;
-    private final MatchMapper matchMapper;
 
     @Transactional
     public UUID createEdition(CreateEditionDto dto) {
@@ -58,40 +56,31 @@ public class EditionService {
         editionEntity = editionRepository.save(editionEntity); // Saved & Managed
 
         List<TeamEntity> teams = teamRepository.findAllById(dto.getTeamsIds());
-        Map<UUID, TeamEntity> teamMap = teams.stream()
-                .collect(Collectors.toMap(TeamEntity::getId, t -> t));
 
         Strategy strategy = resolveStrategy(dto.getStrategyType());
-        List<List<Match>> generatedRounds = strategy.generateStrategy(
-                editionMapper.toDomain(editionEntity),
+        Fixtures fixtures = strategy.generateFixtures(
                 teams.stream()
                         .map(teamMapper::toDomain)
-                        .collect(Collectors.toList())
+                        .toList()
         );
+        if (fixtures == null) {
+            throw new IllegalArgumentException(
+                    dto.getStrategyType() + " cannot schedule " + teams.size() + " teams");
+        }
 
         final EditionEntity savedEdition = editionEntity;
 
-        List<MatchEntity> matchesToSave = generatedRounds.stream()
-                .flatMap(List::stream)
-                .map(matchModel -> {
-                    MatchEntity entity = matchMapper.toEntity(matchModel);
-
-                    entity.setId(null);
-
-                    entity.setEdition(savedEdition);
-
-                    if (matchModel.getHomeTeam() != null) {
-                        entity.setHomeTeam(teamMap.get(matchModel.getHomeTeam().getId()));
-                    }
-                    if (matchModel.getAwayTeam() != null) {
-                        entity.setAwayTeam(teamMap.get(matchModel.getAwayTeam().getId()));
-                    }
-
-                    return entity;
-                })
-                .collect(Collectors.toList());
-
-        matchRepository.saveAll(matchesToSave);
+        // Fixtures refer to teams by their index in `teams`; entities are built one at a time as they are saved
+        fixtures.stream((round, slot, home, away) -> MatchEntity.builder()
+                        .edition(savedEdition)
+                        .homeTeam(teams.get(home))
+                        .awayTeam(teams.get(away))
+                        .matchDate(fixtures.matchDate(round))
+                        .round(round + 1)
+                        .slot(slot)
+                        .status(MatchStatus.SCHEDULED)
+                        .build())
+                .forEach(matchRepository::save);
 
         if (dto.getStrategyType() != CompetitionStrategy.KNOCKOUT) {
             standingsService.initializeStandings(savedEdition, teams);
@@ -101,17 +90,11 @@ public class EditionService {
     }
 
     public List<Edition> getAllEditions() {
-        return editionRepository.findAll()
-                .stream()
-                .map(editionMapper::toDomain)
-                .collect(Collectors.toList());
+        return editionRepository.findAllViews();
     }
 
     public List<Edition> getEditionsByCompetitionId(UUID competitionId) {
-        return editionRepository.findByCompetition_Id(competitionId)
-                .stream()
-                .map(editionMapper::toDomain)
-                .collect(Collectors.toList());
+        return editionRepository.findViewsByCompetitionId(competitionId);
     }
 
     @Transactional
@@ -122,6 +105,7 @@ public class EditionService {
         edition.setName(dto.getName());
 
         editionRepository.save(edition);
+        changeVersions.editionChanged(id);
     }
 
     @Transactional
@@ -129,7 +113,10 @@ public class EditionService {
         if (!editionRepository.existsById(id)) {
             throw new RuntimeException("Cannot delete. Edition not found with ID: " + id);
         }
+        List<UUID> matchIds = matchRepository.findIdsByEditionId(id);
         editionRepository.deleteById(id);
+        standingsService.evictStandings(id);
+        changeVersions.editionDeleted(id, matchIds);
     }
 
     private Strategy resolveStrategy(CompetitionStrategy type) {
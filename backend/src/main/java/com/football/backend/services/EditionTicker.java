@@ -0,0 +1,274 @@
+package com.football.backend.services;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.football.backend.dto.MatchScoreDto;
+import com.football.backend.dto.TickerFrameDto;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Live score ticker of every match in an edition, pushed over WebSockets.
+ * <p>
+ * Score and status changes are collected per edition and flushed on a fixed
+ * tick: each client gets at most one frame per tick holding the latest state of
+ * the matches that changed. Clients that keep up share one frame serialized per
+ * edition and tick. A client still busy with its previous frame collects the
+ * changes in its own backlog instead, where a newer state of a match replaces
+ * the older one; should that backlog outgrow its bound, it is dropped and the
+ * client is told to resync. Sends run on virtual threads, at most one per
+ * connection at a time, and a connection stuck in a send for too long is closed.
+ */
+@Slf4j
+@Component
+public class EditionTicker {
+
+    private final ObjectMapper objectMapper;
+    private final int maxPending;
+    private final long sendTimeoutNanos;
+
+    private final ScheduledExecutorService clock = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "edition-ticker");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor();
+
+    // Changes since the last tick, latest state per match
+    private final Map<UUID, Map<UUID, MatchScoreDto>> changes = new ConcurrentHashMap<>();
+    private final Map<UUID, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final Set<Subscriber> backlogged = ConcurrentHashMap.newKeySet();
+
+    private long tick;
+
+    @Autowired
+    public EditionTicker(
+            ObjectMapper objectMapper,
+            @Value("${edition-ticker.interval:1s}") Duration interval,
+            @Value("${edition-ticker.max-pending:256}") int maxPending,
+            @Value("${edition-ticker.send-timeout:10s}") Duration sendTimeout
+    ) {
+        this.objectMapper = objectMapper;
+        this.maxPending = maxPending;
+        this.sendTimeoutNanos = sendTimeout.toNanos();
+        clock.scheduleAtFixedRate(this::tick, interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    public void subscribe(UUID editionId, WebSocketSession session) {
+        subscribers.computeIfAbsent(editionId, id -> ConcurrentHashMap.newKeySet())
+                .add(new Subscriber(editionId, session));
+    }
+
+    public void unsubscribe(UUID editionId, WebSocketSession session) {
+        subscribers.computeIfPresent(editionId, (id, audience) -> {
+            audience.removeIf(subscriber -> subscriber.session == session);
+            return audience.isEmpty() ? null : audience;
+        });
+    }
+
+    public int subscriberCount(UUID editionId) {
+        Set<Subscriber> audience = subscribers.get(editionId);
+        return audience == null ? 0 : audience.size();
+    }
+
+    /**
+     * Queues the match's new score and status for the next tick once the
+     * current transaction commits (or right away when there is none).
+     */
+    public void publishAfterCommit(UUID editionId, MatchScoreDto score) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            record(editionId, score);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                record(editionId, score);
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        clock.shutdownNow();
+        senders.shutdownNow();
+    }
+
+    private void record(UUID editionId, MatchScoreDto score) {
+        if (!subscribers.containsKey(editionId)) {
+            return;
+        }
+        changes.compute(editionId, (id, pending) -> {
+            Map<UUID, MatchScoreDto> latest = pending != null ? pending : new LinkedHashMap<>();
+            latest.put(score.getMatchId(), score);
+            return latest;
+        });
+    }
+
+    // Runs on the clock thread only.
+    void tick() {
+        try {
+            tick++;
+            long now = System.nanoTime();
+
+            for (UUID editionId : changes.keySet()) {
+                Map<UUID, MatchScoreDto> diff = changes.remove(editionId);
+                Set<Subscriber> audience = subscribers.get(editionId);
+                if (diff == null || audience == null) {
+                    continue;
+                }
+                TextMessage shared = null;
+                for (Subscriber subscriber : audience) {
+                    Outcome outcome = subscriber.offer(diff, now);
+                    if (outcome == Outcome.SEND_SHARED) {
+                        if (shared == null) {
+                            shared = frame(new TickerFrameDto(editionId, false, diff.values()));
+                        }
+                        send(subscriber, shared);
+                    } else if (outcome == Outcome.SEND_BACKLOG) {
+                        send(subscriber, subscriber.drainBacklog());
+                    } else {
+                        backlogged.add(subscriber);
+                    }
+                }
+            }
+
+            // Slow clients that caught up since get their backlog, still one frame per tick
+            for (Iterator<Subscriber> it = backlogged.iterator(); it.hasNext(); ) {
+                Subscriber subscriber = it.next();
+                if (!subscriber.session.isOpen()) {
+                    it.remove();
+                    continue;
+                }
+                if (subscriber.lastFrameTick == tick) {
+                    continue;
+                }
+                Outcome outcome = subscriber.offer(Map.of(), now);
+                if (outcome == Outcome.SEND_BACKLOG) {
+                    it.remove();
+                    send(subscriber, subscriber.drainBacklog());
+                } else if (outcome == Outcome.SEND_SHARED) {
+                    // nothing left to send
+                    subscriber.sendDone();
+                    it.remove();
+                }
+            }
+        } catch (RuntimeException e) {
+            // Keep ticking: an exception would cancel the schedule
+            log.error("Edition ticker tick failed", e);
+        }
+    }
+
+    private void send(Subscriber subscriber, TextMessage frame) {
+        subscriber.lastFrameTick = tick;
+        senders.execute(() -> {
+            try {
+                subscriber.session.sendMessage(frame);
+            } catch (IOException | IllegalStateException e) {
+                log.debug("Dropping edition ticker subscriber: {}", e.getMessage());
+                unsubscribe(subscriber.editionId, subscriber.session);
+            } finally {
+                subscriber.sendDone();
+            }
+        });
+    }
+
+    private TextMessage frame(TickerFrameDto frame) {
+        try {
+            return new TextMessage(objectMapper.writeValueAsString(frame));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize ticker frame", e);
+        }
+    }
+
+    private enum Outcome {
+        // The client is up to date: it gets the frame shared by the whole edition
+        SEND_SHARED,
+        // The client has a backlog, now merged with the new changes
+        SEND_BACKLOG,
+        // The client is still sending; the changes wait in its backlog
+        DEFERRED
+    }
+
+    private final class Subscriber {
+        private final UUID editionId;
+        private final WebSocketSession session;
+
+        // Guarded by this
+        private final Map<UUID, MatchScoreDto> backlog = new LinkedHashMap<>();
+        private boolean resync;
+        private boolean sending;
+        private long sendStarted;
+
+        // Only touched by the clock thread
+        private long lastFrameTick = -1;
+
+        private Subscriber(UUID editionId, WebSocketSession session) {
+            this.editionId = editionId;
+            this.session = session;
+        }
+
+        synchronized Outcome offer(Map<UUID, MatchScoreDto> diff, long now) {
+            if (sending) {
+                merge(diff);
+                if (now - sendStarted > sendTimeoutNanos) {
+                    closeStuck();
+                }
+                return Outcome.DEFERRED;
+            }
+            sending = true;
+            sendStarted = now;
+            if (backlog.isEmpty() && !resync) {
+                return Outcome.SEND_SHARED;
+            }
+            merge(diff);
+            return Outcome.SEND_BACKLOG;
+        }
+
+        synchronized TextMessage drainBacklog() {
+            TickerFrameDto frame = resync
+                    ? new TickerFrameDto(editionId, true, List.of())
+                    : new TickerFrameDto(editionId, false, new ArrayList<>(backlog.values()));
+            backlog.clear();
+            resync = false;
+            return frame(frame);
+        }
+
+        synchronized void sendDone() {
+            sending = false;
+        }
+
+        private void merge(Map<UUID, MatchScoreDto> diff) {
+            if (resync) {
+                return;
+            }
+            backlog.putAll(diff);
+            if (backlog.size() > maxPending) {
+                backlog.clear();
+                resync = true;
+            }
+        }
+
+        private void closeStuck() {
+            try {
+                session.close(CloseStatus.SESSION_NOT_RELIABLE);
+            } catch (IOException e) {
+                log.debug("Could not close stuck edition ticker session: {}", e.getMessage());
+            }
+            unsubscribe(editionId, session);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.football.backend.services;
+
+import com.football.backend.models.Team;
+import com.football.backend.models.decider.Decider;
+import com.football.backend.models.rating.Elo;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Decides ties from the teams' Elo ratings: the better rated team goes through
+ * with the chance Elo expects it to win. Knockout pairings are drawn, so no
+ * home advantage is given.
+ */
+@Service
+@RequiredArgsConstructor
+public class EloDecider implements Decider {
+
+    private final PowerRankings powerRankings;
+
+    @Override
+    public void prepare(List<Team> teams) {
+        // Loads every rating at once if they are not in memory yet
+        powerRankings.getRankings();
+    }
+
+    @Override
+    public Team decideWinner(Team team1, Team team2) {
+        double expected = Elo.expected(powerRankings.ratingOf(team1.getId()), powerRankings.ratingOf(team2.getId()));
+        return ThreadLocalRandom.current().nextDouble() < expected ? team1 : team2;
+    }
+}
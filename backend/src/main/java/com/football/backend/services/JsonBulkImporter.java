@@ -0,0 +1,100 @@
+package com.football.backend.services;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Streams JSON arrays of rows and persists the entities built from them in
+ * fixed-size batches. The persistence context is flushed and cleared after
+ * every batch, so neither parsed rows nor managed entities pile up; rows refer
+ * to earlier ones through ids the caller keeps and {@link #reference}.
+ * <p>
+ * One instance serves one import, inside a single transaction.
+ */
+@Slf4j
+public class JsonBulkImporter {
+
+    private static final long PROGRESS_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(5);
+
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final int batchSize;
+
+    private int pending;
+
+    public JsonBulkImporter(EntityManager entityManager, ObjectMapper objectMapper, int batchSize) {
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Reads the array one element at a time and hands each row to {@code rowHandler},
+     * logging rows per second while it goes.
+     * @return The number of rows read.
+     */
+    public <T> long importArray(String name, InputStream json, Class<T> rowType, Consumer<T> rowHandler)
+            throws IOException {
+        long start = System.nanoTime();
+        long lastReport = start;
+        long rows = 0;
+
+        try (JsonParser parser = objectMapper.getFactory().createParser(json)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IllegalStateException(name + " is not a JSON array");
+            }
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                rowHandler.accept(parser.readValueAs(rowType));
+                rows++;
+
+                long now = System.nanoTime();
+                if (now - lastReport >= PROGRESS_INTERVAL_NANOS) {
+                    log.info("Importing {}: {} rows ({} rows/s)", name, rows, rate(rows, now - start));
+                    lastReport = now;
+                }
+            }
+        }
+        flush();
+
+        long elapsed = System.nanoTime() - start;
+        log.info("Imported {} {} rows in {} ms ({} rows/s)",
+                rows, name, TimeUnit.NANOSECONDS.toMillis(elapsed), rate(rows, elapsed));
+        return rows;
+    }
+
+    /**
+     * Queues the entity for insertion, writing out the batch once it is full.
+     */
+    public void persist(Object entity) {
+        entityManager.persist(entity);
+        if (++pending >= batchSize) {
+            flush();
+        }
+    }
+
+    /**
+     * A reference to an already imported row, without loading it.
+     */
+    public <E> E reference(Class<E> type, UUID id) {
+        return id == null ? null : entityManager.getReference(type, id);
+    }
+
+    private void flush() {
+        entityManager.flush();
+        entityManager.clear();
+        pending = 0;
+    }
+
+    private static long rate(long rows, long elapsedNanos) {
+        return elapsedNanos == 0 ? rows : rows * TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+    }
+}
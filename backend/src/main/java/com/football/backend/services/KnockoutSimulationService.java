@@ -0,0 +1,122 @@
+package com.football.backend.services;
+
+import com.football.backend.dto.KnockoutOddsDto;
+import com.football.backend.entities.EditionEntity;
+import com.football.backend.exceptions.ResourceNotFoundException;
+import com.football.backend.models.CompetitionStrategy;
+import com.football.backend.models.TeamPower;
+import com.football.backend.models.simulation.KnockoutSimulator;
+import com.football.backend.repositories.EditionRepository;
+import com.football.backend.repositories.MatchRepository;
+import com.football.backend.repositories.projections.FixtureTeamsView;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Odds of every team of a knockout edition, from replaying its draw many times
+ * with {@link KnockoutSimulator}. Everything the simulation needs is loaded
+ * once up front; the iterations themselves never touch the database.
+ */
+@Service
+public class KnockoutSimulationService {
+
+    private final EditionRepository editionRepository;
+    private final MatchRepository matchRepository;
+    private final TeamPowerService teamPowerService;
+    private final ForkJoinPool pool;
+    private final long maxIterations;
+
+    @Autowired
+    public KnockoutSimulationService(
+            EditionRepository editionRepository,
+            MatchRepository matchRepository,
+            TeamPowerService teamPowerService,
+            ForkJoinPool simulationPool,
+            @Value("${simulation.max-iterations:10000000}") long maxIterations
+    ) {
+        this.editionRepository = editionRepository;
+        this.matchRepository = matchRepository;
+        this.teamPowerService = teamPowerService;
+        this.pool = simulationPool;
+        this.maxIterations = maxIterations;
+    }
+
+    /**
+     * @param seed Seed of the simulation, or null for a random one.
+     */
+    public KnockoutOddsDto simulate(UUID editionId, long iterations, Long seed) {
+        if (iterations < 1 || iterations > maxIterations) {
+            throw new IllegalArgumentException("Iterations must be between 1 and " + maxIterations);
+        }
+        EditionEntity edition = editionRepository.findById(editionId)
+                .orElseThrow(() -> new ResourceNotFoundException("Edition not found with ID: " + editionId));
+        if (edition.getStrategyType() != CompetitionStrategy.KNOCKOUT) {
+            throw new IllegalArgumentException("Edition " + editionId + " is not a knockout");
+        }
+
+        Map<UUID, String> seats = drawOrder(editionId);
+        if (seats.size() < 2) {
+            throw new IllegalArgumentException("Edition " + editionId + " has no bracket to simulate");
+        }
+        List<UUID> teamIds = new ArrayList<>(seats.keySet());
+        Map<UUID, TeamPower> powers = teamPowerService.evaluateTeams(teamIds);
+
+        double[][] criteria = new double[teamIds.size()][MatchStrategyService.CRITERIA];
+        int[] bracket = new int[teamIds.size()];
+        for (int team = 0; team < teamIds.size(); team++) {
+            TeamPower power = powers.get(teamIds.get(team));
+            for (int c = 0; c < MatchStrategyService.CRITERIA; c++) {
+                criteria[team][c] = MatchStrategyService.score(power, c);
+            }
+            bracket[team] = team;
+        }
+
+        long actualSeed = seed != null ? seed : ThreadLocalRandom.current().nextLong();
+        long started = System.nanoTime();
+        KnockoutSimulator.Result result = new KnockoutSimulator(criteria).simulate(bracket, iterations, actualSeed, pool);
+        double elapsedMillis = (System.nanoTime() - started) / 1e6;
+
+        List<KnockoutOddsDto.TeamOddsDto> odds = new ArrayList<>(teamIds.size());
+        for (int team = 0; team < teamIds.size(); team++) {
+            List<Double> reachRound = new ArrayList<>(result.rounds());
+            for (int round = 0; round < result.rounds(); round++) {
+                reachRound.add(result.reachProbability(team, round));
+            }
+            UUID teamId = teamIds.get(team);
+            odds.add(new KnockoutOddsDto.TeamOddsDto(teamId, seats.get(teamId), reachRound, result.winProbability(team)));
+        }
+        odds.sort(Comparator.comparingDouble(KnockoutOddsDto.TeamOddsDto::getWin).reversed()
+                .thenComparing(KnockoutOddsDto.TeamOddsDto::getTeamName, Comparator.nullsLast(Comparator.naturalOrder())));
+
+        return new KnockoutOddsDto(editionId, iterations, actualSeed, result.rounds(), elapsedMillis, odds);
+    }
+
+    /**
+     * Team ids and names in draw order: the first round pairs neighbours, and
+     * the team left out of it, if any, comes last as in {@code KnockoutStrategy}.
+     * That team goes through until the round the others are even again, so it
+     * is seated at its first appearance, whichever round that is.
+     */
+    private Map<UUID, String> drawOrder(UUID editionId) {
+        Map<UUID, String> seats = new LinkedHashMap<>();
+        List<FixtureTeamsView> fixtures = matchRepository.findDrawnFixtures(editionId);
+        if (fixtures.isEmpty() || fixtures.get(0).getRound() != 1) {
+            return seats;
+        }
+        for (FixtureTeamsView fixture : fixtures) {
+            seats.putIfAbsent(fixture.getHomeTeamId(), fixture.getHomeTeamName());
+            seats.putIfAbsent(fixture.getAwayTeamId(), fixture.getAwayTeamName());
+        }
+        return seats;
+    }
+}
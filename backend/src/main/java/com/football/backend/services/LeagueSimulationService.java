@@ -0,0 +1,181 @@
+package com.football.backend.services;
+
+import com.football.backend.dto.LeagueOddsDto;
+import com.football.backend.dto.StandingsEntryDto;
+import com.football.backend.entities.EditionEntity;
+import com.football.backend.exceptions.ResourceNotFoundException;
+import com.football.backend.models.CompetitionStrategy;
+import com.football.backend.models.MatchStatus;
+import com.football.backend.models.TeamPower;
+import com.football.backend.models.simulation.LeagueSimulator;
+import com.football.backend.repositories.EditionRepository;
+import com.football.backend.repositories.MatchRepository;
+import com.football.backend.repositories.projections.FixtureTeamsView;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Final-position odds of the teams of a league edition, from playing its
+ * remaining fixtures many times with {@link LeagueSimulator} on top of the
+ * current standings. Team strengths are their total power.
+ * <p>
+ * Results are kept per edition, tagged with the edition's version in
+ * {@link ChangeVersions}: they are served again until a result, a fixture or
+ * the edition itself changes.
+ */
+@Service
+public class LeagueSimulationService {
+
+    private static final int TOP_FOUR = 4;
+
+    private final EditionRepository editionRepository;
+    private final MatchRepository matchRepository;
+    private final StandingsService standingsService;
+    private final TeamPowerService teamPowerService;
+    private final ChangeVersions changeVersions;
+    private final ForkJoinPool pool;
+    private final long maxIterations;
+
+    // Access ordered for LRU eviction; guarded by itself
+    private final Map<UUID, CachedOdds> cache;
+
+    @Autowired
+    public LeagueSimulationService(
+            EditionRepository editionRepository,
+            MatchRepository matchRepository,
+            StandingsService standingsService,
+            TeamPowerService teamPowerService,
+            ChangeVersions changeVersions,
+            ForkJoinPool simulationPool,
+            @Value("${simulation.max-iterations:10000000}") long maxIterations,
+            @Value("${league-simulation.cache.max-size:128}") int cacheSize
+    ) {
+        this.editionRepository = editionRepository;
+        this.matchRepository = matchRepository;
+        this.standingsService = standingsService;
+        this.teamPowerService = teamPowerService;
+        this.changeVersions = changeVersions;
+        this.pool = simulationPool;
+        this.maxIterations = maxIterations;
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<UUID, CachedOdds> eldest) {
+                return size() > cacheSize;
+            }
+        };
+    }
+
+    /**
+     * @param seed Seed of the simulation, or null for any; a cached result for
+     *             the current version is then served whatever its seed.
+     */
+    public LeagueOddsDto simulate(UUID editionId, long iterations, Long seed) {
+        if (iterations < 1 || iterations > maxIterations) {
+            throw new IllegalArgumentException("Iterations must be between 1 and " + maxIterations);
+        }
+        CachedOdds cached;
+        synchronized (cache) {
+            cached = cache.get(editionId);
+        }
+        if (cached != null
+                && cached.etag().equals(changeVersions.currentTag(ChangeVersions.Scope.EDITION, editionId))
+                && cached.odds().getIterations() == iterations
+                && (seed == null || seed == cached.odds().getSeed())) {
+            return cached.odds();
+        }
+
+        // Stamped before loading: a change committed meanwhile makes the result outdated right away
+        ChangeVersions.Stamp stamp = changeVersions.stamp(ChangeVersions.Scope.EDITION, editionId);
+        LeagueOddsDto odds = run(editionId, iterations, seed != null ? seed : ThreadLocalRandom.current().nextLong());
+        synchronized (cache) {
+            cache.put(editionId, new CachedOdds(changeVersions.tagOf(stamp), odds));
+        }
+        return odds;
+    }
+
+    private LeagueOddsDto run(UUID editionId, long iterations, long seed) {
+        EditionEntity edition = editionRepository.findById(editionId)
+                .orElseThrow(() -> new ResourceNotFoundException("Edition not found with ID: " + editionId));
+        if (edition.getStrategyType() == CompetitionStrategy.KNOCKOUT) {
+            throw new IllegalArgumentException("Edition " + editionId + " is a knockout, it has no table");
+        }
+
+        List<StandingsEntryDto> table = standingsService.getStandingsSnapshot(editionId).getTable();
+        if (table.isEmpty()) {
+            throw new IllegalArgumentException("Edition " + editionId + " has no standings to simulate");
+        }
+        int teams = table.size();
+        Map<UUID, Integer> ordinals = new HashMap<>();
+        List<UUID> teamIds = new ArrayList<>(teams);
+        int[] points = new int[teams];
+        int[] goalDifference = new int[teams];
+        int[] goalsFor = new int[teams];
+        for (int team = 0; team < teams; team++) {
+            StandingsEntryDto entry = table.get(team);
+            ordinals.put(entry.getTeamId(), team);
+            teamIds.add(entry.getTeamId());
+            points[team] = entry.getPoIntegers();
+            goalDifference[team] = entry.getGoalDifference();
+            goalsFor[team] = entry.getGoalsFor();
+        }
+
+        Map<UUID, TeamPower> powers = teamPowerService.evaluateTeams(teamIds);
+        double[] strength = new double[teams];
+        for (int team = 0; team < teams; team++) {
+            strength[team] = powers.get(teamIds.get(team)).getTotalPower();
+        }
+
+        // Matches not finished yet count as still to play; anything outside the table is skipped
+        List<FixtureTeamsView> fixtures = matchRepository.findRemainingFixtures(editionId, MatchStatus.FINISHED);
+        int[] home = new int[fixtures.size()];
+        int[] away = new int[fixtures.size()];
+        int remaining = 0;
+        for (FixtureTeamsView fixture : fixtures) {
+            Integer h = ordinals.get(fixture.getHomeTeamId());
+            Integer a = ordinals.get(fixture.getAwayTeamId());
+            if (h != null && a != null) {
+                home[remaining] = h;
+                away[remaining] = a;
+                remaining++;
+            }
+        }
+
+        long started = System.nanoTime();
+        LeagueSimulator simulator = new LeagueSimulator(points, goalDifference, goalsFor, strength,
+                Arrays.copyOf(home, remaining), Arrays.copyOf(away, remaining));
+        LeagueSimulator.Result result = simulator.simulate(iterations, seed, pool);
+        double elapsedMillis = (System.nanoTime() - started) / 1e6;
+
+        List<LeagueOddsDto.TeamPositionOddsDto> odds = new ArrayList<>(teams);
+        for (int team = 0; team < teams; team++) {
+            List<Double> positions = new ArrayList<>(teams);
+            for (int position = 0; position < teams; position++) {
+                positions.add(result.positionProbability(team, position));
+            }
+            StandingsEntryDto entry = table.get(team);
+            odds.add(new LeagueOddsDto.TeamPositionOddsDto(
+                    entry.getTeamId(),
+                    entry.getTeamName(),
+                    entry.getPoIntegers(),
+                    result.averagePoints(team),
+                    result.positionProbability(team, 0),
+                    result.topProbability(team, TOP_FOUR),
+                    positions));
+        }
+        return new LeagueOddsDto(editionId, iterations, seed, remaining, elapsedMillis, odds);
+    }
+
+    private record CachedOdds(String etag, LeagueOddsDto odds) {
+    }
+}
@@ -0,0 +1,320 @@
+package com.football.backend.services;
+
+import com.football.backend.dto.MatchEventAckDto;
+import com.football.backend.dto.MatchEventCreateRequest;
+import com.football.backend.dto.MatchEventDto;
+import com.football.backend.entities.MatchEntity;
+import com.football.backend.entities.MatchEventEntity;
+import com.football.backend.entities.PlayerEntity;
+import com.football.backend.models.MatchEventType;
+import com.football.backend.repositories.MatchRepository;
+import com.football.backend.repositories.PlayerRepository;
+import com.football.backend.repositories.projections.PlayerRefView;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Group-commit path for match events, meant for feeds replaying a backlog.
+ * <p>
+ * Events are queued in a bounded buffer and written by a single thread in
+ * groups: everything that arrived within a short linger, up to a batch size,
+ * goes into one transaction. The group is partitioned by match; matches and
+ * players are loaded with one query each, the events are inserted in JDBC
+ * batches and every match gets one score update however many goals it had.
+ * One writer keeps the events of a match in arrival order.
+ * <p>
+ * Each event is acknowledged on its own future once its group commits, or
+ * failed with the reason it was rejected. Should a group fail to commit, its
+ * matches are retried one transaction each so only the failing one is lost.
+ */
+@Slf4j
+@Component
+public class MatchEventIngestor {
+
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final MatchRepository matchRepository;
+    private final PlayerRepository playerRepository;
+    private final MatchScoreUpdater matchScoreUpdater;
+    private final MatchStreamBroadcaster matchStreamBroadcaster;
+    private final ChangeVersions changeVersions;
+    private final int batchSize;
+    private final long lingerNanos;
+    private final long offerTimeoutMillis;
+
+    private final BlockingQueue<Pending> queue;
+    private final Thread writer;
+
+    @Autowired
+    public MatchEventIngestor(
+            EntityManager entityManager,
+            PlatformTransactionManager transactionManager,
+            MatchRepository matchRepository,
+            PlayerRepository playerRepository,
+            MatchScoreUpdater matchScoreUpdater,
+            MatchStreamBroadcaster matchStreamBroadcaster,
+            ChangeVersions changeVersions,
+            @Value("${match-event-ingest.queue-capacity:10000}") int queueCapacity,
+            @Value("${match-event-ingest.batch-size:500}") int batchSize,
+            @Value("${match-event-ingest.linger:5ms}") Duration linger,
+            @Value("${match-event-ingest.offer-timeout:100ms}") Duration offerTimeout
+    ) {
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.matchRepository = matchRepository;
+        this.playerRepository = playerRepository;
+        this.matchScoreUpdater = matchScoreUpdater;
+        this.matchStreamBroadcaster = matchStreamBroadcaster;
+        this.changeVersions = changeVersions;
+        this.batchSize = batchSize;
+        this.lingerNanos = linger.toNanos();
+        this.offerTimeoutMillis = offerTimeout.toMillis();
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+
+        this.writer = new Thread(this::run, "match-event-ingest");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /**
+     * Queues the event; the future completes once it is committed. When the
+     * buffer stays full for the offer timeout the event is refused right away.
+     */
+    public CompletableFuture<MatchEventDto> submit(MatchEventCreateRequest request) {
+        Pending pending = new Pending(request);
+        try {
+            if (!queue.offer(pending, offerTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                pending.result.completeExceptionally(new IllegalStateException("Event ingestion queue is full"));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            pending.result.completeExceptionally(new IllegalStateException("Interrupted while queueing event"));
+        }
+        return pending.result;
+    }
+
+    /**
+     * Queues every event in order and acknowledges each of them, in request order,
+     * once all are settled.
+     */
+    public CompletableFuture<List<MatchEventAckDto>> submitAll(List<MatchEventCreateRequest> requests) {
+        List<CompletableFuture<MatchEventDto>> results = requests.stream().map(this::submit).toList();
+        return CompletableFuture.allOf(results.toArray(CompletableFuture[]::new))
+                .handle((ignored, error) -> {
+                    List<MatchEventAckDto> acks = new ArrayList<>(results.size());
+                    for (int i = 0; i < results.size(); i++) {
+                        CompletableFuture<MatchEventDto> result = results.get(i);
+                        try {
+                            acks.add(new MatchEventAckDto(i, result.join(), null));
+                        } catch (CompletionException e) {
+                            acks.add(new MatchEventAckDto(i, null, e.getCause().getMessage()));
+                        }
+                    }
+                    return acks;
+                });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        writer.interrupt();
+    }
+
+    private static final class Pending {
+        private final MatchEventCreateRequest request;
+        private final CompletableFuture<MatchEventDto> result = new CompletableFuture<>();
+
+        // Outcome within the current transaction attempt
+        private MatchEventDto event;
+        private String error;
+
+        private Pending(MatchEventCreateRequest request) {
+            this.request = request;
+        }
+
+        void reset() {
+            event = null;
+            error = null;
+        }
+
+        void settle() {
+            if (error != null) {
+                result.completeExceptionally(new IllegalArgumentException(error));
+            } else {
+                result.complete(event);
+            }
+        }
+    }
+
+    private void run() {
+        List<Pending> group = new ArrayList<>(batchSize);
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                group.add(queue.take());
+                long deadline = System.nanoTime() + lingerNanos;
+                while (group.size() < batchSize) {
+                    queue.drainTo(group, batchSize - group.size());
+                    long wait = deadline - System.nanoTime();
+                    if (group.size() >= batchSize || wait <= 0) {
+                        break;
+                    }
+                    Pending next = queue.poll(wait, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    group.add(next);
+                }
+                commit(group);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (RuntimeException e) {
+                log.error("Match event group of {} failed", group.size(), e);
+                group.forEach(pending -> pending.result.completeExceptionally(e));
+            } finally {
+                group.clear();
+            }
+        }
+
+        List<Pending> left = new ArrayList<>();
+        queue.drainTo(left);
+        left.forEach(pending -> pending.result.completeExceptionally(new IllegalStateException("Shutting down")));
+    }
+
+    private void commit(List<Pending> group) {
+        Map<UUID, List<Pending>> byMatch = new LinkedHashMap<>();
+        for (Pending pending : group) {
+            if (pending.request.getMatchId() == null) {
+                pending.error = "Match not found";
+                pending.settle();
+            } else {
+                byMatch.computeIfAbsent(pending.request.getMatchId(), id -> new ArrayList<>()).add(pending);
+            }
+        }
+        if (byMatch.isEmpty()) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> write(byMatch));
+            byMatch.values().forEach(partition -> partition.forEach(Pending::settle));
+        } catch (RuntimeException e) {
+            log.warn("Match event group of {} rolled back, retrying match by match", group.size(), e);
+            byMatch.forEach((matchId, partition) -> {
+                partition.forEach(Pending::reset);
+                try {
+                    transactionTemplate.executeWithoutResult(status -> write(Map.of(matchId, partition)));
+                    partition.forEach(Pending::settle);
+                } catch (RuntimeException matchError) {
+                    partition.forEach(pending -> pending.result.completeExceptionally(matchError));
+                }
+            });
+        }
+    }
+
+    private void write(Map<UUID, List<Pending>> byMatch) {
+        Map<UUID, MatchEntity> matches = matchRepository.findAllById(byMatch.keySet()).stream()
+                .collect(Collectors.toMap(MatchEntity::getId, Function.identity()));
+
+        Set<UUID> playerIds = new HashSet<>();
+        byMatch.values().forEach(partition -> partition.forEach(pending -> {
+            if (pending.request.getPrimaryPlayerId() != null) playerIds.add(pending.request.getPrimaryPlayerId());
+            if (pending.request.getSecondaryPlayerId() != null) playerIds.add(pending.request.getSecondaryPlayerId());
+        }));
+        Map<UUID, PlayerRefView> players = playerIds.isEmpty() ? Collections.emptyMap() : playerRepository.findRefsByIds(playerIds)
+                .stream()
+                .collect(Collectors.toMap(PlayerRefView::getPlayerId, Function.identity()));
+
+        byMatch.forEach((matchId, partition) -> {
+            MatchEntity match = matches.get(matchId);
+            int homeGoals = 0;
+            int awayGoals = 0;
+            int accepted = 0;
+            for (Pending pending : partition) {
+                MatchEventCreateRequest request = pending.request;
+                MatchEventType type = parseType(request.getType());
+                PlayerRefView primary = players.get(request.getPrimaryPlayerId());
+                PlayerRefView secondary = players.get(request.getSecondaryPlayerId());
+
+                if (match == null) {
+                    pending.error = "Match not found";
+                } else if (type == null) {
+                    pending.error = "Unknown event type: " + request.getType();
+                } else if (request.getPrimaryPlayerId() != null && primary == null) {
+                    pending.error = "Primary player not found";
+                } else if (request.getSecondaryPlayerId() != null && secondary == null) {
+                    pending.error = "Secondary player not found";
+                }
+                if (pending.error != null) {
+                    continue;
+                }
+
+                MatchEventEntity entity = MatchEventEntity.builder()
+                        .match(match)
+                        .type(type)
+                        .primaryPlayer(reference(primary))
+                        .secondaryPlayer(reference(secondary))
+                        .minute(request.getMinute())
+                        .details(request.getDetails())
+                        .build();
+                entityManager.persist(entity);
+
+                if (type == MatchEventType.GOAL && primary != null) {
+                    if (match.getHomeTeam().getId().equals(primary.getTeamId())) {
+                        homeGoals++;
+                    } else if (match.getAwayTeam().getId().equals(primary.getTeamId())) {
+                        awayGoals++;
+                    }
+                }
+
+                pending.event = toDto(entity, primary, secondary);
+                accepted++;
+                matchStreamBroadcaster.publishAfterCommit(matchId, MatchStreamBroadcaster.EVENT, pending.event);
+            }
+
+            // One score update per match and group
+            if (homeGoals + awayGoals > 0) {
+                matchScoreUpdater.addGoals(match, homeGoals, awayGoals);
+            }
+            if (accepted > 0) {
+                changeVersions.matchChanged(matchId, match.getEdition().getId());
+            }
+        });
+        entityManager.flush();
+    }
+
+    private PlayerEntity reference(PlayerRefView player) {
+        return player == null ? null : entityManager.getReference(PlayerEntity.class, player.getPlayerId());
+    }
+
+    private static MatchEventDto toDto(MatchEventEntity entity, PlayerRefView primary, PlayerRefView secondary) {
+        return MatchEventDto.builder()
+                .id(entity.getId())
+                .type(entity.getType().name())
+                .minute(entity.getMinute())
+                .details(entity.getDetails())
+                .primaryPlayerId(primary != null ? primary.getPlayerId() : null)
+                .primaryPlayerName(primary != null ? primary.getFirstname() + " " + primary.getLastname() : null)
+                .secondaryPlayerId(secondary != null ? secondary.getPlayerId() : null)
+                .secondaryPlayerName(secondary != null ? secondary.getFirstname() + " " + secondary.getLastname() : null)
+                .build();
+    }
+
+    private static MatchEventType parseType(String type) {
+        try {
+            return type == null ? null : MatchEventType.valueOf(type);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
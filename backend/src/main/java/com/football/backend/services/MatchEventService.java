@@ -26,6 +26,9 @@ public class MatchEventService {
     private final PlayerRepository playerRepository;
     private final MatchEventRepository matchEventRepository;
     private final MatchEventMapper matchEventMapper;
+    private final MatchStreamBroadcaster matchStreamBroadcaster;
+    private final MatchScoreUpdater matchScoreUpdater;
+    private final ChangeVersions changeVersions;
 
     public MatchEvent addEvent(MatchEventCreateRequest request) {
         MatchEntity match = matchRepository.findById(request.getMatchId())
@@ -54,25 +57,28 @@ public class MatchEventService {
 
         MatchEventEntity saved = matchEventRepository.save(entity);
 
+        MatchEvent event = matchEventMapper.toDomain(saved);
+        matchStreamBroadcaster.publishAfterCommit(match.getId(), MatchStreamBroadcaster.EVENT,
+                matchEventMapper.toEventDto(event));
+
         // Update goals if this is a GOAL event
         if (saved.getType() == MatchEventType.GOAL && saved.getPrimaryPlayer() != null) {
             UUID scorerTeamId = saved.getPrimaryPlayer().getTeam().getId();
 
             if (scorerTeamId.equals(match.getHomeTeam().getId())) {
-                match.setHomeGoals((match.getHomeGoals() == null ? 0 : match.getHomeGoals()) + 1);
+                matchScoreUpdater.addGoals(match, 1, 0);
             } else if (scorerTeamId.equals(match.getAwayTeam().getId())) {
-                match.setAwayGoals((match.getAwayGoals() == null ? 0 : match.getAwayGoals()) + 1);
+                matchScoreUpdater.addGoals(match, 0, 1);
             }
-
-            matchRepository.save(match);
         }
-
-        return matchEventMapper.toDomain(saved);
+        // Bumped after the score update so it follows the standings refresh on commit
+        changeVersions.matchChanged(match.getId(), match.getEdition().getId());
+        return event;
     }
 
     @Transactional(readOnly = true)
     public List<MatchEvent> getEventsForMatch(UUID matchId) {
-        MatchEntity match = matchRepository.findById(matchId)
+        MatchEntity match = matchRepository.findDetailedById(matchId)
                 .orElseThrow(() -> new IllegalArgumentException("Match not found"));
 
         return match.getEvents()
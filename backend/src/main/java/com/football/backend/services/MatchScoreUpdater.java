@@ -0,0 +1,61 @@
+package com.football.backend.services;
+
+import com.football.backend.dto.MatchScoreDto;
+import com.football.backend.entities.MatchEntity;
+import com.football.backend.models.MatchStatus;
+import com.football.backend.repositories.MatchRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Applies goals to a match without losing concurrent ones. Live matches take an
+ * atomic SQL increment, which only holds the row for the rest of the
+ * transaction. A finished match is a score correction that has to swap its
+ * result in the standings, so that rare case locks the row first.
+ */
+@Component
+@RequiredArgsConstructor
+public class MatchScoreUpdater {
+
+    private final MatchRepository matchRepository;
+    private final StandingsService standingsService;
+    private final TeamRatingService teamRatingService;
+    private final MatchStreamBroadcaster matchStreamBroadcaster;
+    private final EditionTicker editionTicker;
+    private final EntityManager entityManager;
+
+    /**
+     * Adds the goals and publishes the resulting score once the transaction commits.
+     * On the increment path {@code match} keeps the score it was read with; the
+     * returned score is the current one.
+     */
+    @Transactional
+    public MatchScoreDto addGoals(MatchEntity match, int homeGoals, int awayGoals) {
+        MatchScoreDto score;
+        if (matchRepository.incrementScore(match.getId(), homeGoals, awayGoals, MatchStatus.FINISHED) == 1) {
+            // Our update holds the row until commit, so this reads exactly our result
+            score = matchRepository.findScoreById(match.getId());
+        } else {
+            entityManager.refresh(match, LockModeType.PESSIMISTIC_WRITE);
+            boolean finished = match.getStatus() == MatchStatus.FINISHED;
+            if (finished) {
+                standingsService.revokeResult(match);
+            }
+            match.setHomeGoals((match.getHomeGoals() == null ? 0 : match.getHomeGoals()) + homeGoals);
+            match.setAwayGoals((match.getAwayGoals() == null ? 0 : match.getAwayGoals()) + awayGoals);
+            if (finished) {
+                standingsService.recordResult(match);
+                // Later ratings were worked out from the old score
+                teamRatingService.rebuildAfterCommit();
+            }
+            score = new MatchScoreDto(match.getId(), match.getHomeGoals(), match.getAwayGoals(), match.getStatus());
+        }
+
+        matchStreamBroadcaster.publishAfterCommit(match.getId(), MatchStreamBroadcaster.SCORE, score);
+        editionTicker.publishAfterCommit(match.getEdition().getId(), score);
+        return score;
+    }
+}
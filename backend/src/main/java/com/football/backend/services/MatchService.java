@@ -1,33 +1,48 @@
 package com.football.backend.services;
 
+import com.football.backend.dto.MatchListDto;
+import com.football.backend.dto.MatchPageDto;
+import com.football.backend.dto.MatchScoreDto;
 import com.football.backend.dto.MatchUpdateRequest;
 import com.football.backend.entities.EditionEntity;
 import com.football.backend.entities.MatchEntity;
 import com.football.backend.entities.TeamEntity;
 import com.football.backend.mappers.MatchMapper;
 import com.football.backend.models.Match;
+import com.football.backend.models.MatchCursor;
 import com.football.backend.models.MatchStatus;
 import com.football.backend.repositories.EditionRepository;
 import com.football.backend.repositories.MatchRepository;
 import com.football.backend.repositories.TeamRepository;
 import com.football.backend.dto.MatchCreateRequest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Function;
 
 @Service
 @RequiredArgsConstructor
 @Transactional
 public class MatchService {
 
+    public static final int MAX_PAGE_SIZE = 200;
+
     private final MatchRepository matchRepository;
     private final TeamRepository teamRepository;
     private final EditionRepository editionRepository;
+    private final StandingsService standingsService;
+    private final TeamRatingService teamRatingService;
     private final MatchMapper matchMapper;
+    private final MatchStreamBroadcaster matchStreamBroadcaster;
+    private final EditionTicker editionTicker;
+    private final ChangeVersions changeVersions;
 
     public Match createMatch(MatchCreateRequest request) {
         TeamEntity home = teamRepository.findById(request.getHomeTeamId())
@@ -43,12 +58,14 @@ public class MatchService {
                 .homeTeam(home)
                 .awayTeam(away)
                 .matchDate(request.getMatchDate())
+                .round(request.getRound())
                 .homeGoals(null)
                 .awayGoals(null)
                 .status(MatchStatus.SCHEDULED)
                 .build();
 
         MatchEntity saved = matchRepository.save(entity);
+        changeVersions.editionChanged(edition.getId());
         return matchMapper.toDomain(saved);
     }
 
@@ -57,8 +74,17 @@ public class MatchService {
                 .orElseThrow(() -> new IllegalArgumentException("Match not found"));
 
         if (request.getStatus() != null) {
+            MatchStatus oldStatus = entity.getStatus();
             MatchStatus newStatus = MatchStatus.valueOf(request.getStatus());
             entity.setStatus(newStatus);
+
+            if (oldStatus != MatchStatus.FINISHED && newStatus == MatchStatus.FINISHED) {
+                standingsService.recordResult(entity);
+                teamRatingService.recordResult(entity);
+            } else if (oldStatus == MatchStatus.FINISHED && newStatus != MatchStatus.FINISHED) {
+                standingsService.revokeResult(entity);
+                teamRatingService.rebuildAfterCommit();
+            }
         }
 
         if (request.getMatchDate() != null) {
@@ -66,44 +92,93 @@ public class MatchService {
         }
 
         MatchEntity saved = matchRepository.save(entity);
+        MatchScoreDto score = new MatchScoreDto(
+                saved.getId(), saved.getHomeGoals(), saved.getAwayGoals(), saved.getStatus().name());
+        matchStreamBroadcaster.publishAfterCommit(saved.getId(), MatchStreamBroadcaster.SCORE, score);
+        editionTicker.publishAfterCommit(saved.getEdition().getId(), score);
+        changeVersions.matchChanged(saved.getId(), saved.getEdition().getId());
         return matchMapper.toDomain(saved);
     }
 
     @Transactional(readOnly = true)
     public Match getMatch(UUID id) {
-        MatchEntity entity = matchRepository.findById(id)
+        MatchEntity entity = matchRepository.findDetailedById(id)
                 .orElseThrow(() -> new RuntimeException("Match not found: " + id)); // replace with your own exception
         return matchMapper.toDomain(entity);
     }
 
     @Transactional(readOnly = true)
-    public List<Match> getSchedule() {
-        return matchRepository.findByMatchDateAfterOrderByMatchDateAsc(LocalDateTime.now())
-                .stream()
-                .map(matchMapper::toDomain)
-                .toList();
+    public MatchPageDto getSchedule(String cursor, int limit) {
+        MatchCursor after = MatchCursor.decode(cursor);
+        int size = pageSize(limit);
+        Pageable page = PageRequest.ofSize(size + 1);
+        LocalDateTime now = LocalDateTime.now();
+
+        List<MatchListDto> rows = after == null
+                ? matchRepository.findSchedulePage(now, page)
+                : matchRepository.findSchedulePageAfter(now, after.getMatchDate(), after.getId(), page);
+        return toPage(rows, size);
     }
 
     @Transactional(readOnly = true)
-    public List<Match> getFinishedMatches() {
-        return matchRepository.findByStatusOrderByMatchDateDesc(MatchStatus.FINISHED)
-                .stream()
-                .map(matchMapper::toDomain)
-                .toList();
+    public MatchPageDto getFinishedMatches(String cursor, int limit) {
+        MatchCursor after = MatchCursor.decode(cursor);
+        return listDatedThenUndated(MatchStatus.FINISHED, after, pageSize(limit), page -> after == null
+                ? matchRepository.findByStatusPage(MatchStatus.FINISHED, page)
+                : matchRepository.findByStatusPageBefore(MatchStatus.FINISHED, after.getMatchDate(), after.getId(), page));
     }
 
     @Transactional(readOnly = true)
-    public List<Match> getAllMatches() {
-        return matchRepository.findAll()
-                .stream()
-                .map(matchMapper::toDomain)
-                .toList();
+    public MatchPageDto getAllMatches(String cursor, int limit) {
+        MatchCursor after = MatchCursor.decode(cursor);
+        return listDatedThenUndated(null, after, pageSize(limit), page -> after == null
+                ? matchRepository.findDatedPage(page)
+                : matchRepository.findDatedPageAfter(after.getMatchDate(), after.getId(), page));
     }
 
     public void deleteMatch(UUID id) {
-        if (!matchRepository.existsById(id)) {
-            throw new IllegalArgumentException("Match not found: " + id);
+        MatchEntity entity = matchRepository.findById(id)
+                .orElseThrow(() -> new IllegalArgumentException("Match not found: " + id));
+
+        if (entity.getStatus() == MatchStatus.FINISHED) {
+            standingsService.revokeResult(entity);
+            teamRatingService.rebuildAfterCommit();
+        }
+
+        matchRepository.delete(entity);
+        changeVersions.matchDeleted(id, entity.getEdition().getId());
+    }
+
+    /**
+     * Pages through the dated matches first, then continues with the undated
+     * ones once those run out. A cursor without a date points into the latter.
+     */
+    private MatchPageDto listDatedThenUndated(MatchStatus status, MatchCursor after, int size,
+                                              Function<Pageable, List<MatchListDto>> datedPage) {
+        List<MatchListDto> rows = new ArrayList<>();
+        if (after == null || after.getMatchDate() != null) {
+            rows.addAll(datedPage.apply(PageRequest.ofSize(size + 1)));
+        }
+
+        if (rows.size() <= size) {
+            Pageable rest = PageRequest.ofSize(size + 1 - rows.size());
+            rows.addAll(after != null && after.getMatchDate() == null
+                    ? matchRepository.findUndatedPageAfter(status, after.getId(), rest)
+                    : matchRepository.findUndatedPage(status, rest));
+        }
+        return toPage(rows, size);
+    }
+
+    // Rows are fetched with one extra element to know whether a next page exists.
+    private static MatchPageDto toPage(List<MatchListDto> rows, int size) {
+        if (rows.size() <= size) {
+            return new MatchPageDto(rows, null);
         }
-        matchRepository.deleteById(id);
+        List<MatchListDto> items = new ArrayList<>(rows.subList(0, size));
+        return new MatchPageDto(items, MatchCursor.after(items.get(size - 1)).encode());
+    }
+
+    private static int pageSize(int limit) {
+        return Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
     }
 }
@@ -1,55 +1,43 @@
 package com.football.backend.services;
 
 import com.football.backend.models.Team;
+import com.football.backend.models.TeamPower;
 import com.football.backend.models.decider.Decider;
 import org.springframework.stereotype.Service;
 import lombok.RequiredArgsConstructor;
+import java.util.List;
+import java.util.Map;
 import java.util.Random;
+import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
 public class MatchStrategyService implements Decider {
 
+    // Number of criteria a tie can be decided on, see score
+    static final int CRITERIA = 6;
+
     private final TeamPowerService teamPowerService;
     private final Random random = new Random();
 
+    @Override
+    public void prepare(List<Team> teams) {
+        // Încărcăm toate echipele într-un singur query; perechile vin apoi din cache
+        teamPowerService.evaluateTeams(teams.stream().map(Team::getId).toList());
+    }
+
     @Override
     public Team decideWinner(Team team1, Team team2) {
-        String id1 = team1.getId().toString();
-        String id2 = team2.getId().toString();
+        // Ambele echipe evaluate dintr-un singur query
+        Map<UUID, TeamPower> powers = teamPowerService.evaluateTeams(List.of(team1.getId(), team2.getId()));
+        TeamPower power1 = powers.get(team1.getId());
+        TeamPower power2 = powers.get(team2.getId());
 
         // Alegem un criteriu random de la 0 la 5 (6 criterii)
-        int criterion = random.nextInt(6);
+        int criterion = random.nextInt(CRITERIA);
 
-        double score1 = 0;
-        double score2 = 0;
-
-        switch (criterion) {
-            case 0: // Criteriul: Putere Totală
-                score1 = teamPowerService.calculateTotalTeamPower(id1);
-                score2 = teamPowerService.calculateTotalTeamPower(id2);
-                break;
-            case 1: // Criteriul: Bani (Team Evaluation)
-                score1 = teamPowerService.calculateFinancialEvaluationScore(id1);
-                score2 = teamPowerService.calculateFinancialEvaluationScore(id2);
-                break;
-            case 2: // Criteriul: Vârstă (Average Age)
-                score1 = teamPowerService.calculateAverageAgeScore(id1); // Presupunând că ai adaptat metoda să ia ID
-                score2 = teamPowerService.calculateAverageAgeScore(id2);
-                break;
-            case 3: // Criteriul: Chimie (Cohesion)
-                score1 = teamPowerService.calculateCohesionScore(id1);
-                score2 = teamPowerService.calculateCohesionScore(id2);
-                break;
-            case 4: // Criteriul: Tactică
-                score1 = teamPowerService.calculateTacticalBalanceScore(id1);
-                score2 = teamPowerService.calculateTacticalBalanceScore(id2);
-                break;
-            case 5: // Criteriul: Rezerve (Depth)
-                score1 = teamPowerService.calculateSquadDepthScore(id1);
-                score2 = teamPowerService.calculateSquadDepthScore(id2);
-                break;
-        }
+        double score1 = score(power1, criterion);
+        double score2 = score(power2, criterion);
 
         // Comparăm scorurile pe criteriul ales
         if (score1 > score2) {
@@ -61,4 +49,16 @@ public class MatchStrategyService implements Decider {
             return random.nextBoolean() ? team1 : team2;
         }
     }
+
+    static double score(TeamPower power, int criterion) {
+        return switch (criterion) {
+            case 0 -> power.getTotalPower();        // Criteriul: Putere Totală
+            case 1 -> power.getFinancialScore();    // Criteriul: Bani (Team Evaluation)
+            case 2 -> power.getAgeScore();          // Criteriul: Vârstă (Average Age)
+            case 3 -> power.getCohesionScore();     // Criteriul: Chimie (Cohesion)
+            case 4 -> power.getTacticalScore();     // Criteriul: Tactică
+            case 5 -> power.getDepthScore();        // Criteriul: Rezerve (Depth)
+            default -> 0;
+        };
+    }
 }
\ No newline at end of file
@@ -0,0 +1,348 @@
+package com.football.backend.services;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.football.backend.dto.MatchDetailsDto;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-process fan-out of live match updates to Server-Sent Events clients.
+ * <p>
+ * Updates are published once their transaction commits, serialized once and
+ * numbered from a single clock; the number is the SSE event id. Each match keeps
+ * its latest updates in a bounded buffer, so a reconnecting client that sends
+ * Last-Event-ID gets what it missed from memory instead of a reload. Clients too
+ * far behind, or coming from an earlier process, start over from a fresh state.
+ * <p>
+ * All channel bookkeeping happens on one dispatcher thread. Sends do not: every
+ * subscriber has its own queue, drained in order on a virtual thread, so a client
+ * that stops reading only holds up itself. A subscriber whose queue outgrows
+ * {@code match-stream.max-pending} is closed; it reconnects with Last-Event-ID
+ * and resumes from the buffer, or starts over from a fresh state.
+ */
+@Slf4j
+@Component
+public class MatchStreamBroadcaster {
+
+    public static final String STATE = "state";
+    public static final String EVENT = "event";
+    public static final String SCORE = "score";
+
+    private static final long SWEEP_INTERVAL_SECONDS = 30;
+
+    private final ObjectMapper objectMapper;
+    private final int bufferSize;
+    private final int maxPending;
+    private final long timeoutMillis;
+    private final long retentionNanos;
+
+    private final ScheduledExecutorService dispatcher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "match-stream");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final Map<UUID, Channel> channels = new ConcurrentHashMap<>();
+
+    // Seeded with the wall clock so ids keep growing across restarts.
+    private final AtomicLong eventIds = new AtomicLong(System.currentTimeMillis());
+
+    @Autowired
+    public MatchStreamBroadcaster(
+            ObjectMapper objectMapper,
+            @Value("${match-stream.buffer-size:256}") int bufferSize,
+            @Value("${match-stream.max-pending:256}") int maxPending,
+            @Value("${match-stream.timeout:30m}") Duration timeout,
+            @Value("${match-stream.retention:5m}") Duration retention
+    ) {
+        this.objectMapper = objectMapper;
+        this.bufferSize = bufferSize;
+        this.maxPending = maxPending;
+        this.timeoutMillis = timeout.toMillis();
+        this.retentionNanos = retention.toNanos();
+        dispatcher.scheduleWithFixedDelay(this::sweep, SWEEP_INTERVAL_SECONDS, SWEEP_INTERVAL_SECONDS, TimeUnit.SECONDS);
+    }
+
+    /**
+     * The id of the latest published update. A state loaded after reading it
+     * contains at least every update up to this id.
+     */
+    public long currentEventId() {
+        return eventIds.get();
+    }
+
+    /**
+     * Whether every update of the match after {@code lastEventId} is still buffered.
+     */
+    public boolean canResume(UUID matchId, long lastEventId) {
+        Channel channel = channels.get(matchId);
+        return channel != null && lastEventId >= channel.horizon() && lastEventId <= eventIds.get();
+    }
+
+    /**
+     * Opens a stream that starts with {@code state}, followed by every update
+     * published after {@code stateEventId}.
+     */
+    public SseEmitter subscribe(UUID matchId, MatchDetailsDto state, long stateEventId) {
+        SseEmitter emitter = newEmitter(matchId);
+        Set<DataWithMediaType> stateEvent = SseEmitter.event()
+                .id(Long.toString(stateEventId))
+                .name(STATE)
+                .data(toJson(state))
+                .build();
+        dispatcher.execute(() -> attach(matchId, emitter, stateEvent, stateEventId));
+        return emitter;
+    }
+
+    /**
+     * Opens a stream that replays the updates published after {@code lastEventId}.
+     * Should the buffer no longer reach back that far, the stream is closed so the
+     * client reconnects; {@link #canResume} then sends it to {@link #subscribe}.
+     */
+    public SseEmitter resume(UUID matchId, long lastEventId) {
+        SseEmitter emitter = newEmitter(matchId);
+        dispatcher.execute(() -> attach(matchId, emitter, null, lastEventId));
+        return emitter;
+    }
+
+    /**
+     * Sends the update to the match's subscribers once the current transaction
+     * commits (or right away when there is none).
+     */
+    public void publishAfterCommit(UUID matchId, String name, Object data) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            publish(matchId, name, data);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                publish(matchId, name, data);
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        dispatcher.shutdownNow();
+        senders.shutdownNow();
+    }
+
+    private void publish(UUID matchId, String name, Object data) {
+        String json = toJson(data);
+        dispatcher.execute(() -> {
+            long id = eventIds.incrementAndGet();
+            Set<DataWithMediaType> event = SseEmitter.event().id(Long.toString(id)).name(name).data(json).build();
+
+            Channel channel = channels.computeIfAbsent(matchId, key -> new Channel(id - 1));
+            channel.append(new BufferedEvent(id, event), bufferSize);
+            channel.subscribers.removeIf(subscriber -> !subscriber.offer(event));
+        });
+    }
+
+    private void attach(UUID matchId, SseEmitter emitter, Set<DataWithMediaType> stateEvent, long since) {
+        Channel channel = channels.computeIfAbsent(matchId, key -> new Channel(eventIds.get()));
+        // A fresh subscriber only cares about evictions; its state covers whatever came before the channel
+        long horizon = stateEvent != null ? channel.evictedUpTo : channel.horizon();
+        if (since < horizon) {
+            emitter.complete();
+            return;
+        }
+
+        // The catch-up is bounded by the buffer, so it is queued whatever max-pending says
+        Subscriber subscriber = new Subscriber(matchId, emitter);
+        if (stateEvent != null) {
+            subscriber.enqueue(stateEvent);
+        }
+        for (BufferedEvent event : channel.buffer) {
+            if (event.id() > since) {
+                subscriber.enqueue(event.data());
+            }
+        }
+        channel.subscribers.add(subscriber);
+        channel.touch();
+    }
+
+    private void detach(UUID matchId, SseEmitter emitter) {
+        Channel channel = channels.get(matchId);
+        if (channel != null) {
+            channel.subscribers.removeIf(subscriber -> {
+                if (subscriber.emitter != emitter) {
+                    return false;
+                }
+                subscriber.close();
+                return true;
+            });
+            channel.touch();
+        }
+    }
+
+    // Drops channels nobody has watched for a while and pings the rest, which also finds dead connections.
+    private void sweep() {
+        long now = System.nanoTime();
+        Set<DataWithMediaType> ping = SseEmitter.event().comment("ping").build();
+        channels.values().removeIf(channel -> {
+            channel.subscribers.removeIf(subscriber -> !subscriber.offer(ping));
+            return channel.subscribers.isEmpty() && now - channel.lastActivity > retentionNanos;
+        });
+    }
+
+    private SseEmitter newEmitter(UUID matchId) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Runnable detach = () -> dispatcher.execute(() -> detach(matchId, emitter));
+        emitter.onCompletion(detach);
+        emitter.onTimeout(detach);
+        emitter.onError(error -> detach.run());
+        return emitter;
+    }
+
+    private static boolean send(SseEmitter emitter, Set<DataWithMediaType> event) {
+        try {
+            emitter.send(event);
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            // The client went away; the container completes the emitter on its own
+            log.debug("Dropping match stream subscriber: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private String toJson(Object data) {
+        try {
+            return objectMapper.writeValueAsString(data);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize match update", e);
+        }
+    }
+
+    private record BufferedEvent(long id, Set<DataWithMediaType> data) {
+    }
+
+    /**
+     * One client's stream: events wait in its queue until its sender, at most
+     * one virtual thread at a time, writes them out in order.
+     */
+    private final class Subscriber {
+        private final UUID matchId;
+        private final SseEmitter emitter;
+
+        // Guarded by this
+        private final Deque<Set<DataWithMediaType>> queue = new ArrayDeque<>();
+        private boolean draining;
+        private boolean closed;
+
+        private Subscriber(UUID matchId, SseEmitter emitter) {
+            this.matchId = matchId;
+            this.emitter = emitter;
+        }
+
+        /**
+         * Queues a live event; false once the subscriber has to go, because its
+         * connection failed or it fell more than max-pending events behind.
+         */
+        synchronized boolean offer(Set<DataWithMediaType> event) {
+            if (closed) {
+                return false;
+            }
+            if (queue.size() >= maxPending) {
+                log.debug("Dropping match stream subscriber of {}: {} events behind", matchId, queue.size());
+                close();
+                // Completing waits for a send in progress, so it runs on a sender thread
+                senders.execute(emitter::complete);
+                return false;
+            }
+            enqueue(event);
+            return true;
+        }
+
+        synchronized void enqueue(Set<DataWithMediaType> event) {
+            if (closed) {
+                return;
+            }
+            queue.addLast(event);
+            if (!draining) {
+                draining = true;
+                senders.execute(this::drain);
+            }
+        }
+
+        synchronized void close() {
+            closed = true;
+            queue.clear();
+        }
+
+        private void drain() {
+            while (true) {
+                Set<DataWithMediaType> event;
+                synchronized (this) {
+                    event = queue.pollFirst();
+                    if (event == null) {
+                        draining = false;
+                        return;
+                    }
+                }
+                if (!send(emitter, event)) {
+                    synchronized (this) {
+                        close();
+                        draining = false;
+                    }
+                    dispatcher.execute(() -> detach(matchId, emitter));
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Subscribers and recent updates of one match. Only touched by the dispatcher,
+     * except for the horizon fields which request threads read in {@link #canResume}.
+     */
+    private static final class Channel {
+        // Every update of the match published after createdAt is, or was, in the buffer.
+        private final long createdAt;
+        private volatile long evictedUpTo = Long.MIN_VALUE;
+        private final Deque<BufferedEvent> buffer = new ArrayDeque<>();
+        private final List<Subscriber> subscribers = new ArrayList<>();
+        private long lastActivity = System.nanoTime();
+
+        private Channel(long createdAt) {
+            this.createdAt = createdAt;
+        }
+
+        long horizon() {
+            return Math.max(createdAt, evictedUpTo);
+        }
+
+        void append(BufferedEvent event, int capacity) {
+            buffer.addLast(event);
+            if (buffer.size() > capacity) {
+                evictedUpTo = buffer.removeFirst().id();
+            }
+            touch();
+        }
+
+        void touch() {
+            lastActivity = System.nanoTime();
+        }
+    }
+}
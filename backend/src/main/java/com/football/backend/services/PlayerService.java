@@ -10,12 +10,16 @@ import com.football.backend.exceptions.ResourceNotFoundException;
 import com.football.backend.mappers.PlayerMapper;
 import com.football.backend.repositories.PlayerRepository;
 import com.football.backend.repositories.TeamRepository;
+import com.football.backend.repositories.projections.SquadMemberView;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -26,13 +30,15 @@ public class PlayerService {
     private final TeamRepository teamRepository;
     private final PlayerMapper playerMapper;
     private final ContractService contractService;
+    private final TeamPowerCache teamPowerCache;
 
     @Autowired
-    public PlayerService(PlayerRepository playerRepository, TeamRepository teamRepository, PlayerMapper playerMapper, ContractService contractService) {
+    public PlayerService(PlayerRepository playerRepository, TeamRepository teamRepository, PlayerMapper playerMapper, ContractService contractService, TeamPowerCache teamPowerCache) {
         this.playerRepository = playerRepository;
         this.teamRepository = teamRepository;
         this.playerMapper = playerMapper;
         this.contractService = contractService;
+        this.teamPowerCache = teamPowerCache;
     }
 
     /**
@@ -60,6 +66,9 @@ public class PlayerService {
                 .build();
 
         PlayerEntity savedPlayer = playerRepository.saveAndFlush(newPlayer);
+        if (team != null) {
+            teamPowerCache.invalidate(team.getId());
+        }
         return new PlayerDto(savedPlayer);
     }
 
@@ -69,9 +78,7 @@ public class PlayerService {
      */
     @Transactional(readOnly = true)
     public List<PlayerSummaryDto> getAllPlayers() {
-        return playerRepository.findAll().stream()
-                .map(playerMapper::toSummaryDto)
-                .collect(Collectors.toList());
+        return playerRepository.findAllSummaries();
     }
 
     /**
@@ -100,17 +107,45 @@ public class PlayerService {
         return playerRepository.findAllByTeamId(UUID.fromString(teamId));
     }
 
+    /**
+     * Loads the squads of the given teams, each player with their latest contract, in one query.
+     * @param teamIds The teams whose squads to load.
+     * @return Squad members grouped by team id; contract columns are null for players without one.
+     */
+    @Transactional(readOnly = true)
+    public Map<UUID, Collection<SquadMemberView>> getSquadsByTeamIds(Collection<UUID> teamIds) {
+        Map<UUID, Map<UUID, SquadMemberView>> squads = new HashMap<>();
+        for (SquadMemberView row : playerRepository.findSquadMembersByTeamIds(teamIds)) {
+            squads.computeIfAbsent(row.getTeamId(), id -> new HashMap<>())
+                    .merge(row.getPlayerId(), row, PlayerService::latestContract);
+        }
+
+        Map<UUID, Collection<SquadMemberView>> result = new HashMap<>();
+        squads.forEach((teamId, players) -> result.put(teamId, players.values()));
+        return result;
+    }
+
     @Transactional(readOnly = true)
     public Integer getPlayersSalaryPerYearByTeamId(String teamId) {
-        List<PlayerEntity> players = getPlayersEntityByTeamId(teamId);
-        Integer teamEvaluation = 0;
-        for (var player : players) {
-            teamEvaluation += contractService.getLatestContractSalary(player.getContracts());
+        UUID id = UUID.fromString(teamId);
+        Collection<SquadMemberView> squad = getSquadsByTeamIds(List.of(id)).getOrDefault(id, List.of());
+
+        int teamEvaluation = 0;
+        for (SquadMemberView player : squad) {
+            if (player.getSalaryPerYear() != null) {
+                teamEvaluation += player.getSalaryPerYear();
+            }
         }
 
         return teamEvaluation;
     }
 
+    private static SquadMemberView latestContract(SquadMemberView a, SquadMemberView b) {
+        if (a.getContractStartDate() == null) return b;
+        if (b.getContractStartDate() == null) return a;
+        return b.getContractStartDate().after(a.getContractStartDate()) ? b : a;
+    }
+
 
     /**
      * Signs a contract for a player with a team.
@@ -127,6 +162,12 @@ public class PlayerService {
 
         contractService.createContract(request);
 
+        // The player leaves the old squad and joins the new one
+        if (player.getTeam() != null) {
+            teamPowerCache.invalidate(player.getTeam().getId());
+        }
+        teamPowerCache.invalidate(team.getId());
+
         player.setTeam(team);
         playerRepository.save(player);
 
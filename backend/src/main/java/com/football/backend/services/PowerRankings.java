@@ -0,0 +1,158 @@
+package com.football.backend.services;
+
+import com.football.backend.models.rating.Elo;
+import com.football.backend.repositories.TeamRatingRepository;
+import com.football.backend.repositories.projections.TeamRatingView;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-process copy of every team's rating, kept sorted best first. Loaded from
+ * the database on first use; writers apply their new ratings once their
+ * transaction commits, each in O(log n), so readers never see uncommitted results.
+ */
+@Component
+@RequiredArgsConstructor
+public class PowerRankings {
+
+    // Ties broken by team id, so no two teams compare equal in the set
+    private static final Comparator<Rated> ORDER = Comparator
+            .comparingDouble(Rated::rating).reversed()
+            .thenComparing(Rated::teamId);
+
+    private final TeamRatingRepository ratingRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    // Both guarded by lock
+    private final NavigableSet<Rated> ranking = new TreeSet<>(ORDER);
+    private final Map<UUID, Rated> byTeam = new HashMap<>();
+    private boolean loaded;
+
+    /**
+     * Every team, best rated first.
+     */
+    public List<Rated> getRankings() {
+        ensureLoaded();
+        lock.readLock().lock();
+        try {
+            return new ArrayList<>(ranking);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * The team's current rating; teams not rated yet stand at {@link Elo#INITIAL}.
+     */
+    public double ratingOf(UUID teamId) {
+        ensureLoaded();
+        lock.readLock().lock();
+        try {
+            Rated rated = byTeam.get(teamId);
+            return rated == null ? Elo.INITIAL : rated.rating();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Applies a team's new rating after the current transaction commits (or
+     * immediately when there is none).
+     */
+    public void updateAfterCommit(UUID teamId, double rating, int matches) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            update(teamId, rating, matches);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                update(teamId, rating, matches);
+            }
+        });
+    }
+
+    /**
+     * Drops the copy; the next read loads every team again.
+     */
+    public void invalidate() {
+        lock.writeLock().lock();
+        try {
+            loaded = false;
+            ranking.clear();
+            byTeam.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void update(UUID teamId, double rating, int matches) {
+        lock.writeLock().lock();
+        try {
+            if (!loaded) {
+                return;
+            }
+            Rated current = byTeam.get(teamId);
+            if (current == null) {
+                // A team created since the copy was loaded
+                loaded = false;
+                return;
+            }
+            // Commits can run their callbacks out of order; a rating based on fewer matches is older
+            if (current.matches() >= matches) {
+                return;
+            }
+            Rated updated = new Rated(teamId, current.teamName(), rating, matches);
+            ranking.remove(current);
+            ranking.add(updated);
+            byTeam.put(teamId, updated);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void ensureLoaded() {
+        lock.readLock().lock();
+        try {
+            if (loaded) {
+                return;
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        lock.writeLock().lock();
+        try {
+            if (loaded) {
+                return;
+            }
+            ranking.clear();
+            byTeam.clear();
+            for (TeamRatingView view : ratingRepository.findAllRatings()) {
+                Rated rated = new Rated(view.getTeamId(), view.getTeamName(),
+                        view.getRating() == null ? Elo.INITIAL : view.getRating(),
+                        view.getMatches() == null ? 0 : view.getMatches());
+                ranking.add(rated);
+                byTeam.put(rated.teamId(), rated);
+            }
+            loaded = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public record Rated(UUID teamId, String teamName, double rating, int matches) {
+    }
+}
@@ -0,0 +1,113 @@
+package com.football.backend.services;
+
+import com.football.backend.dto.StandingsEntryDto;
+import com.football.backend.dto.StandingsSnapshotDto;
+import com.football.backend.entities.StandingsEntryEntity;
+import com.football.backend.exceptions.ResourceNotFoundException;
+import com.football.backend.repositories.EditionRepository;
+import com.football.backend.repositories.StandingsEntryRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-process projection of every edition's standings table.
+ * Readers get the current snapshot straight from the map (no locks, no DB);
+ * writers rebuild the snapshot once their transaction commits.
+ */
+@Component
+@RequiredArgsConstructor
+public class StandingsProjection {
+
+    private static final Comparator<StandingsEntryDto> TABLE_ORDER = Comparator
+            .comparing(StandingsEntryDto::getPoIntegers, Comparator.reverseOrder())
+            .thenComparing(StandingsEntryDto::getGoalDifference, Comparator.reverseOrder())
+            .thenComparing(StandingsEntryDto::getGoalsFor, Comparator.reverseOrder());
+
+    private final StandingsEntryRepository entryRepository;
+    private final EditionRepository editionRepository;
+
+    private final Map<UUID, StandingsSnapshotDto> snapshots = new ConcurrentHashMap<>();
+
+    // Seeded with the wall clock so versions keep growing across restarts.
+    private final AtomicLong versionClock = new AtomicLong(System.currentTimeMillis());
+
+    public StandingsSnapshotDto getSnapshot(UUID editionId) {
+        StandingsSnapshotDto snapshot = snapshots.get(editionId);
+        if (snapshot != null) {
+            return snapshot;
+        }
+        snapshot = snapshots.computeIfAbsent(editionId, this::load);
+        if (snapshot == null) {
+            throw new ResourceNotFoundException("Edition not found with ID: " + editionId);
+        }
+        return snapshot;
+    }
+
+    /**
+     * Schedules a reload of the edition's snapshot after the current
+     * transaction commits (or immediately when there is none), so readers
+     * never see uncommitted results.
+     */
+    public void refreshAfterCommit(UUID editionId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            refresh(editionId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                refresh(editionId);
+            }
+        });
+    }
+
+    public void evict(UUID editionId) {
+        snapshots.remove(editionId);
+    }
+
+    private void refresh(UUID editionId) {
+        snapshots.compute(editionId, (id, current) -> load(id));
+    }
+
+    /**
+     * The edition's snapshot, or null when there is no such edition, so ids
+     * that were never created are not kept in the map.
+     */
+    private StandingsSnapshotDto load(UUID editionId) {
+        List<StandingsEntryDto> table = entryRepository.findStandingsByEditionId(editionId)
+                .stream()
+                .map(StandingsProjection::toDto)
+                .sorted(TABLE_ORDER)
+                .toList();
+        if (table.isEmpty() && !editionRepository.existsById(editionId)) {
+            return null;
+        }
+
+        return new StandingsSnapshotDto(editionId, versionClock.incrementAndGet(), table);
+    }
+
+    static StandingsEntryDto toDto(StandingsEntryEntity e) {
+        int played = e.getWins() + e.getDraws() + e.getLosses();
+        return new StandingsEntryDto(
+                e.getTeam().getId(),
+                e.getTeam().getName(),
+                e.getWins() * 3 + e.getDraws(),
+                played,
+                e.getWins(),
+                e.getDraws(),
+                e.getLosses(),
+                e.getGoalsFor(),
+                e.getGoalsAgainst(),
+                e.getGoalsFor() - e.getGoalsAgainst()
+        );
+    }
+}
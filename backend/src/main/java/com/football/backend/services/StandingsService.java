@@ -1,14 +1,15 @@
 package com.football.backend.services;
 
 import com.football.backend.dto.StandingsEntryDto;
+import com.football.backend.dto.StandingsSnapshotDto;
 import com.football.backend.entities.*;
 import com.football.backend.models.MatchStatus;
 import com.football.backend.repositories.MatchRepository;
 import com.football.backend.repositories.StandingsEntryRepository;
 import com.football.backend.repositories.StandingsRepository;
-import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Map;
@@ -23,6 +24,8 @@ public class StandingsService {
     private final StandingsRepository standingsRepository;
     private final StandingsEntryRepository entryRepository;
     private final MatchRepository matchRepository;
+    private final StandingsProjection standingsProjection;
+    private final ChangeVersions changeVersions;
 
     @Transactional
     public void initializeStandings(EditionEntity edition, List<TeamEntity> teams) {
@@ -30,22 +33,55 @@ public class StandingsService {
         standings.setEdition(edition);
         standingsRepository.save(standings);
 
-        for (TeamEntity team : teams) {
-            createEntry(standings, team);
-        }
+        entryRepository.saveAll(teams.stream()
+                .map(team -> createEntry(standings, team))
+                .toList());
+
+        standingsProjection.refreshAfterCommit(edition.getId());
     }
 
-    @Transactional
+    /**
+     * Current table of the edition, served from {@link StandingsProjection}.
+     * The entries are kept up to date by {@link #recordResult(MatchEntity)} /
+     * {@link #revokeResult(MatchEntity)} as matches finish, so nothing is
+     * recomputed or queried here.
+     */
     public List<StandingsEntryDto> getStandings(UUID editionId) {
-        recalculateStandings(editionId);
+        return standingsProjection.getSnapshot(editionId).getTable();
+    }
+
+    public StandingsSnapshotDto getStandingsSnapshot(UUID editionId) {
+        return standingsProjection.getSnapshot(editionId);
+    }
+
+    public void evictStandings(UUID editionId) {
+        standingsProjection.evict(editionId);
+    }
+
+    /**
+     * Adds the result of a FINISHED match to the two affected entries.
+     * Editions without standings (knockout) are ignored.
+     */
+    @Transactional
+    public void recordResult(MatchEntity match) {
+        applyResult(match, 1);
+    }
 
-        return entryRepository.findStandingsByEditionId(editionId)
-                .stream()
-                .map(this::toDto)
-                .toList();
+    /**
+     * Removes a previously recorded result, e.g. when a finished match is
+     * reopened, its score is corrected or it is deleted.
+     */
+    @Transactional
+    public void revokeResult(MatchEntity match) {
+        applyResult(match, -1);
     }
 
-    private void recalculateStandings(UUID editionId) {
+    /**
+     * Repair operation: resets every entry of the edition and replays all
+     * FINISHED matches from scratch.
+     */
+    @Transactional
+    public void rebuildStandings(UUID editionId) {
         List<StandingsEntryEntity> entries = entryRepository.findStandingsByEditionId(editionId);
         Map<UUID, StandingsEntryEntity> entryMap = entries.stream()
                 .collect(Collectors.toMap(e -> e.getTeam().getId(), Function.identity()));
@@ -60,31 +96,52 @@ public class StandingsService {
 
             if (home == null || away == null) continue;
 
-            updateStatsFromMatch(home, away, match);
+            updateStatsFromMatch(home, away, match, 1);
         }
 
         entryRepository.saveAll(entries);
+
+        standingsProjection.refreshAfterCommit(editionId);
+        changeVersions.editionChanged(editionId);
+    }
+
+    private void applyResult(MatchEntity match, int sign) {
+        UUID editionId = match.getEdition().getId();
+        int hScore = match.getHomeGoals() != null ? match.getHomeGoals() : 0;
+        int aScore = match.getAwayGoals() != null ? match.getAwayGoals() : 0;
+        int homeWin = hScore > aScore ? sign : 0;
+        int draw = hScore == aScore ? sign : 0;
+        int awayWin = aScore > hScore ? sign : 0;
+
+        // Atomic increments: no read-modify-write, so concurrent results for a team cannot be lost
+        int updated = entryRepository.addResult(editionId, match.getHomeTeam().getId(),
+                homeWin, draw, awayWin, sign * hScore, sign * aScore);
+        if (updated == 0) return;
+        entryRepository.addResult(editionId, match.getAwayTeam().getId(),
+                awayWin, draw, homeWin, sign * aScore, sign * hScore);
+
+        standingsProjection.refreshAfterCommit(editionId);
     }
 
-    private void updateStatsFromMatch(StandingsEntryEntity home, StandingsEntryEntity away, MatchEntity match) {
+    private void updateStatsFromMatch(StandingsEntryEntity home, StandingsEntryEntity away, MatchEntity match, int sign) {
         int hScore = match.getHomeGoals() != null ? match.getHomeGoals() : 0;
         int aScore = match.getAwayGoals() != null ? match.getAwayGoals() : 0;
 
-        home.setGoalsFor(home.getGoalsFor() + hScore);
-        home.setGoalsAgainst(home.getGoalsAgainst() + aScore);
+        home.setGoalsFor(home.getGoalsFor() + sign * hScore);
+        home.setGoalsAgainst(home.getGoalsAgainst() + sign * aScore);
 
-        away.setGoalsFor(away.getGoalsFor() + aScore);
-        away.setGoalsAgainst(away.getGoalsAgainst() + hScore);
+        away.setGoalsFor(away.getGoalsFor() + sign * aScore);
+        away.setGoalsAgainst(away.getGoalsAgainst() + sign * hScore);
 
         if (hScore > aScore) {
-            home.setWins(home.getWins() + 1);
-            away.setLosses(away.getLosses() + 1);
+            home.setWins(home.getWins() + sign);
+            away.setLosses(away.getLosses() + sign);
         } else if (aScore > hScore) {
-            away.setWins(away.getWins() + 1);
-            home.setLosses(home.getLosses() + 1);
+            away.setWins(away.getWins() + sign);
+            home.setLosses(home.getLosses() + sign);
         } else {
-            home.setDraws(home.getDraws() + 1);
-            away.setDraws(away.getDraws() + 1);
+            home.setDraws(home.getDraws() + sign);
+            away.setDraws(away.getDraws() + sign);
         }
     }
 
@@ -96,27 +153,11 @@ public class StandingsService {
         e.setGoalsAgainst(0);
     }
 
-    private void createEntry(StandingsEntity standings, TeamEntity team) {
+    private StandingsEntryEntity createEntry(StandingsEntity standings, TeamEntity team) {
         StandingsEntryEntity entry = new StandingsEntryEntity();
         entry.setStandings(standings);
         entry.setTeam(team);
         resetStats(entry);
-        entryRepository.save(entry);
-    }
-
-    private StandingsEntryDto toDto(StandingsEntryEntity e) {
-        int played = e.getWins() + e.getDraws() + e.getLosses();
-        return new StandingsEntryDto(
-                e.getTeam().getId(),
-                e.getTeam().getName(),
-                e.getWins() * 3 + e.getDraws(),
-                played,
-                e.getWins(),
-                e.getDraws(),
-                e.getLosses(),
-                e.getGoalsFor(),
-                e.getGoalsAgainst(),
-                e.getGoalsFor() - e.getGoalsAgainst()
-        );
+        return entry;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,130 @@
+package com.football.backend.services;
+
+import com.football.backend.dto.CacheStatsDto;
+import com.football.backend.models.TeamPower;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Size-bounded LRU cache of computed {@link TeamPower} keyed by team id.
+ * Entries are dropped when the squad or its contracts change and recomputed
+ * once older than {@code refreshAfter}, since the age and cohesion components
+ * drift with the calendar.
+ */
+@Component
+public class TeamPowerCache {
+
+    private final int maxSize;
+    private final long refreshAfterMillis;
+    private final LongSupplier clock;
+
+    private final Map<UUID, CachedPower> entries;
+
+    // Bumped on every invalidation; loads that started before it are not cached.
+    private final AtomicLong epoch = new AtomicLong();
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicLong refreshes = new AtomicLong();
+
+    @Autowired
+    public TeamPowerCache(@Value("${team-power.cache.max-size:1024}") int maxSize,
+                          @Value("${team-power.cache.refresh-after:6h}") Duration refreshAfter) {
+        this(maxSize, refreshAfter, System::currentTimeMillis);
+    }
+
+    TeamPowerCache(int maxSize, Duration refreshAfter, LongSupplier clock) {
+        this.maxSize = maxSize;
+        this.refreshAfterMillis = refreshAfter.toMillis();
+        this.clock = clock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<UUID, CachedPower> eldest) {
+                if (size() > TeamPowerCache.this.maxSize) {
+                    evictions.incrementAndGet();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * @return The cached power, or null when missing or due for a refresh.
+     */
+    public synchronized TeamPower get(UUID teamId) {
+        CachedPower cached = entries.get(teamId);
+        if (cached == null) {
+            misses.incrementAndGet();
+            return null;
+        }
+        if (clock.getAsLong() - cached.computedAt() >= refreshAfterMillis) {
+            entries.remove(teamId);
+            refreshes.incrementAndGet();
+            return null;
+        }
+        hits.incrementAndGet();
+        return cached.power();
+    }
+
+    /**
+     * Stamp to take before loading, to be passed back to {@link #put(TeamPower, long)}.
+     */
+    public long currentEpoch() {
+        return epoch.get();
+    }
+
+    /**
+     * Caches a freshly computed power, unless an invalidation happened since
+     * the load started (its data might predate the change).
+     */
+    public synchronized void put(TeamPower power, long loadEpoch) {
+        if (loadEpoch != epoch.get()) {
+            return;
+        }
+        entries.put(power.getTeamId(), new CachedPower(power, clock.getAsLong()));
+    }
+
+    /**
+     * Drops the team's entry once the current transaction commits (or right
+     * away when there is none), so readers never cache uncommitted squads.
+     */
+    public void invalidate(UUID teamId) {
+        if (teamId == null) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict(teamId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evict(teamId);
+            }
+        });
+    }
+
+    public synchronized CacheStatsDto getStats() {
+        return new CacheStatsDto(hits.get(), misses.get(), evictions.get(), refreshes.get(), entries.size());
+    }
+
+    private synchronized void evict(UUID teamId) {
+        epoch.incrementAndGet();
+        entries.remove(teamId);
+    }
+
+    private record CachedPower(TeamPower power, long computedAt) {
+    }
+}
@@ -1,11 +1,12 @@
 package com.football.backend.services;
 
-import com.football.backend.entities.ContractEntity;
-import com.football.backend.entities.PlayerEntity;
+import com.football.backend.dto.CacheStatsDto;
+import com.football.backend.models.TeamPower;
+import com.football.backend.repositories.projections.SquadMemberView;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.Period;
 import java.time.ZoneId;
@@ -15,155 +16,155 @@ import java.util.*;
 public class TeamPowerService {
 
     private final PlayerService playerService;
+    private final TeamPowerCache teamPowerCache;
 
     // Constante pentru calcule
     private static final double IDEAL_AGE = 27.0;
     private static final double IDEAL_COHESION_MONTHS = 36.0;
     private static final long MAX_TEAM_VALUATION = 200_000_000;
     private static final long IDEAL_TEAM_SIZE = 25;
+    private static final long MILLIS_PER_MONTH = 1000L * 60 * 60 * 24 * 30;
 
     @Autowired
-    public TeamPowerService(PlayerService playerService) {
+    public TeamPowerService(PlayerService playerService, TeamPowerCache teamPowerCache) {
         this.playerService = playerService;
+        this.teamPowerCache = teamPowerCache;
     }
 
-    @Transactional(readOnly = true)
-    public int calculateTotalTeamPower(String teamId) {
-        List<PlayerEntity> players = playerService.getPlayersEntityByTeamId(teamId);
-
-        if (players.isEmpty()) {
-            return 0;
+    /**
+     * Returns the power components of every given team. Cached teams are
+     * served from {@link TeamPowerCache}; the rest are computed from a single
+     * query. Teams without players get an empty {@link TeamPower}.
+     */
+    public Map<UUID, TeamPower> evaluateTeams(Collection<UUID> teamIds) {
+        Map<UUID, TeamPower> result = new HashMap<>();
+        Set<UUID> missing = new LinkedHashSet<>();
+        for (UUID teamId : teamIds) {
+            TeamPower cached = teamPowerCache.get(teamId);
+            if (cached != null) {
+                result.put(teamId, cached);
+            } else {
+                missing.add(teamId);
+            }
         }
 
-        // 1. Team Evaluation (Financiar) - definit de tine ca suma contractelor
-        double financialScore = calculateFinancialEvaluationScore(teamId);
+        if (missing.isEmpty()) {
+            return result;
+        }
 
-        // 2. Average Age (Experiență)
-        double ageScore = calculateAverageAgeScore(teamId);
+        long loadEpoch = teamPowerCache.currentEpoch();
+        Map<UUID, Collection<SquadMemberView>> squads = playerService.getSquadsByTeamIds(missing);
 
-        // 3. Squad Cohesion (Vechimea contractelor)
-        double cohesionScore = calculateCohesionScore(teamId);
+        LocalDate today = LocalDate.now();
+        long nowMillis = System.currentTimeMillis();
 
-        // 4. Tactical Balance (Acoperire pe posturi)
-        double tacticalScore = calculateTacticalBalanceScore(teamId);
+        for (UUID teamId : missing) {
+            Collection<SquadMemberView> squad = squads.get(teamId);
+            TeamPower power = squad == null
+                    ? TeamPower.empty(teamId)
+                    : evaluateSquad(teamId, squad, today, nowMillis);
+            teamPowerCache.put(power, loadEpoch);
+            result.put(teamId, power);
+        }
+        return result;
+    }
 
-        // 5. Squad Depth (Număr de jucători)
-        double depthScore = calculateSquadDepthScore(teamId);
+    public CacheStatsDto getCacheStats() {
+        return teamPowerCache.getStats();
+    }
 
-        double totalScore = (financialScore * 0.30) +
-                (tacticalScore * 0.25) +
-                (ageScore * 0.15) +
-                (cohesionScore * 0.15) +
-                (depthScore * 0.15);
+    public TeamPower evaluateTeam(UUID teamId) {
+        return evaluateTeams(List.of(teamId)).get(teamId);
+    }
 
-        return (int) Math.min(100, totalScore);
+    public int calculateTotalTeamPower(String teamId) {
+        return evaluateTeam(UUID.fromString(teamId)).getTotalPower();
     }
 
     public double calculateFinancialEvaluationScore(String teamId) {
-
-        Integer totalSalary = playerService.getPlayersSalaryPerYearByTeamId(teamId);
-
-        if (totalSalary == null || totalSalary == 0) {
-            return 0.0;
-        }
-
-        //Normalization
-        return Math.min(100.0, ((double) totalSalary / MAX_TEAM_VALUATION) * 100);
+        return evaluateTeam(UUID.fromString(teamId)).getFinancialScore();
     }
 
     public double calculateAverageAgeScore(String teamId) {
-
-        List<PlayerEntity> players = playerService.getPlayersEntityByTeamId(teamId);
-        if (players.isEmpty()) return 0.0;
-
-        double totalAge = 0;
-        int count = 0;
-        LocalDate now = LocalDate.now();
-
-        for (PlayerEntity player : players) {
-            if (player.getDateOfBirth() != null) {
-                LocalDate dob = player.getDateOfBirth().toInstant()
-                        .atZone(ZoneId.systemDefault()).toLocalDate();
-                totalAge += Period.between(dob, now).getYears();
-                count++;
-            }
-        }
-
-        if (count == 0) return 0.0;
-        double avgAge = totalAge / count;
-
-        double distance = Math.abs(IDEAL_AGE - avgAge);
-        return Math.max(0, 100 - (distance * 5));
+        return evaluateTeam(UUID.fromString(teamId)).getAgeScore();
     }
 
     public double calculateCohesionScore(String teamId) {
-
-        List<PlayerEntity> players = playerService.getPlayersEntityByTeamId(teamId);
-        if (players.isEmpty()) return 0.0;
-
-        long totalMonths = 0;
-        int count = 0;
-        Date now = new Date();
-
-        for (PlayerEntity player : players) {
-
-            ContractEntity currentContract = player.getContracts().stream()
-                    .max(Comparator.comparing(ContractEntity::getStartDate))
-                    .orElse(null);
-
-            if (currentContract != null) {
-                long diffInMillis = Math.abs(now.getTime() - currentContract.getStartDate().getTime());
-                long months = diffInMillis / (1000L * 60 * 60 * 24 * 30);
-                totalMonths += months;
-                count++;
-            }
-        }
-
-        if (count == 0) return 0.0;
-        double avgMonths = (double) totalMonths / count;
-
-        return Math.min(100.0, (avgMonths / IDEAL_COHESION_MONTHS) * 100);
+        return evaluateTeam(UUID.fromString(teamId)).getCohesionScore();
     }
 
     public double calculateTacticalBalanceScore(String teamId) {
+        return evaluateTeam(UUID.fromString(teamId)).getTacticalScore();
+    }
 
-        List<PlayerEntity> players = playerService.getPlayersEntityByTeamId(teamId);
-        if (players.isEmpty()) return 0.0;
+    public double calculateSquadDepthScore(String teamId) {
+        return evaluateTeam(UUID.fromString(teamId)).getDepthScore();
+    }
 
-        long gkCount = players.stream()
-                .filter(p -> p.getPosition() != null && (p.getPosition().toLowerCase().contains("goalkeeper") || p.getPosition().toLowerCase().contains("portar")))
-                .count();
+    private TeamPower evaluateSquad(UUID teamId, Collection<SquadMemberView> squad, LocalDate today, long nowMillis) {
+        long totalSalary = 0;
+        double totalAge = 0;
+        int agedCount = 0;
+        long totalMonths = 0;
+        int contractedCount = 0;
+        int gkCount = 0, defCount = 0, midCount = 0, fwdCount = 0;
 
-        long defCount = players.stream()
-                .filter(p -> p.getPosition() != null && (p.getPosition().toLowerCase().contains("defender") || p.getPosition().toLowerCase().contains("back") || p.getPosition().toLowerCase().contains("fundas")))
-                .count();
+        for (SquadMemberView player : squad) {
+            // 1. Team Evaluation (Financiar) - suma contractelor
+            if (player.getSalaryPerYear() != null) {
+                totalSalary += player.getSalaryPerYear();
+            }
 
-        long midCount = players.stream()
-                .filter(p -> p.getPosition() != null && (p.getPosition().toLowerCase().contains("midfield") || p.getPosition().toLowerCase().contains("mijlocas")))
-                .count();
+            // 2. Average Age (Experiență)
+            if (player.getDateOfBirth() != null) {
+                LocalDate dob = Instant.ofEpochMilli(player.getDateOfBirth().getTime())
+                        .atZone(ZoneId.systemDefault()).toLocalDate();
+                totalAge += Period.between(dob, today).getYears();
+                agedCount++;
+            }
 
-        long fwdCount = players.stream()
-                .filter(p -> p.getPosition() != null && (p.getPosition().toLowerCase().contains("forward") || p.getPosition().toLowerCase().contains("striker") || p.getPosition().toLowerCase().contains("atacant")))
-                .count();
+            // 3. Squad Cohesion (Vechimea contractelor)
+            if (player.getContractStartDate() != null) {
+                long diffInMillis = Math.abs(nowMillis - player.getContractStartDate().getTime());
+                totalMonths += diffInMillis / MILLIS_PER_MONTH;
+                contractedCount++;
+            }
 
-        double score = 100.0;
+            // 4. Tactical Balance (Acoperire pe posturi)
+            if (player.getPosition() != null) {
+                String position = player.getPosition().toLowerCase();
+                if (position.contains("goalkeeper") || position.contains("portar")) gkCount++;
+                if (position.contains("defender") || position.contains("back") || position.contains("fundas")) defCount++;
+                if (position.contains("midfield") || position.contains("mijlocas")) midCount++;
+                if (position.contains("forward") || position.contains("striker") || position.contains("atacant")) fwdCount++;
+            }
+        }
 
-        if (gkCount < 1) score -= 60;
-        else if (gkCount < 2) score -= 10;
+        double financialScore = totalSalary == 0
+                ? 0.0
+                : Math.min(100.0, ((double) totalSalary / MAX_TEAM_VALUATION) * 100);
 
-        if (defCount < 3) score -= 30;
-        if (midCount < 3) score -= 20;
-        if (fwdCount < 1) score -= 20;
+        double ageScore = 0.0;
+        if (agedCount > 0) {
+            double distance = Math.abs(IDEAL_AGE - totalAge / agedCount);
+            ageScore = Math.max(0, 100 - (distance * 5));
+        }
 
-        return Math.max(0, score);
-    }
+        double cohesionScore = contractedCount == 0
+                ? 0.0
+                : Math.min(100.0, ((double) totalMonths / contractedCount / IDEAL_COHESION_MONTHS) * 100);
 
-    public double calculateSquadDepthScore(String teamId) {
+        double tacticalScore = 100.0;
+        if (gkCount < 1) tacticalScore -= 60;
+        else if (gkCount < 2) tacticalScore -= 10;
+        if (defCount < 3) tacticalScore -= 30;
+        if (midCount < 3) tacticalScore -= 20;
+        if (fwdCount < 1) tacticalScore -= 20;
+        tacticalScore = Math.max(0, tacticalScore);
 
-        List<PlayerEntity> players = playerService.getPlayersEntityByTeamId(teamId);
-        int size = players.size();
+        // 5. Squad Depth (Număr de jucători)
+        double depthScore = Math.max(0, 100 - (Math.abs(IDEAL_AGE - squad.size()) * 4));
 
-        double distance = Math.abs(IDEAL_AGE - size);
-        return Math.max(0, 100 - (distance * 4));
+        return new TeamPower(teamId, squad.size(), financialScore, ageScore, cohesionScore, tacticalScore, depthScore);
     }
-}
\ No newline at end of file
+}
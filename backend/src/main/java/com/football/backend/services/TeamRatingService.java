@@ -0,0 +1,305 @@
+package com.football.backend.services;
+
+import com.football.backend.dto.PowerRankingDto;
+import com.football.backend.entities.MatchEntity;
+import com.football.backend.entities.TeamEntity;
+import com.football.backend.entities.TeamRatingEntity;
+import com.football.backend.models.MatchStatus;
+import com.football.backend.models.rating.Elo;
+import com.football.backend.repositories.MatchRepository;
+import com.football.backend.repositories.TeamRatingRepository;
+import com.football.backend.repositories.TeamRepository;
+import com.football.backend.repositories.projections.FinishedResultView;
+import com.football.backend.repositories.projections.TeamRatingView;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Elo ratings of every team, updated in O(1) as each match finishes.
+ * <p>
+ * A finished result only moves the two ratings it involves, under their row
+ * locks. Reopening, correcting or deleting a finished result cannot be undone
+ * that way, since every later result of both teams was rated from it, so it
+ * schedules a {@link #rebuild()} instead: every finished match replayed in
+ * date order. Teams that never met, directly or through common opponents,
+ * cannot affect each other's rating, so each such group is replayed on its own
+ * and the groups run in parallel.
+ */
+@Slf4j
+@Service
+public class TeamRatingService {
+
+    // Rebuild passes in a row before leaving results recorded meanwhile to the next one
+    private static final int MAX_REBUILD_PASSES = 3;
+
+    private final MatchRepository matchRepository;
+    private final TeamRatingRepository ratingRepository;
+    private final TeamRepository teamRepository;
+    private final PowerRankings powerRankings;
+    private final ForkJoinPool pool;
+    private final TransactionTemplate transactionTemplate;
+    private final Elo elo;
+
+    // Results committed so far; a rebuild that sees it move may have read before some of them
+    private final AtomicLong recorded = new AtomicLong();
+    private final AtomicBoolean rebuildScheduled = new AtomicBoolean();
+    private final Object rebuildLock = new Object();
+
+    @Autowired
+    public TeamRatingService(
+            MatchRepository matchRepository,
+            TeamRatingRepository ratingRepository,
+            TeamRepository teamRepository,
+            PowerRankings powerRankings,
+            ForkJoinPool simulationPool,
+            PlatformTransactionManager transactionManager,
+            @Value("${team-rating.k-factor:20}") double kFactor,
+            @Value("${team-rating.home-advantage:60}") double homeAdvantage
+    ) {
+        this.matchRepository = matchRepository;
+        this.ratingRepository = ratingRepository;
+        this.teamRepository = teamRepository;
+        this.powerRankings = powerRankings;
+        this.pool = simulationPool;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.elo = new Elo(kFactor, homeAdvantage);
+    }
+
+    /**
+     * Rates the result of a match that just became FINISHED.
+     */
+    @Transactional
+    public void recordResult(MatchEntity match) {
+        countAfterCommit();
+        UUID homeId = match.getHomeTeam().getId();
+        UUID awayId = match.getAwayTeam().getId();
+        if (homeId.equals(awayId)) {
+            return;
+        }
+
+        Map<UUID, TeamRatingEntity> rows = new HashMap<>();
+        for (TeamRatingEntity row : ratingRepository.findAllForUpdate(List.of(homeId, awayId))) {
+            rows.put(row.getTeamId(), row);
+        }
+        TeamRatingEntity home = rows.containsKey(homeId) ? rows.get(homeId) : firstRating(homeId);
+        TeamRatingEntity away = rows.containsKey(awayId) ? rows.get(awayId) : firstRating(awayId);
+
+        int homeGoals = match.getHomeGoals() != null ? match.getHomeGoals() : 0;
+        int awayGoals = match.getAwayGoals() != null ? match.getAwayGoals() : 0;
+        double delta = elo.homeDelta(home.getRating(), away.getRating(), homeGoals, awayGoals);
+
+        home.setRating(home.getRating() + delta);
+        home.setMatches(home.getMatches() + 1);
+        away.setRating(away.getRating() - delta);
+        away.setMatches(away.getMatches() + 1);
+
+        powerRankings.updateAfterCommit(homeId, home.getRating(), home.getMatches());
+        powerRankings.updateAfterCommit(awayId, away.getRating(), away.getMatches());
+    }
+
+    /**
+     * Schedules a rebuild once the current transaction commits, for a finished
+     * result that was reopened, corrected or deleted. Requests made before a
+     * scheduled rebuild starts all share it.
+     */
+    public void rebuildAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            scheduleRebuild();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                scheduleRebuild();
+            }
+        });
+    }
+
+    /**
+     * Every team, best rated first.
+     */
+    public List<PowerRankingDto> getPowerRankings() {
+        List<PowerRankings.Rated> ranking = powerRankings.getRankings();
+        List<PowerRankingDto> rankings = new ArrayList<>(ranking.size());
+        for (PowerRankings.Rated rated : ranking) {
+            rankings.add(new PowerRankingDto(rankings.size() + 1, rated.teamId(), rated.teamName(),
+                    rated.rating(), rated.matches()));
+        }
+        return rankings;
+    }
+
+    /**
+     * Repair operation: rates every team again from scratch by replaying all
+     * FINISHED matches in date order. Results recorded while it runs start
+     * another pass, so none of them is lost to the rewrite.
+     */
+    public void rebuild() {
+        synchronized (rebuildLock) {
+            for (int pass = 1; pass <= MAX_REBUILD_PASSES; pass++) {
+                long before = recorded.get();
+                transactionTemplate.executeWithoutResult(status -> replayAll());
+                if (recorded.get() == before) {
+                    break;
+                }
+                if (pass == MAX_REBUILD_PASSES) {
+                    log.warn("Results kept finishing during {} rating rebuilds, scheduling another", pass);
+                    scheduleRebuild();
+                }
+            }
+            powerRankings.invalidate();
+        }
+    }
+
+    // Counted once committed, so a rebuild pass that reads before the commit is never taken as complete
+    private void countAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            recorded.incrementAndGet();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                recorded.incrementAndGet();
+            }
+        });
+    }
+
+    private void scheduleRebuild() {
+        if (rebuildScheduled.compareAndSet(false, true)) {
+            pool.execute(() -> {
+                // Cleared first, so a request arriving mid-rebuild gets a rebuild of its own
+                rebuildScheduled.set(false);
+                rebuild();
+            });
+        }
+    }
+
+    // First rated match of the team: its team row keeps a concurrent first match from inserting it too
+    private TeamRatingEntity firstRating(UUID teamId) {
+        TeamEntity team = teamRepository.findByIdForUpdate(teamId)
+                .orElseThrow(() -> new IllegalStateException("Team not found: " + teamId));
+        return ratingRepository.findById(teamId).orElseGet(() -> ratingRepository.save(
+                TeamRatingEntity.builder().team(team).rating(Elo.INITIAL).matches(0).build()));
+    }
+
+    private void replayAll() {
+        List<TeamRatingView> teams = ratingRepository.findAllRatings();
+        Map<UUID, Integer> ordinals = new HashMap<>();
+        for (TeamRatingView team : teams) {
+            ordinals.put(team.getTeamId(), ordinals.size());
+        }
+
+        // Results of teams that no longer exist are skipped
+        List<FinishedResultView> results = new ArrayList<>();
+        for (FinishedResultView result : matchRepository.findFinishedResults(MatchStatus.FINISHED)) {
+            Integer home = ordinals.get(result.getHomeTeamId());
+            Integer away = ordinals.get(result.getAwayTeamId());
+            if (home != null && away != null && !home.equals(away)) {
+                results.add(result);
+            }
+        }
+
+        int[] home = new int[results.size()];
+        int[] away = new int[results.size()];
+        int[] homeGoals = new int[results.size()];
+        int[] awayGoals = new int[results.size()];
+        for (int i = 0; i < results.size(); i++) {
+            FinishedResultView result = results.get(i);
+            home[i] = ordinals.get(result.getHomeTeamId());
+            away[i] = ordinals.get(result.getAwayTeamId());
+            homeGoals[i] = result.getHomeGoals() != null ? result.getHomeGoals() : 0;
+            awayGoals[i] = result.getAwayGoals() != null ? result.getAwayGoals() : 0;
+        }
+
+        double[] ratings = new double[teams.size()];
+        int[] matches = new int[teams.size()];
+        Arrays.fill(ratings, Elo.INITIAL);
+        // Groups share no team, so each one writes its own slots of the arrays
+        List<int[]> groups = independentGroups(teams.size(), home, away);
+        pool.submit(() -> groups.parallelStream().forEach(group -> {
+            for (int i : group) {
+                double delta = elo.homeDelta(ratings[home[i]], ratings[away[i]], homeGoals[i], awayGoals[i]);
+                ratings[home[i]] += delta;
+                ratings[away[i]] -= delta;
+                matches[home[i]]++;
+                matches[away[i]]++;
+            }
+        })).join();
+
+        ratingRepository.deleteAllInBatch();
+        List<TeamRatingEntity> rows = new ArrayList<>(teams.size());
+        for (TeamRatingView team : teams) {
+            int ordinal = ordinals.get(team.getTeamId());
+            rows.add(TeamRatingEntity.builder()
+                    .team(teamRepository.getReferenceById(team.getTeamId()))
+                    .rating(ratings[ordinal])
+                    .matches(matches[ordinal])
+                    .build());
+        }
+        ratingRepository.saveAll(rows);
+        log.info("Rated {} teams from {} finished matches in {} independent groups",
+                teams.size(), results.size(), groups.size());
+    }
+
+    /**
+     * Splits the results into groups of teams connected by the matches between
+     * them (union-find). Each group lists its result indices in their original,
+     * date order.
+     */
+    static List<int[]> independentGroups(int teams, int[] home, int[] away) {
+        int[] parent = new int[teams];
+        for (int team = 0; team < teams; team++) {
+            parent[team] = team;
+        }
+        for (int i = 0; i < home.length; i++) {
+            int a = root(parent, home[i]);
+            int b = root(parent, away[i]);
+            if (a != b) {
+                parent[a] = b;
+            }
+        }
+
+        int[] sizes = new int[teams];
+        for (int i = 0; i < home.length; i++) {
+            sizes[root(parent, home[i])]++;
+        }
+        int[][] byRoot = new int[teams][];
+        int[] filled = new int[teams];
+        List<int[]> groups = new ArrayList<>();
+        for (int i = 0; i < home.length; i++) {
+            int root = root(parent, home[i]);
+            if (byRoot[root] == null) {
+                byRoot[root] = new int[sizes[root]];
+                groups.add(byRoot[root]);
+            }
+            byRoot[root][filled[root]++] = i;
+        }
+        return groups;
+    }
+
+    private static int root(int[] parent, int team) {
+        while (parent[team] != team) {
+            // Path halving
+            parent[team] = parent[parent[team]];
+            team = parent[team];
+        }
+        return team;
+    }
+}
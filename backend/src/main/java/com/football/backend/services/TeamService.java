@@ -16,18 +16,19 @@ import org.springframework.transaction.annotation.Transactional;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 @Service
 public class TeamService {
 
     private final TeamRepository teamRepository;
     private final CoachRepository coachRepository;
+    private final PowerRankings powerRankings;
 
     @Autowired
-    public TeamService(TeamRepository teamRepository, CoachRepository coachRepository) {
+    public TeamService(TeamRepository teamRepository, CoachRepository coachRepository, PowerRankings powerRankings) {
         this.teamRepository = teamRepository;
         this.coachRepository = coachRepository;
+        this.powerRankings = powerRankings;
     }
 
     @Transactional
@@ -38,15 +39,14 @@ public class TeamService {
         team.setCoach(null); 
 
         TeamEntity savedTeam = teamRepository.saveAndFlush(team);
+        // The new team joins the power rankings at the initial rating
+        powerRankings.invalidate();
         return new TeamSummaryDto(savedTeam);
     }
 
     @Transactional(readOnly = true)
     public List<TeamSummaryDto> getAllTeams() {
-        List<TeamEntity> teams = teamRepository.findAll();
-        return teams.stream()
-                .map(TeamSummaryDto::new)
-                .collect(Collectors.toList());
+        return teamRepository.findAllSummaries();
     }
 
     @Transactional(readOnly = true)
@@ -87,7 +87,7 @@ public class TeamService {
     public List<TeamDto> getAvailableTeams() {
         return teamRepository.findByCoachIsNull().stream()
                 .map(TeamDto::new)
-                .collect(Collectors.toList());
+                .toList();
     }
 
     @Transactional
@@ -0,0 +1,198 @@
+package com.football.backend.services;
+
+import com.football.backend.dto.StandingsEntryDto;
+import com.football.backend.dto.TitleRaceDto;
+import com.football.backend.entities.EditionEntity;
+import com.football.backend.exceptions.ResourceNotFoundException;
+import com.football.backend.models.CompetitionStrategy;
+import com.football.backend.models.MatchStatus;
+import com.football.backend.models.race.TitleRace;
+import com.football.backend.repositories.EditionRepository;
+import com.football.backend.repositories.MatchRepository;
+import com.football.backend.repositories.projections.FixtureTeamsView;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Clinched, eliminated and still contending teams of league editions, worked
+ * out by {@link TitleRace} from the current standings and the matches not
+ * finished yet.
+ * <p>
+ * Results are kept per edition, tagged with the edition's version in
+ * {@link ChangeVersions}. Once the edition changes, the next read works the race
+ * out again; when the new table only follows from the old one by finishing some
+ * of its matches, teams that had clinched or were out stay so and only the
+ * others are checked again. A reopened or corrected result, or a new fixture,
+ * means a full recomputation.
+ */
+@Service
+public class TitleRaceService {
+
+    // Beyond this many newly finished matches, the race is worked out from scratch
+    private static final int MAX_CARRIED_FIXTURES = 16;
+
+    private final EditionRepository editionRepository;
+    private final MatchRepository matchRepository;
+    private final StandingsService standingsService;
+    private final ChangeVersions changeVersions;
+
+    // Access ordered for LRU eviction; guarded by itself
+    private final Map<UUID, Race> cache;
+
+    @Autowired
+    public TitleRaceService(
+            EditionRepository editionRepository,
+            MatchRepository matchRepository,
+            StandingsService standingsService,
+            ChangeVersions changeVersions,
+            @Value("${title-race.cache.max-size:128}") int cacheSize
+    ) {
+        this.editionRepository = editionRepository;
+        this.matchRepository = matchRepository;
+        this.standingsService = standingsService;
+        this.changeVersions = changeVersions;
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<UUID, Race> eldest) {
+                return size() > cacheSize;
+            }
+        };
+    }
+
+    /**
+     * The title race of the edition, with the ETag of the version it was worked out for.
+     */
+    public TaggedRace getTitleRace(UUID editionId) {
+        Race cached;
+        synchronized (cache) {
+            cached = cache.get(editionId);
+        }
+        if (cached != null && cached.etag().equals(changeVersions.currentTag(ChangeVersions.Scope.EDITION, editionId))) {
+            return new TaggedRace(cached.etag(), cached.race());
+        }
+
+        // Stamped before loading: a change committed meanwhile makes the result outdated right away
+        ChangeVersions.Stamp stamp = changeVersions.stamp(ChangeVersions.Scope.EDITION, editionId);
+        Race race = analyze(editionId, cached, changeVersions.tagOf(stamp));
+        synchronized (cache) {
+            cache.put(editionId, race);
+        }
+        return new TaggedRace(race.etag(), race.race());
+    }
+
+    private Race analyze(UUID editionId, Race previous, String etag) {
+        EditionEntity edition = editionRepository.findById(editionId)
+                .orElseThrow(() -> new ResourceNotFoundException("Edition not found with ID: " + editionId));
+        if (edition.getStrategyType() == CompetitionStrategy.KNOCKOUT) {
+            throw new IllegalArgumentException("Edition " + editionId + " is a knockout, it has no title race");
+        }
+
+        List<StandingsEntryDto> table = standingsService.getStandingsSnapshot(editionId).getTable();
+        int teams = table.size();
+        Map<UUID, Integer> ordinals = new HashMap<>();
+        List<UUID> teamIds = new ArrayList<>(teams);
+        int[] points = new int[teams];
+        for (int team = 0; team < teams; team++) {
+            ordinals.put(table.get(team).getTeamId(), team);
+            teamIds.add(table.get(team).getTeamId());
+            points[team] = table.get(team).getPoIntegers();
+        }
+
+        // Matches not finished yet are still to play; anything outside the table is skipped
+        List<Fixture> remaining = new ArrayList<>();
+        for (FixtureTeamsView fixture : matchRepository.findRemainingFixtures(editionId, MatchStatus.FINISHED)) {
+            if (ordinals.containsKey(fixture.getHomeTeamId()) && ordinals.containsKey(fixture.getAwayTeamId())) {
+                remaining.add(new Fixture(fixture.getHomeTeamId(), fixture.getAwayTeamId()));
+            }
+        }
+        int[] home = new int[remaining.size()];
+        int[] away = new int[remaining.size()];
+        for (int i = 0; i < remaining.size(); i++) {
+            home[i] = ordinals.get(remaining.get(i).home());
+            away[i] = ordinals.get(remaining.get(i).away());
+        }
+
+        TitleRace titleRace = new TitleRace(points, home, away);
+        TitleRace.Status[] settled = carryOver(previous, ordinals, points, remaining);
+        TitleRace.Status[] statuses = titleRace.analyze(settled);
+
+        List<TitleRaceDto.TeamRaceDto> entries = new ArrayList<>(teams);
+        for (int team = 0; team < teams; team++) {
+            StandingsEntryDto entry = table.get(team);
+            entries.add(new TitleRaceDto.TeamRaceDto(entry.getTeamId(), entry.getTeamName(), points[team],
+                    titleRace.maxPoints(team), statuses[team]));
+        }
+        TitleRaceDto race = new TitleRaceDto(editionId, remaining.size(), settled != null, entries);
+        return new Race(etag, teamIds, points, remaining, statuses, race);
+    }
+
+    /**
+     * The statuses of the previous race, in the new team order, when the new
+     * table follows from it by finishing some of its fixtures; null otherwise.
+     */
+    private TitleRace.Status[] carryOver(Race previous, Map<UUID, Integer> ordinals, int[] points,
+                                         List<Fixture> remaining) {
+        if (previous == null || previous.teamIds().size() != ordinals.size()
+                || !ordinals.keySet().containsAll(previous.teamIds())) {
+            return null;
+        }
+
+        // What was left before and is not any more; a fixture that was not left before rules it out
+        Map<Fixture, Integer> finished = new HashMap<>();
+        for (Fixture fixture : previous.remaining()) {
+            finished.merge(fixture, 1, Integer::sum);
+        }
+        for (Fixture fixture : remaining) {
+            Integer left = finished.get(fixture);
+            if (left == null) {
+                return null;
+            }
+            if (left == 1) {
+                finished.remove(fixture);
+            } else {
+                finished.put(fixture, left - 1);
+            }
+        }
+        int count = finished.values().stream().mapToInt(Integer::intValue).sum();
+        if (count > MAX_CARRIED_FIXTURES) {
+            return null;
+        }
+
+        int[] before = new int[points.length];
+        TitleRace.Status[] settled = new TitleRace.Status[points.length];
+        for (int team = 0; team < previous.teamIds().size(); team++) {
+            int ordinal = ordinals.get(previous.teamIds().get(team));
+            before[ordinal] = previous.points()[team];
+            settled[ordinal] = previous.statuses()[team];
+        }
+        int[] home = new int[count];
+        int[] away = new int[count];
+        int i = 0;
+        for (Map.Entry<Fixture, Integer> fixture : finished.entrySet()) {
+            for (int times = 0; times < fixture.getValue(); times++) {
+                home[i] = ordinals.get(fixture.getKey().home());
+                away[i] = ordinals.get(fixture.getKey().away());
+                i++;
+            }
+        }
+        return TitleRace.canExplain(before, points, home, away) ? settled : null;
+    }
+
+    public record TaggedRace(String etag, TitleRaceDto race) {
+    }
+
+    private record Fixture(UUID home, UUID away) {
+    }
+
+    private record Race(String etag, List<UUID> teamIds, int[] points, List<Fixture> remaining,
+                        TitleRace.Status[] statuses, TitleRaceDto race) {
+    }
+}
@@ -0,0 +1,38 @@
+package com.football.backend.entities.ids;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TimeOrderedUuidsTest {
+
+    @Test
+    void next_isAVersion7UuidCarryingItsMillisecond() {
+        // Ahead of any id handed out so far, which the sequence would otherwise continue from
+        long millis = System.currentTimeMillis() + 600_000;
+        UUID id = TimeOrderedUuids.next(millis);
+
+        assertThat(id.version()).isEqualTo(7);
+        assertThat(id.variant()).isEqualTo(2);
+        assertThat(id.getMostSignificantBits() >>> 16).isEqualTo(millis);
+    }
+
+    @Test
+    void next_sortsInCreationOrderAsStoredBytes() {
+        long millis = System.currentTimeMillis() + 120_000;
+        List<byte[]> stored = new ArrayList<>();
+        // More ids than the sequence holds within one millisecond, plus a clock step back
+        for (int i = 0; i < 10_000; i++) {
+            stored.add(TimeOrderedUuids.toBytes(TimeOrderedUuids.next(i == 5_000 ? millis - 1_000 : millis)));
+        }
+
+        for (int i = 1; i < stored.size(); i++) {
+            assertThat(Arrays.compareUnsigned(stored.get(i - 1), stored.get(i))).isNegative();
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.football.backend.entities.ids;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Insert throughput of a match_event shaped table keyed by random v4 ids versus
+ * {@link TimeOrderedUuids}, both as BINARY(16). Only runs when pointed at a database:
+ * <pre>
+ * mvn test -Dtest=UuidInsertBenchmark \
+ *     -Dbenchmark.jdbc-url='jdbc:mysql://localhost:3306/football-db?rewriteBatchedStatements=true' \
+ *     -Dbenchmark.user=mysql-user -Dbenchmark.password=mysql-pass [-Dbenchmark.rows=5000000]
+ * </pre>
+ * Prints the rate of every million rows, which shows how it holds up as the index grows.
+ */
+@EnabledIfSystemProperty(named = "benchmark.jdbc-url", matches = ".+")
+class UuidInsertBenchmark {
+
+    private static final int BATCH = 1_000;
+    private static final int COMMIT_EVERY = 10_000;
+    private static final long REPORT_EVERY = 1_000_000;
+
+    @Test
+    void insertThroughput_randomVersusTimeOrderedKeys() throws SQLException {
+        long rows = Long.getLong("benchmark.rows", 2_000_000);
+        try (Connection connection = DriverManager.getConnection(System.getProperty("benchmark.jdbc-url"),
+                System.getProperty("benchmark.user", ""), System.getProperty("benchmark.password", ""))) {
+            connection.setAutoCommit(false);
+            double random = run(connection, "bench_event_random", UUID::randomUUID, rows);
+            double ordered = run(connection, "bench_event_ordered", TimeOrderedUuids::next, rows);
+            System.out.printf("%,d rows: random v4 %,.0f rows/s, time-ordered %,.0f rows/s (x%.2f)%n",
+                    rows, random, ordered, ordered / random);
+        }
+    }
+
+    private static double run(Connection connection, String table, Supplier<UUID> ids, long rows) throws SQLException {
+        try (Statement ddl = connection.createStatement()) {
+            ddl.execute("DROP TABLE IF EXISTS " + table);
+            ddl.execute("CREATE TABLE " + table + " (" +
+                    "id BINARY(16) NOT NULL PRIMARY KEY, " +
+                    "match_id BINARY(16) NOT NULL, " +
+                    "type VARCHAR(32), " +
+                    "minute_played INT, " +
+                    "details VARCHAR(255))");
+            connection.commit();
+        }
+
+        byte[] matchId = TimeOrderedUuids.toBytes(TimeOrderedUuids.next());
+        long started = System.nanoTime();
+        long segmentStarted = started;
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO " + table + " (id, match_id, type, minute_played, details) VALUES (?, ?, ?, ?, ?)")) {
+            for (long i = 1; i <= rows; i++) {
+                insert.setBytes(1, TimeOrderedUuids.toBytes(ids.get()));
+                insert.setBytes(2, matchId);
+                insert.setString(3, "GOAL");
+                insert.setInt(4, (int) (i % 90));
+                insert.setString(5, "Benchmark event " + i);
+                insert.addBatch();
+                if (i % BATCH == 0) {
+                    insert.executeBatch();
+                }
+                if (i % COMMIT_EVERY == 0) {
+                    connection.commit();
+                }
+                if (i % REPORT_EVERY == 0) {
+                    long now = System.nanoTime();
+                    System.out.printf("%s: rows %,d-%,d at %,.0f rows/s%n", table, i - REPORT_EVERY + 1, i,
+                            REPORT_EVERY * 1e9 / (now - segmentStarted));
+                    segmentStarted = now;
+                }
+            }
+            insert.executeBatch();
+            connection.commit();
+        }
+        double rate = rows * 1e9 / (System.nanoTime() - started);
+
+        try (Statement ddl = connection.createStatement()) {
+            ddl.execute("DROP TABLE " + table);
+            connection.commit();
+        }
+        return rate;
+    }
+}
@@ -0,0 +1,36 @@
+package com.football.backend.models;
+
+import com.football.backend.models.rating.Elo;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class EloTest {
+
+    private final Elo elo = new Elo(20, 60);
+
+    @Test
+    void expected_isSymmetricAndFavoursTheBetterRatedTeam() {
+        assertThat(Elo.expected(1500, 1500)).isEqualTo(0.5);
+        assertThat(Elo.expected(1900, 1500)).isCloseTo(10.0 / 11, within(1e-9));
+        assertThat(Elo.expected(1650, 1500) + Elo.expected(1500, 1650)).isCloseTo(1, within(1e-9));
+    }
+
+    @Test
+    void homeDelta_givesTheHomeSideItsAdvantage() {
+        // Evenly rated, the home side is expected to do better than a draw
+        assertThat(elo.homeDelta(1500, 1500, 1, 1)).isNegative();
+        assertThat(elo.homeDelta(1500, 1500, 1, 0)).isPositive();
+        assertThat(new Elo(20, 0).homeDelta(1500, 1500, 1, 1)).isZero();
+    }
+
+    @Test
+    void homeDelta_scalesWithTheGoalMargin() {
+        double one = elo.homeDelta(1500, 1500, 1, 0);
+
+        assertThat(elo.homeDelta(1500, 1500, 2, 0)).isCloseTo(1.5 * one, within(1e-9));
+        assertThat(elo.homeDelta(1500, 1500, 5, 0)).isCloseTo(2 * one, within(1e-9));
+        assertThat(elo.homeDelta(1500, 1500, 0, 3)).isCloseTo(-1.75 * 20 * Elo.expected(1560, 1500), within(1e-9));
+    }
+}
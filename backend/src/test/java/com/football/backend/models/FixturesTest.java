@@ -0,0 +1,68 @@
+package com.football.backend.models;
+
+import com.football.backend.models.strategy.Fixtures;
+import com.football.backend.models.strategy.KnockoutStrategy;
+import com.football.backend.models.strategy.RobinRoundDoubleStrategy;
+import com.football.backend.models.strategy.RobinRoundStrategy;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FixturesTest {
+
+    private static List<Team> teams(int count) {
+        List<Team> teams = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            teams.add(new Team(new UUID(0, i), null, "Team " + i));
+        }
+        return teams;
+    }
+
+    @Test
+    void robinRound_everyPairMeetsOnceAndEveryTeamPlaysEachRound() {
+        int n = 10;
+        Fixtures fixtures = new RobinRoundStrategy().generateFixtures(teams(n));
+
+        assertThat(fixtures.roundCount()).isEqualTo(n - 1);
+        Set<Long> pairs = new HashSet<>();
+        fixtures.stream((round, slot, home, away) -> (long) Math.min(home, away) * n + Math.max(home, away))
+                .forEach(pairs::add);
+        assertThat(pairs).hasSize(n * (n - 1) / 2);
+
+        List<Set<Integer>> playing = new ArrayList<>();
+        for (int r = 0; r < fixtures.roundCount(); r++) {
+            playing.add(new HashSet<>());
+        }
+        fixtures.stream((round, slot, home, away) -> playing.get(round).add(home) && playing.get(round).add(away))
+                .forEach(added -> assertThat(added).isTrue());
+    }
+
+    @Test
+    void robinRoundDouble_appendsSwappedReturnLegs() {
+        Fixtures single = new RobinRoundStrategy().generateFixtures(teams(6));
+        Fixtures doubled = new RobinRoundDoubleStrategy().generateFixtures(teams(6));
+
+        assertThat(doubled.roundCount()).isEqualTo(2 * single.roundCount());
+        assertThat(doubled.size()).isEqualTo(2 * single.size());
+        for (int i = 0; i < single.size(); i++) {
+            assertThat(doubled.home(single.size() + i)).isEqualTo(doubled.away(i));
+            assertThat(doubled.away(single.size() + i)).isEqualTo(doubled.home(i));
+        }
+        assertThat(doubled.matchDate(doubled.roundCount() - 1))
+                .isEqualTo(doubled.getFirstMatchDate().plusWeeks(doubled.roundCount() - 1));
+    }
+
+    @Test
+    void knockout_playsOneFixtureLessThanTeams() {
+        Fixtures fixtures = new KnockoutStrategy((team1, team2) -> team2).generateFixtures(teams(13));
+
+        assertThat(fixtures.size()).isEqualTo(12);
+        assertThat(fixtures.roundCount()).isEqualTo(4);
+    }
+}
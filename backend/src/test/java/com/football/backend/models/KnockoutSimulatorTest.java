@@ -0,0 +1,107 @@
+package com.football.backend.models;
+
+import com.football.backend.models.simulation.KnockoutSimulator;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@Slf4j
+class KnockoutSimulatorTest {
+
+    @Test
+    void simulate_isReproducibleFromTheSeedWhateverThePoolSize() {
+        KnockoutSimulator simulator = new KnockoutSimulator(randomCriteria(16, 7));
+        ForkJoinPool single = new ForkJoinPool(1);
+        ForkJoinPool four = new ForkJoinPool(4);
+        try {
+            KnockoutSimulator.Result first = simulator.simulate(identity(16), 100_000, 42, single);
+            KnockoutSimulator.Result second = simulator.simulate(identity(16), 100_000, 42, four);
+            KnockoutSimulator.Result otherSeed = simulator.simulate(identity(16), 100_000, 43, four);
+
+            assertThat(second.reached()).isEqualTo(first.reached());
+            assertThat(otherSeed.reached()).isNotEqualTo(first.reached());
+        } finally {
+            single.shutdown();
+            four.shutdown();
+        }
+    }
+
+    @Test
+    void simulate_decidesTiesLikeTheDecider() {
+        // Home is ahead on three criteria, level on one: it goes through 3.5 times out of 6
+        double[][] criteria = {
+                {90, 80, 70, 50, 10, 10},
+                {10, 10, 10, 50, 90, 90}
+        };
+        KnockoutSimulator.Result result = new KnockoutSimulator(criteria)
+                .simulate(new int[]{0, 1}, 200_000, 1, ForkJoinPool.commonPool());
+
+        assertThat(result.rounds()).isEqualTo(1);
+        assertThat(result.winProbability(0)).isCloseTo(3.5 / 6, within(0.01));
+        assertThat(result.winProbability(0) + result.winProbability(1)).isEqualTo(1.0);
+    }
+
+    @Test
+    void simulate_letsTheOddTeamOutThroughToTheNextRound() {
+        double[][] criteria = {{50}, {50}, {50}};
+        KnockoutSimulator.Result result = new KnockoutSimulator(criteria)
+                .simulate(new int[]{0, 1, 2}, 10_000, 1, ForkJoinPool.commonPool());
+
+        assertThat(result.rounds()).isEqualTo(2);
+        assertThat(result.reachProbability(2, 1)).isEqualTo(1.0);
+        assertThat(result.reachProbability(0, 1) + result.reachProbability(1, 1)).isEqualTo(1.0);
+    }
+
+    @Test
+    @Timeout(value = 30, unit = TimeUnit.SECONDS)
+    void simulate_playsAMillion64TeamBrackets() {
+        int teams = 64;
+        double[][] criteria = randomCriteria(teams, 3);
+        // The last team is ahead of everyone on every criterion
+        for (int c = 0; c < criteria[teams - 1].length; c++) {
+            criteria[teams - 1][c] = 101;
+        }
+
+        long started = System.nanoTime();
+        KnockoutSimulator.Result result = new KnockoutSimulator(criteria)
+                .simulate(identity(teams), 1_000_000, 2024, ForkJoinPool.commonPool());
+        log.info("1M brackets of {} teams in {} ms", teams, (System.nanoTime() - started) / 1_000_000);
+
+        assertThat(result.rounds()).isEqualTo(6);
+        for (int round = 0; round <= result.rounds(); round++) {
+            double expected = teams >> round;
+            double sum = 0;
+            for (int team = 0; team < teams; team++) {
+                sum += result.reachProbability(team, round);
+            }
+            assertThat(sum).as("round %d", round).isCloseTo(expected, within(1e-9));
+        }
+        assertThat(result.winProbability(teams - 1)).isEqualTo(1.0);
+    }
+
+    private static double[][] randomCriteria(int teams, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        double[][] criteria = new double[teams][6];
+        for (double[] scores : criteria) {
+            for (int c = 0; c < scores.length; c++) {
+                scores[c] = random.nextInt(101);
+            }
+        }
+        return criteria;
+    }
+
+    private static int[] identity(int teams) {
+        int[] bracket = new int[teams];
+        for (int i = 0; i < teams; i++) {
+            bracket[i] = i;
+        }
+        return bracket;
+    }
+}
@@ -6,7 +6,10 @@ import com.football.backend.services.MatchStrategyService;
 import com.football.backend.services.TeamPowerService;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 public class KnockoutStrategyTest {
@@ -27,30 +30,16 @@ public class KnockoutStrategyTest {
         teams.add(new Team(UUID.randomUUID(), null, "Inter Milan"));
 
         //Mock
-        TeamPowerService dummyPowerService = new TeamPowerService(null) {
+        TeamPowerService dummyPowerService = new TeamPowerService(null, null) {
             @Override
-            public int calculateTotalTeamPower(String teamId) {
-                return (int) (Math.random() * 100);
-            }
-            @Override
-            public double calculateFinancialEvaluationScore(String teamId) {
-                return Math.random() * 100;
-            }
-            @Override
-            public double calculateAverageAgeScore(String teamId) {
-                return Math.random() * 100;
-            }
-            @Override
-            public double calculateCohesionScore(String teamId) {
-                return Math.random() * 100;
-            }
-            @Override
-            public double calculateTacticalBalanceScore(String teamId) {
-                return Math.random() * 100;
-            }
-            @Override
-            public double calculateSquadDepthScore(String teamId) {
-                return Math.random() * 100;
+            public Map<UUID, TeamPower> evaluateTeams(Collection<UUID> teamIds) {
+                Map<UUID, TeamPower> powers = new HashMap<>();
+                for (UUID teamId : teamIds) {
+                    powers.put(teamId, new TeamPower(teamId, 25,
+                            Math.random() * 100, Math.random() * 100, Math.random() * 100,
+                            Math.random() * 100, Math.random() * 100));
+                }
+                return powers;
             }
         };
 
@@ -0,0 +1,82 @@
+package com.football.backend.models;
+
+import com.football.backend.models.simulation.LeagueSimulator;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class LeagueSimulatorTest {
+
+    @Test
+    void simulate_fillsEveryPositionOnceAndIsReproducibleFromTheSeed() {
+        // Four teams, two rounds to go
+        LeagueSimulator simulator = new LeagueSimulator(
+                new int[]{12, 10, 9, 4}, new int[]{5, 3, 0, -8}, new int[]{11, 9, 7, 3},
+                new double[]{70, 60, 55, 30},
+                new int[]{0, 2, 0, 1}, new int[]{1, 3, 2, 3});
+        ForkJoinPool single = new ForkJoinPool(1);
+        ForkJoinPool four = new ForkJoinPool(4);
+        try {
+            LeagueSimulator.Result result = simulator.simulate(50_000, 7, single);
+
+            assertThat(simulator.simulate(50_000, 7, four).counts()).isEqualTo(result.counts());
+            for (int i = 0; i < 4; i++) {
+                double team = 0;
+                double position = 0;
+                for (int j = 0; j < 4; j++) {
+                    team += result.positionProbability(i, j);
+                    position += result.positionProbability(j, i);
+                }
+                assertThat(team).isCloseTo(1.0, within(1e-9));
+                assertThat(position).isCloseTo(1.0, within(1e-9));
+            }
+            assertThat(result.topProbability(0, 4)).isCloseTo(1.0, within(1e-9));
+        } finally {
+            single.shutdown();
+            four.shutdown();
+        }
+    }
+
+    @Test
+    void simulate_keepsAClinchedLeaderFirst() {
+        // The leader is seven points clear with two matches left for everyone
+        LeagueSimulator.Result result = new LeagueSimulator(
+                new int[]{20, 13, 10, 8}, new int[]{10, 2, -4, -8}, new int[]{15, 9, 6, 4},
+                new double[]{10, 90, 90, 90},
+                new int[]{0, 2, 0, 1}, new int[]{1, 3, 2, 3})
+                .simulate(20_000, 1, ForkJoinPool.commonPool());
+
+        assertThat(result.positionProbability(0, 0)).isEqualTo(1.0);
+        assertThat(result.averagePoints(0)).isBetween(20.0, 26.0);
+    }
+
+    @Test
+    void simulate_sharesPositionsBetweenTeamsLevelOnEveryTiebreaker() {
+        LeagueSimulator.Result result = new LeagueSimulator(
+                new int[]{30, 30, 10}, new int[]{4, 4, -8}, new int[]{20, 20, 9},
+                new double[]{50, 50, 50},
+                new int[0], new int[0])
+                .simulate(40_000, 3, ForkJoinPool.commonPool());
+
+        assertThat(result.positionProbability(0, 0)).isCloseTo(0.5, within(0.02));
+        assertThat(result.positionProbability(1, 0)).isCloseTo(0.5, within(0.02));
+        assertThat(result.positionProbability(2, 2)).isEqualTo(1.0);
+        assertThat(result.averagePoints(2)).isEqualTo(10.0);
+    }
+
+    @Test
+    void simulate_favoursTheStrongerSide() {
+        // The same two teams meet twice, each hosting once
+        LeagueSimulator.Result result = new LeagueSimulator(
+                new int[]{0, 0}, new int[]{0, 0}, new int[]{0, 0},
+                new double[]{80, 30},
+                new int[]{0, 1}, new int[]{1, 0})
+                .simulate(40_000, 5, ForkJoinPool.commonPool());
+
+        assertThat(result.averagePoints(0)).isGreaterThan(result.averagePoints(1) + 1);
+        assertThat(result.positionProbability(0, 0)).isGreaterThan(0.7);
+    }
+}
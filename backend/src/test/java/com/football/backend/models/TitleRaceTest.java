@@ -0,0 +1,163 @@
+package com.football.backend.models;
+
+import com.football.backend.models.race.TitleRace;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import static com.football.backend.models.race.TitleRace.Status.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Slf4j
+class TitleRaceTest {
+
+    @Test
+    void analyze_spotsEliminationsThatOnlyFollowFromFixturesBetweenRivals() {
+        // Team 3 can reach 13, but teams 0 and 1 meet twice: one of them gets past 13
+        // unless both games are drawn, which still takes team 0 to 14
+        TitleRace race = new TitleRace(new int[]{12, 11, 3, 7}, new int[]{0, 1, 3, 2}, new int[]{1, 0, 2, 3});
+
+        assertThat(race.maxPoints(3)).isEqualTo(13);
+        assertThat(race.analyze()).containsExactly(ALIVE, ALIVE, ELIMINATED, ELIMINATED);
+    }
+
+    @Test
+    void analyze_clinchesWhenNobodyCanReachTheLeader() {
+        TitleRace race = new TitleRace(new int[]{30, 23, 20}, new int[]{1, 2}, new int[]{0, 1});
+
+        assertThat(race.analyze()).containsExactly(CLINCHED, ELIMINATED, ELIMINATED);
+    }
+
+    @Test
+    void analyze_agreesWithEveryCompletionOfSmallLeagues() {
+        SplittableRandom random = new SplittableRandom(2024);
+        for (int league = 0; league < 300; league++) {
+            int teams = 3 + random.nextInt(3);
+            int[] points = new int[teams];
+            for (int team = 0; team < teams; team++) {
+                points[team] = random.nextInt(12);
+            }
+            List<int[]> fixtures = new ArrayList<>();
+            int count = 1 + random.nextInt(7);
+            while (fixtures.size() < count) {
+                int h = random.nextInt(teams);
+                int a = random.nextInt(teams);
+                if (h != a) {
+                    fixtures.add(new int[]{h, a});
+                }
+            }
+            int[] home = fixtures.stream().mapToInt(f -> f[0]).toArray();
+            int[] away = fixtures.stream().mapToInt(f -> f[1]).toArray();
+
+            assertThat(new TitleRace(points, home, away).analyze())
+                    .as("points %s, fixtures %s / %s", Arrays.toString(points),
+                            Arrays.toString(home), Arrays.toString(away))
+                    .containsExactly(bruteForce(points, home, away));
+        }
+    }
+
+    @Test
+    void analyze_keepsSettledTeamsFromAnEarlierTable() {
+        TitleRace race = new TitleRace(new int[]{12, 11, 3, 7}, new int[]{0, 1, 3, 2}, new int[]{1, 0, 2, 3});
+
+        // Whatever was settled before is trusted, the rest is worked out again
+        assertThat(race.analyze(new TitleRace.Status[]{ALIVE, ELIMINATED, null, ALIVE}))
+                .containsExactly(ALIVE, ELIMINATED, ELIMINATED, ELIMINATED);
+    }
+
+    @Test
+    void canExplain_acceptsOnlyPointsTheFixturesCanHandOut() {
+        int[] home = {0, 1};
+        int[] away = {1, 2};
+
+        assertThat(TitleRace.canExplain(new int[]{5, 5, 5}, new int[]{8, 6, 6}, home, away)).isTrue();
+        assertThat(TitleRace.canExplain(new int[]{5, 5, 5}, new int[]{6, 9, 5}, home, away)).isTrue();
+        assertThat(TitleRace.canExplain(new int[]{5, 5, 5}, new int[]{7, 5, 5}, home, away)).isFalse();
+        assertThat(TitleRace.canExplain(new int[]{5, 5, 5}, new int[]{4, 8, 8}, home, away)).isFalse();
+    }
+
+    @Test
+    @Timeout(value = 5, unit = TimeUnit.SECONDS)
+    void analyze_settlesATwentyTeamLeagueWithTenRoundsLeft() {
+        int teams = 20;
+        SplittableRandom random = new SplittableRandom(11);
+        // A double round robin with 28 of its 38 rounds played, and a tight top half
+        int[] points = new int[teams];
+        for (int team = 0; team < teams; team++) {
+            points[team] = 60 - 2 * team - random.nextInt(3);
+        }
+        int[] home = new int[10 * teams / 2];
+        int[] away = new int[home.length];
+        int[] seats = new int[teams];
+        for (int i = 0; i < teams; i++) {
+            seats[i] = i;
+        }
+        int fixture = 0;
+        for (int round = 0; round < 10; round++) {
+            for (int i = 0; i < teams / 2; i++) {
+                home[fixture] = seats[i];
+                away[fixture] = seats[teams - 1 - i];
+                fixture++;
+            }
+            int last = seats[teams - 1];
+            System.arraycopy(seats, 1, seats, 2, teams - 2);
+            seats[1] = last;
+        }
+
+        long started = System.nanoTime();
+        TitleRace.Status[] statuses = new TitleRace(points, home, away).analyze();
+        long elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+        log.info("20 teams, 10 rounds left: settled in {} ms", elapsedMillis);
+
+        assertThat(statuses).doesNotContain(UNDECIDED);
+        assertThat(statuses[0]).isEqualTo(ALIVE);
+        assertThat(statuses[teams - 1]).isEqualTo(ELIMINATED);
+        assertThat(elapsedMillis).isLessThan(1000);
+    }
+
+    private static TitleRace.Status[] bruteForce(int[] points, int[] home, int[] away) {
+        int teams = points.length;
+        boolean[] canTop = new boolean[teams];
+        boolean[] alwaysAlone = new boolean[teams];
+        Arrays.fill(alwaysAlone, true);
+
+        int completions = (int) Math.pow(3, home.length);
+        for (int code = 0; code < completions; code++) {
+            int[] total = points.clone();
+            int rest = code;
+            for (int i = 0; i < home.length; i++) {
+                switch (rest % 3) {
+                    case 0 -> total[home[i]] += 3;
+                    case 1 -> {
+                        total[home[i]]++;
+                        total[away[i]]++;
+                    }
+                    default -> total[away[i]] += 3;
+                }
+                rest /= 3;
+            }
+            int best = Arrays.stream(total).max().orElseThrow();
+            long leaders = Arrays.stream(total).filter(p -> p == best).count();
+            for (int team = 0; team < teams; team++) {
+                if (total[team] == best) {
+                    canTop[team] = true;
+                }
+                if (total[team] != best || leaders > 1) {
+                    alwaysAlone[team] = false;
+                }
+            }
+        }
+
+        TitleRace.Status[] statuses = new TitleRace.Status[teams];
+        for (int team = 0; team < teams; team++) {
+            statuses[team] = alwaysAlone[team] ? CLINCHED : canTop[team] ? ALIVE : ELIMINATED;
+        }
+        return statuses;
+    }
+}
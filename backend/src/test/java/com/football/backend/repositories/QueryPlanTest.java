@@ -0,0 +1,247 @@
+package com.football.backend.repositories;
+
+import com.football.backend.entities.*;
+import com.football.backend.models.CompetitionStrategy;
+import com.football.backend.models.MatchEventType;
+import com.football.backend.models.MatchStatus;
+import com.football.backend.services.DatabaseSeeder;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.TestFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs EXPLAIN on the SQL behind each repository lookup, against a seeded
+ * database, and fails when H2 plans a full scan of any table. Listings that
+ * read every row anyway (findAll, the summaries) are left out.
+ */
+@DataJpaTest(properties = {
+        // "minute" is a keyword in H2, which otherwise drops the match_event table
+        "spring.datasource.url=jdbc:h2:mem:queryplans;NON_KEYWORDS=MINUTE",
+        "spring.jpa.properties.hibernate.jdbc.batch_size=100",
+        "spring.jpa.properties.hibernate.order_inserts=true",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.football.backend.repositories.QueryPlanTest$RecordingInspector"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class QueryPlanTest {
+
+    private static final int TEAMS = 20;
+    private static final int EDITIONS = 4;
+    private static final int PLAYERS_PER_TEAM = 20;
+
+    /**
+     * Records the SQL Hibernate sends, so the test explains exactly what runs.
+     */
+    public static class RecordingInspector implements StatementInspector {
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+
+    @MockBean
+    private DatabaseSeeder databaseSeeder;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MatchRepository matchRepository;
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Autowired
+    private ContractRepository contractRepository;
+
+    @Autowired
+    private StandingsEntryRepository standingsEntryRepository;
+
+    @Autowired
+    private EditionRepository editionRepository;
+
+    @Autowired
+    private TeamRatingRepository teamRatingRepository;
+
+    @TestFactory
+    Stream<DynamicTest> repositoryQueriesUseIndexes() {
+        Seed seed = seed();
+        LocalDateTime now = LocalDateTime.of(2024, 6, 1, 0, 0);
+        PageRequest page = PageRequest.ofSize(20);
+
+        Map<String, Runnable> queries = new LinkedHashMap<>();
+        queries.put("MatchRepository.findByEditionIdAndStatus",
+                () -> matchRepository.findByEditionIdAndStatus(seed.editionId, MatchStatus.FINISHED));
+        queries.put("MatchRepository.findIdsByEditionId",
+                () -> matchRepository.findIdsByEditionId(seed.editionId));
+        queries.put("MatchRepository.findDetailedById",
+                () -> matchRepository.findDetailedById(seed.matchId));
+        queries.put("MatchRepository.findListRowsByEditionIdAndRoundOrUnscheduled",
+                () -> matchRepository.findListRowsByEditionIdAndRoundOrUnscheduled(seed.editionId, 3));
+        queries.put("MatchRepository.findRoundProgress",
+                () -> matchRepository.findRoundProgress(seed.editionId, MatchStatus.FINISHED));
+        queries.put("MatchRepository.findListRowsByEditionIdAndRound",
+                () -> matchRepository.findListRowsByEditionIdAndRound(seed.editionId, 3));
+        queries.put("MatchRepository.findDrawnFixtures",
+                () -> matchRepository.findDrawnFixtures(seed.editionId));
+        queries.put("MatchRepository.findRemainingFixtures",
+                () -> matchRepository.findRemainingFixtures(seed.editionId, MatchStatus.FINISHED));
+        queries.put("MatchRepository.findFinishedResults",
+                () -> matchRepository.findFinishedResults(MatchStatus.FINISHED));
+        queries.put("MatchRepository.findSchedulePage",
+                () -> matchRepository.findSchedulePage(now, page));
+        queries.put("MatchRepository.findSchedulePageAfter",
+                () -> matchRepository.findSchedulePageAfter(now, now.plusDays(7), seed.matchId, page));
+        queries.put("MatchRepository.findByStatusPage",
+                () -> matchRepository.findByStatusPage(MatchStatus.FINISHED, page));
+        queries.put("MatchRepository.findByStatusPageBefore",
+                () -> matchRepository.findByStatusPageBefore(MatchStatus.FINISHED, now, seed.matchId, page));
+        queries.put("MatchRepository.findDatedPageAfter",
+                () -> matchRepository.findDatedPageAfter(now, seed.matchId, page));
+        queries.put("MatchRepository.findUndatedPage",
+                () -> matchRepository.findUndatedPage(MatchStatus.SCHEDULED, page));
+        queries.put("MatchRepository.findScoreById",
+                () -> matchRepository.findScoreById(seed.matchId));
+        queries.put("PlayerRepository.findAllByTeamId",
+                () -> playerRepository.findAllByTeamId(seed.teamId));
+        queries.put("PlayerRepository.findSquadMembersByTeamIds",
+                () -> playerRepository.findSquadMembersByTeamIds(List.of(seed.teamId)));
+        queries.put("PlayerRepository.findContractViewsByIds",
+                () -> playerRepository.findContractViewsByIds(List.of(seed.playerId)));
+        queries.put("ContractRepository.findAllByPlayerId",
+                () -> contractRepository.findAllByPlayerId(seed.playerId));
+        queries.put("StandingsEntryRepository.findStandingsByEditionId",
+                () -> standingsEntryRepository.findStandingsByEditionId(seed.editionId));
+        queries.put("TeamRatingRepository.findAllForUpdate",
+                () -> teamRatingRepository.findAllForUpdate(List.of(seed.teamId)));
+        queries.put("EditionRepository.findViewsByCompetitionId",
+                () -> editionRepository.findViewsByCompetitionId(seed.competitionId));
+
+        return queries.entrySet().stream().map(query -> DynamicTest.dynamicTest(query.getKey(), () -> {
+            entityManager.clear();
+            RecordingInspector.STATEMENTS.clear();
+            query.getValue().run();
+
+            assertThat(RecordingInspector.STATEMENTS).isNotEmpty();
+            for (String sql : RecordingInspector.STATEMENTS) {
+                String plan = explain(sql);
+                assertThat(plan).as("Plan of %s", sql).doesNotContainIgnoringCase("tableScan");
+            }
+        }));
+    }
+
+    private String explain(String sql) {
+        int parameters = (int) sql.chars().filter(c -> c == '?').count();
+        return jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class, new Object[parameters]);
+    }
+
+    private record Seed(UUID competitionId, UUID editionId, UUID matchId, UUID teamId, UUID playerId) {
+    }
+
+    private Seed seed() {
+        List<TeamEntity> teams = new ArrayList<>();
+        for (int i = 0; i < TEAMS; i++) {
+            teams.add(entityManager.persist(TeamEntity.builder().name("Team " + i).build()));
+        }
+
+        List<PlayerEntity> players = new ArrayList<>();
+        for (TeamEntity team : teams) {
+            for (int i = 0; i < PLAYERS_PER_TEAM; i++) {
+                PlayerEntity player = entityManager.persist(PlayerEntity.builder()
+                        .firstname("Player")
+                        .lastname(team.getName() + " " + i)
+                        .position("Midfielder")
+                        .dateOfBirth(new Date(0))
+                        .team(team)
+                        .build());
+                entityManager.persist(ContractEntity.builder()
+                        .player(player)
+                        .team(team)
+                        .startDate(new Date(0))
+                        .endDate(new Date())
+                        .salaryPerYear(1000)
+                        .build());
+                players.add(player);
+            }
+        }
+
+        List<CompetitionEntity> competitions = new ArrayList<>();
+        List<EditionEntity> editions = new ArrayList<>();
+        for (int e = 0; e < EDITIONS; e++) {
+            CompetitionEntity competition = entityManager.persist(CompetitionEntity.builder().name("League " + e).build());
+            competitions.add(competition);
+            EditionEntity edition = new EditionEntity();
+            edition.setName("Season " + e);
+            edition.setCompetition(competition);
+            edition.setStrategyType(CompetitionStrategy.ROBIN_ROUND);
+            editions.add(entityManager.persist(edition));
+
+            StandingsEntity standings = new StandingsEntity();
+            standings.setEdition(edition);
+            entityManager.persist(standings);
+            for (TeamEntity team : teams) {
+                StandingsEntryEntity entry = new StandingsEntryEntity();
+                entry.setStandings(standings);
+                entry.setTeam(team);
+                entry.setWins(0);
+                entry.setDraws(0);
+                entry.setLosses(0);
+                entry.setGoalsFor(0);
+                entry.setGoalsAgainst(0);
+                entityManager.persist(entry);
+            }
+        }
+
+        MatchStatus[] statuses = MatchStatus.values();
+        LocalDateTime firstDay = LocalDateTime.of(2024, 1, 6, 15, 0);
+        MatchEntity sampleMatch = null;
+        for (EditionEntity edition : editions) {
+            for (int round = 1; round <= TEAMS - 1; round++) {
+                for (int i = 0; i < TEAMS / 2; i++) {
+                    MatchEntity match = entityManager.persist(MatchEntity.builder()
+                            .edition(edition)
+                            .homeTeam(teams.get(i))
+                            .awayTeam(teams.get(TEAMS - 1 - i))
+                            .round(round)
+                            .matchDate(i == 0 ? null : firstDay.plusWeeks(round))
+                            .status(statuses[(round + i) % statuses.length])
+                            .build());
+                    entityManager.persist(MatchEventEntity.builder()
+                            .match(match)
+                            .type(MatchEventType.GOAL)
+                            .primaryPlayer(players.get(i))
+                            .minute(10)
+                            .build());
+                    sampleMatch = match;
+                }
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+        // Fresh selectivity statistics, as a long-running database would have
+        jdbcTemplate.execute("ANALYZE");
+
+        return new Seed(competitions.get(0).getId(), editions.get(0).getId(), sampleMatch.getId(),
+                teams.get(0).getId(), players.get(0).getId());
+    }
+}
@@ -0,0 +1,101 @@
+package com.football.backend.services;
+
+import com.football.backend.dto.BulkImportResultDto;
+import com.football.backend.dto.BulkLineErrorDto;
+import com.football.backend.entities.CompetitionEntity;
+import com.football.backend.entities.EditionEntity;
+import com.football.backend.entities.PlayerEntity;
+import com.football.backend.entities.TeamEntity;
+import com.football.backend.models.CompetitionStrategy;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "bulk-import.chunk-size=2")
+@Import({BulkIngestionService.class, ChangeVersions.class, JacksonAutoConfiguration.class})
+class BulkIngestionServiceTest {
+
+    @MockBean
+    private DatabaseSeeder databaseSeeder;
+
+    @MockBean
+    private TeamPowerCache teamPowerCache;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private BulkIngestionService bulkIngestionService;
+
+    @Test
+    void importContracts_movesPlayersAndReportsRejectedLines() throws IOException {
+        TeamEntity home = entityManager.persist(TeamEntity.builder().name("Home").build());
+        TeamEntity away = entityManager.persist(TeamEntity.builder().name("Away").build());
+        PlayerEntity first = entityManager.persist(PlayerEntity.builder().firstname("A").lastname("A").build());
+        PlayerEntity second = entityManager.persist(PlayerEntity.builder().firstname("B").lastname("B").build());
+        entityManager.flush();
+
+        BulkImportResultDto result = bulkIngestionService.importContracts(ndjson(
+                contract(first, home, "2024-01-01"),
+                "{not json",
+                "",
+                contract(first, away, "2023-01-01"),
+                contract(second, away, "2024-06-01"),
+                "{\"playerId\":\"" + second.getId() + "\",\"teamId\":\"" + first.getId() + "\","
+                        + "\"startDate\":\"2025-01-01\",\"endDate\":\"2026-01-01\"}"
+        ));
+
+        assertThat(result.getImported()).isEqualTo(2);
+        assertThat(result.getRejected()).isEqualTo(3);
+        assertThat(result.getErrors()).extracting(BulkLineErrorDto::getLine).containsExactly(2L, 4L, 6L);
+
+        entityManager.clear();
+        assertThat(entityManager.find(PlayerEntity.class, first.getId()).getTeam().getId()).isEqualTo(home.getId());
+        assertThat(entityManager.find(PlayerEntity.class, second.getId()).getTeam().getId()).isEqualTo(away.getId());
+    }
+
+    @Test
+    void importMatches_validatesReferences() throws IOException {
+        CompetitionEntity competition = entityManager.persist(CompetitionEntity.builder().name("League").build());
+        EditionEntity edition = entityManager.persist(EditionEntity.builder()
+                .name("2024").strategyType(CompetitionStrategy.KNOCKOUT).competition(competition).build());
+        TeamEntity home = entityManager.persist(TeamEntity.builder().name("Home").build());
+        TeamEntity away = entityManager.persist(TeamEntity.builder().name("Away").build());
+        entityManager.flush();
+
+        BulkImportResultDto result = bulkIngestionService.importMatches(ndjson(
+                match(edition.getId().toString(), home, away),
+                match(edition.getId().toString(), home, home),
+                match(competition.getId().toString(), home, away)
+        ));
+
+        assertThat(result.getLines()).isEqualTo(3);
+        assertThat(result.getImported()).isEqualTo(1);
+        assertThat(result.getErrors()).extracting(BulkLineErrorDto::getLine).containsExactly(2L, 3L);
+    }
+
+    private static String contract(PlayerEntity player, TeamEntity team, String startDate) {
+        return "{\"playerId\":\"" + player.getId() + "\",\"teamId\":\"" + team.getId() + "\","
+                + "\"startDate\":\"" + startDate + "\",\"endDate\":\"2030-01-01\",\"salaryPerYear\":1000}";
+    }
+
+    private static String match(String editionId, TeamEntity home, TeamEntity away) {
+        return "{\"editionId\":\"" + editionId + "\",\"homeTeamId\":\"" + home.getId() + "\","
+                + "\"awayTeamId\":\"" + away.getId() + "\",\"matchDate\":\"2024-08-01T18:00:00\"}";
+    }
+
+    private static InputStream ndjson(String... lines) {
+        return new ByteArrayInputStream(String.join("\n", lines).getBytes(StandardCharsets.UTF_8));
+    }
+}
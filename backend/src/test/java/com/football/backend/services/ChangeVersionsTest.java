@@ -0,0 +1,96 @@
+package com.football.backend.services;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static com.football.backend.services.ChangeVersions.Scope.EDITION;
+import static com.football.backend.services.ChangeVersions.Scope.MATCH;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ChangeVersionsTest {
+
+    private final ChangeVersions versions = new ChangeVersions(2, 2);
+
+    @Test
+    void tagOf_staysCurrentUntilTheMatchOrItsEditionChanges() {
+        UUID editionId = UUID.randomUUID();
+        UUID matchId = UUID.randomUUID();
+
+        ChangeVersions.Stamp first = versions.stamp(MATCH, matchId);
+        assertThat(first.reserved()).isTrue();
+        String matchTag = versions.tagOf(first);
+        String editionTag = versions.tagOf(versions.stamp(EDITION, editionId));
+
+        assertThat(versions.currentTag(MATCH, matchId)).isEqualTo(matchTag);
+        assertThat(versions.stamp(MATCH, matchId).reserved()).isFalse();
+
+        versions.matchChanged(matchId, editionId);
+
+        assertThat(versions.currentTag(MATCH, matchId)).isNotEqualTo(matchTag);
+        assertThat(versions.currentTag(EDITION, editionId)).isNotEqualTo(editionTag);
+    }
+
+    @Test
+    void tagOf_neverMatchesWhenAWriteCommittedWhileLoading() {
+        UUID editionId = UUID.randomUUID();
+
+        ChangeVersions.Stamp stamp = versions.stamp(EDITION, editionId);
+        versions.editionChanged(editionId);
+        String stale = versions.tagOf(stamp);
+
+        assertThat(versions.currentTag(EDITION, editionId)).isNotEqualTo(stale);
+    }
+
+    @Test
+    void referenceDataChanged_invalidatesEveryTag() {
+        UUID editionId = UUID.randomUUID();
+        String tag = versions.tagOf(versions.stamp(EDITION, editionId));
+
+        versions.referenceDataChanged();
+
+        assertThat(versions.currentTag(EDITION, editionId)).isNotEqualTo(tag);
+    }
+
+    @Test
+    void tagOf_keepsOnlyTheMostRecentlyUsedVersions() {
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        UUID third = UUID.randomUUID();
+        String firstTag = versions.tagOf(versions.stamp(MATCH, first));
+        versions.tagOf(versions.stamp(MATCH, second));
+        versions.currentTag(MATCH, first);
+
+        versions.tagOf(versions.stamp(MATCH, third));
+
+        assertThat(versions.currentTag(MATCH, first)).isEqualTo(firstTag);
+        assertThat(versions.currentTag(MATCH, second)).isNull();
+        assertThat(versions.stamp(MATCH, second).reserved()).isTrue();
+    }
+
+    @Test
+    void tagOf_isNotKeptWhenTheMatchWasDeletedWhileLoading() {
+        UUID editionId = UUID.randomUUID();
+        UUID matchId = UUID.randomUUID();
+
+        ChangeVersions.Stamp stamp = versions.stamp(MATCH, matchId);
+        versions.matchDeleted(matchId, editionId);
+        versions.tagOf(stamp);
+
+        assertThat(versions.currentTag(MATCH, matchId)).isNull();
+    }
+
+    @Test
+    void editionDeleted_dropsTheEditionAndItsMatches() {
+        UUID editionId = UUID.randomUUID();
+        UUID matchId = UUID.randomUUID();
+        versions.tagOf(versions.stamp(EDITION, editionId));
+        versions.tagOf(versions.stamp(MATCH, matchId));
+
+        versions.editionDeleted(editionId, List.of(matchId));
+
+        assertThat(versions.currentTag(EDITION, editionId)).isNull();
+        assertThat(versions.currentTag(MATCH, matchId)).isNull();
+    }
+}
@@ -0,0 +1,123 @@
+package com.football.backend.services;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.football.backend.dto.EditionDashboardDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class EditionDashboardCacheTest {
+
+    private final EditionDashboardService dashboardService = mock(EditionDashboardService.class);
+    private final ChangeVersions changeVersions = new ChangeVersions(100, 100);
+    private final EditionDashboardCache cache = new EditionDashboardCache(
+            dashboardService, changeVersions, new ObjectMapper().findAndRegisterModules(), DataSize.ofBytes(500));
+
+    @AfterEach
+    void tearDown() {
+        cache.shutdown();
+    }
+
+    @Test
+    void get_servesTheSameBytesUntilTheEditionChanges() {
+        UUID editionId = UUID.randomUUID();
+        when(dashboardService.getDashboard(editionId)).thenReturn(dashboard(editionId, "Autumn"), dashboard(editionId, "Spring"));
+
+        EditionDashboardCache.CachedDashboard first = cache.get(editionId);
+        assertThat(cache.get(editionId)).isSameAs(first);
+        assertThat(new String(first.json())).contains("Autumn");
+
+        changeVersions.editionChanged(editionId);
+
+        // Rebuilt in the background, then served as a hit again
+        awaitRebuilds(2);
+        EditionDashboardCache.CachedDashboard second = cache.get(editionId);
+        assertThat(new String(second.json())).contains("Spring");
+        assertThat(second.etag()).isNotEqualTo(first.etag())
+                .isEqualTo(changeVersions.currentTag(ChangeVersions.Scope.EDITION, editionId));
+        assertThat(cache.getStats().getHits()).isEqualTo(2);
+        assertThat(cache.getStats().getMisses()).isEqualTo(1);
+        verify(dashboardService, times(2)).getDashboard(editionId);
+    }
+
+    @Test
+    void get_evictsLeastRecentlyReadEditionsBeyondTheByteBudget() {
+        when(dashboardService.getDashboard(any())).thenAnswer(call -> dashboard(call.getArgument(0), "Cup"));
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        UUID third = UUID.randomUUID();
+
+        cache.get(first);
+        cache.get(second);
+        cache.get(first);
+        cache.get(third);
+
+        assertThat(cache.getStats().getSize()).isEqualTo(2);
+        assertThat(cache.getStats().getEvictions()).isEqualTo(1);
+        assertThat(cache.getStats().getBytes()).isLessThanOrEqualTo(500);
+
+        // The second edition was the cold one
+        cache.get(first);
+        cache.get(second);
+        verify(dashboardService, times(1)).getDashboard(first);
+        verify(dashboardService, times(2)).getDashboard(second);
+    }
+
+    @Test
+    void get_sharesOneRebuildBetweenConcurrentMisses() throws Exception {
+        UUID editionId = UUID.randomUUID();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(dashboardService.getDashboard(editionId)).thenAnswer(call -> {
+            loading.countDown();
+            release.await();
+            return dashboard(editionId, "Derby");
+        });
+
+        ExecutorService readers = Executors.newFixedThreadPool(4);
+        try {
+            Future<EditionDashboardCache.CachedDashboard> first = readers.submit(() -> cache.get(editionId));
+            loading.await();
+            List<Future<EditionDashboardCache.CachedDashboard>> others = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                others.add(readers.submit(() -> cache.get(editionId)));
+            }
+            // Give the others time to miss and join before the load returns
+            Thread.sleep(100);
+            release.countDown();
+
+            EditionDashboardCache.CachedDashboard built = first.get(2, TimeUnit.SECONDS);
+            for (Future<EditionDashboardCache.CachedDashboard> other : others) {
+                assertThat(other.get(2, TimeUnit.SECONDS)).isSameAs(built);
+            }
+        } finally {
+            readers.shutdownNow();
+        }
+        verify(dashboardService, times(1)).getDashboard(editionId);
+    }
+
+    private void awaitRebuilds(long expected) {
+        long deadline = System.nanoTime() + 2_000_000_000L;
+        while (cache.getStats().getRebuilds() < expected && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+        assertThat(cache.getStats().getRebuilds()).isEqualTo(expected);
+    }
+
+    private static EditionDashboardDto dashboard(UUID editionId, String name) {
+        return new EditionDashboardDto(editionId, UUID.randomUUID(), name, "League", List.of(), 0, null, List.of(), List.of());
+    }
+}
@@ -0,0 +1,117 @@
+package com.football.backend.services;
+
+import com.football.backend.dto.CreateEditionDto;
+import com.football.backend.entities.CompetitionEntity;
+import com.football.backend.entities.TeamEntity;
+import com.football.backend.mappers.EditionMapper;
+import com.football.backend.models.CompetitionStrategy;
+import com.football.backend.models.MatchStatus;
+import com.football.backend.models.strategy.KnockoutStrategy;
+import com.football.backend.models.strategy.RobinRoundDoubleStrategy;
+import com.football.backend.models.strategy.RobinRoundStrategy;
+import com.football.backend.repositories.MatchRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Import;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.jdbc.batch_size=100",
+        "spring.jpa.properties.hibernate.order_inserts=true",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@Import({EditionService.class, StandingsService.class, StandingsProjection.class, ChangeVersions.class,
+        RobinRoundStrategy.class, RobinRoundDoubleStrategy.class, EditionServiceTest.Mappers.class})
+class EditionServiceTest {
+
+    private static final int TEAMS = 40;
+
+    @TestConfiguration
+    @ComponentScan(basePackageClasses = EditionMapper.class)
+    static class Mappers {
+    }
+
+    @MockBean
+    private DatabaseSeeder databaseSeeder;
+
+    @MockBean
+    private KnockoutStrategy knockoutStrategy;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private EditionService editionService;
+
+    @Autowired
+    private MatchRepository matchRepository;
+
+    @Test
+    void createEdition_insertsFixturesAndStandingsInBatches() {
+        CompetitionEntity competition = entityManager.persist(CompetitionEntity.builder().name("League").build());
+        List<UUID> teamIds = new ArrayList<>();
+        for (int i = 0; i < TEAMS; i++) {
+            teamIds.add(entityManager.persist(TeamEntity.builder().name("Team " + i).build()).getId());
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        CreateEditionDto dto = new CreateEditionDto();
+        dto.setName("2024");
+        dto.setCompetitionId(competition.getId());
+        dto.setStrategyType(CompetitionStrategy.ROBIN_ROUND_DOUBLE);
+        dto.setTeamsIds(teamIds);
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        editionService.createEdition(dto);
+        entityManager.flush();
+
+        int matches = TEAMS * (TEAMS - 1);
+        // edition + standings + one entry per team + every fixture
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(2 + TEAMS + matches);
+        // two lookups, then one prepared statement per batch instead of one per row
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(2 + 3 + matches / 100 + 1);
+    }
+
+    @Test
+    void createEdition_persistsTheRoundOfEveryFixture() {
+        CompetitionEntity competition = entityManager.persist(CompetitionEntity.builder().name("Cup").build());
+        List<UUID> teamIds = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            teamIds.add(entityManager.persist(TeamEntity.builder().name("Side " + i).build()).getId());
+        }
+
+        CreateEditionDto dto = new CreateEditionDto();
+        dto.setName("2025");
+        dto.setCompetitionId(competition.getId());
+        dto.setStrategyType(CompetitionStrategy.ROBIN_ROUND_DOUBLE);
+        dto.setTeamsIds(teamIds);
+        UUID editionId = editionService.createEdition(dto);
+        entityManager.flush();
+
+        // 4 teams play 3 rounds of 2 matches, then the return legs
+        assertThat(matchRepository.findRoundProgress(editionId, MatchStatus.FINISHED).getRoundCount()).isEqualTo(6);
+        for (int round = 1; round <= 6; round++) {
+            assertThat(matchRepository.findListRowsByEditionIdAndRound(editionId, round))
+                    .hasSize(2)
+                    .allSatisfy(match -> assertThat(match.getRound()).isNotNull());
+        }
+    }
+}
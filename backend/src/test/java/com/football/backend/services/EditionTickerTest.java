@@ -0,0 +1,91 @@
+package com.football.backend.services;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.football.backend.dto.MatchScoreDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class EditionTickerTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    // The clock never fires during a test; ticks are driven by hand
+    private final EditionTicker ticker = new EditionTicker(objectMapper, Duration.ofHours(1), 2, Duration.ofHours(1));
+    private final UUID editionId = UUID.randomUUID();
+
+    @AfterEach
+    void tearDown() {
+        ticker.shutdown();
+    }
+
+    @Test
+    void tick_coalescesChangesIntoOneFrame() throws Exception {
+        WebSocketSession session = session();
+        ticker.subscribe(editionId, session);
+        UUID matchId = UUID.randomUUID();
+
+        ticker.publishAfterCommit(editionId, new MatchScoreDto(matchId, 1, 0, "SCHEDULED"));
+        ticker.publishAfterCommit(editionId, new MatchScoreDto(matchId, 2, 0, "SCHEDULED"));
+        ticker.publishAfterCommit(editionId, new MatchScoreDto(UUID.randomUUID(), 0, 1, "SCHEDULED"));
+        ticker.tick();
+
+        JsonNode frame = lastFrame(session, 1);
+        assertThat(frame.get("updates")).hasSize(2);
+        assertThat(frame.get("updates").get(0).get("homeGoals").asInt()).isEqualTo(2);
+    }
+
+    @Test
+    void tick_asksSlowClientsToResyncOnceTheirBacklogOverflows() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        WebSocketSession session = session();
+        doAnswer(invocation -> {
+            release.await();
+            return null;
+        }).doNothing().when(session).sendMessage(any());
+        ticker.subscribe(editionId, session);
+
+        // The first frame blocks; three more matches change while it is in flight
+        for (int i = 0; i < 4; i++) {
+            ticker.publishAfterCommit(editionId, new MatchScoreDto(UUID.randomUUID(), 1, 0, "SCHEDULED"));
+            ticker.tick();
+        }
+        verify(session, timeout(1000)).sendMessage(any());
+
+        release.countDown();
+        // Once the blocked send returns, the next tick delivers what piled up
+        for (int i = 0; i < 100 && sentFrames(session) < 2; i++) {
+            Thread.sleep(10);
+            ticker.tick();
+        }
+
+        assertThat(lastFrame(session, 2).get("resync").asBoolean()).isTrue();
+    }
+
+    private static WebSocketSession session() {
+        WebSocketSession session = mock(WebSocketSession.class);
+        when(session.isOpen()).thenReturn(true);
+        return session;
+    }
+
+    private static long sentFrames(WebSocketSession session) {
+        return mockingDetails(session).getInvocations().stream()
+                .filter(invocation -> invocation.getMethod().getName().equals("sendMessage"))
+                .count();
+    }
+
+    private JsonNode lastFrame(WebSocketSession session, int frames) throws Exception {
+        ArgumentCaptor<TextMessage> sent = ArgumentCaptor.forClass(TextMessage.class);
+        verify(session, timeout(1000).times(frames)).sendMessage(sent.capture());
+        return objectMapper.readTree(sent.getValue().getPayload());
+    }
+}
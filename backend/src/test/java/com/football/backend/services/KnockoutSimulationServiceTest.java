@@ -0,0 +1,165 @@
+package com.football.backend.services;
+
+import com.football.backend.dto.KnockoutOddsDto;
+import com.football.backend.entities.EditionEntity;
+import com.football.backend.models.CompetitionStrategy;
+import com.football.backend.models.TeamPower;
+import com.football.backend.repositories.EditionRepository;
+import com.football.backend.repositories.MatchRepository;
+import com.football.backend.repositories.projections.FixtureTeamsView;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class KnockoutSimulationServiceTest {
+
+    private final EditionRepository editionRepository = mock(EditionRepository.class);
+    private final MatchRepository matchRepository = mock(MatchRepository.class);
+    private final TeamPowerService teamPowerService = mock(TeamPowerService.class);
+    private final ForkJoinPool pool = new ForkJoinPool(2);
+    private final KnockoutSimulationService service = new KnockoutSimulationService(
+            editionRepository, matchRepository, teamPowerService, pool, 1_000_000);
+
+    private record Fixture(Integer getRound, UUID getHomeTeamId, String getHomeTeamName,
+                           UUID getAwayTeamId, String getAwayTeamName) implements FixtureTeamsView {
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdown();
+    }
+
+    @Test
+    void simulate_seatsTheTeamWithAByeLastAndLoadsPowersOnce() {
+        UUID editionId = UUID.randomUUID();
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        UUID bye = UUID.randomUUID();
+        when(editionRepository.findById(editionId)).thenReturn(Optional.of(
+                EditionEntity.builder().id(editionId).strategyType(CompetitionStrategy.KNOCKOUT).build()));
+        when(matchRepository.findDrawnFixtures(editionId)).thenReturn(List.of(
+                new Fixture(1, first, "First", second, "Second"),
+                new Fixture(2, second, "Second", bye, "Bye")));
+        when(teamPowerService.evaluateTeams(any())).thenReturn(Map.of(
+                first, power(first, 40),
+                second, power(second, 40),
+                bye, power(bye, 90)));
+
+        KnockoutOddsDto odds = service.simulate(editionId, 20_000, 5L);
+
+        assertThat(odds.getRounds()).isEqualTo(2);
+        assertThat(odds.getSeed()).isEqualTo(5L);
+        KnockoutOddsDto.TeamOddsDto favourite = odds.getTeams().get(0);
+        assertThat(favourite.getTeamName()).isEqualTo("Bye");
+        assertThat(favourite.getWin()).isEqualTo(1.0);
+        // Not drawn in the first round, yet through to the second one every time
+        assertThat(favourite.getReachRound()).containsExactly(1.0, 1.0);
+        assertThat(service.simulate(editionId, 20_000, 5L).getTeams())
+                .extracting(KnockoutOddsDto.TeamOddsDto::getReachRound)
+                .isEqualTo(odds.getTeams().stream().map(KnockoutOddsDto.TeamOddsDto::getReachRound).toList());
+        verify(teamPowerService, times(2)).evaluateTeams(List.of(first, second, bye));
+    }
+
+    @Test
+    void simulate_seatsAByeTeamThatFirstPlaysInTheFinal() {
+        // Five teams: two ties, then one, and only then the team left out
+        UUID editionId = knockout();
+        List<UUID> teams = teams(5);
+        when(matchRepository.findDrawnFixtures(editionId)).thenReturn(List.of(
+                fixture(1, teams.get(0), teams.get(1)),
+                fixture(1, teams.get(2), teams.get(3)),
+                fixture(2, teams.get(0), teams.get(2)),
+                fixture(3, teams.get(0), teams.get(4))));
+        stubPowers(teams, teams.get(4));
+
+        KnockoutOddsDto odds = service.simulate(editionId, 20_000, 5L);
+
+        assertThat(odds.getRounds()).isEqualTo(3);
+        assertThat(odds.getTeams()).hasSize(5);
+        assertThat(odds.getTeams().get(0).getTeamId()).isEqualTo(teams.get(4));
+        assertThat(odds.getTeams().get(0).getReachRound()).containsExactly(1.0, 1.0, 1.0);
+        assertThat(odds.getTeams().get(0).getWin()).isEqualTo(1.0);
+        verify(teamPowerService).evaluateTeams(teams);
+    }
+
+    @Test
+    void simulate_seatsAByeTeamThatWaitsThreeRounds() {
+        // Nine teams: four ties, two, one, then the final against the team left out
+        UUID editionId = knockout();
+        List<UUID> teams = teams(9);
+        when(matchRepository.findDrawnFixtures(editionId)).thenReturn(List.of(
+                fixture(1, teams.get(0), teams.get(1)),
+                fixture(1, teams.get(2), teams.get(3)),
+                fixture(1, teams.get(4), teams.get(5)),
+                fixture(1, teams.get(6), teams.get(7)),
+                fixture(2, teams.get(0), teams.get(2)),
+                fixture(2, teams.get(4), teams.get(6)),
+                fixture(3, teams.get(0), teams.get(4)),
+                fixture(4, teams.get(0), teams.get(8))));
+        stubPowers(teams, teams.get(8));
+
+        KnockoutOddsDto odds = service.simulate(editionId, 20_000, 5L);
+
+        assertThat(odds.getRounds()).isEqualTo(4);
+        assertThat(odds.getTeams()).hasSize(9);
+        assertThat(odds.getTeams().get(0).getTeamId()).isEqualTo(teams.get(8));
+        assertThat(odds.getTeams().get(0).getReachRound()).containsExactly(1.0, 1.0, 1.0, 1.0);
+        assertThat(odds.getTeams().get(0).getWin()).isEqualTo(1.0);
+        verify(teamPowerService).evaluateTeams(teams);
+    }
+
+    @Test
+    void simulate_rejectsEditionsThatAreNotKnockouts() {
+        UUID editionId = UUID.randomUUID();
+        when(editionRepository.findById(editionId)).thenReturn(Optional.of(
+                EditionEntity.builder().id(editionId).strategyType(CompetitionStrategy.ROBIN_ROUND).build()));
+
+        assertThatThrownBy(() -> service.simulate(editionId, 1_000, null))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(matchRepository, teamPowerService);
+    }
+
+    private UUID knockout() {
+        UUID editionId = UUID.randomUUID();
+        when(editionRepository.findById(editionId)).thenReturn(Optional.of(
+                EditionEntity.builder().id(editionId).strategyType(CompetitionStrategy.KNOCKOUT).build()));
+        return editionId;
+    }
+
+    private static List<UUID> teams(int count) {
+        List<UUID> teams = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            teams.add(UUID.randomUUID());
+        }
+        return teams;
+    }
+
+    private static Fixture fixture(int round, UUID home, UUID away) {
+        return new Fixture(round, home, home.toString(), away, away.toString());
+    }
+
+    // Every team on the same middling power, except the favourite
+    private void stubPowers(List<UUID> teams, UUID favourite) {
+        Map<UUID, TeamPower> powers = new HashMap<>();
+        for (UUID team : teams) {
+            powers.put(team, power(team, team.equals(favourite) ? 90 : 40));
+        }
+        when(teamPowerService.evaluateTeams(any())).thenReturn(powers);
+    }
+
+    private static TeamPower power(UUID teamId, double score) {
+        return new TeamPower(teamId, 25, score, score, score, score, score);
+    }
+}
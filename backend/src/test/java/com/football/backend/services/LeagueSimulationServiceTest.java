@@ -0,0 +1,106 @@
+package com.football.backend.services;
+
+import com.football.backend.dto.LeagueOddsDto;
+import com.football.backend.dto.StandingsEntryDto;
+import com.football.backend.dto.StandingsSnapshotDto;
+import com.football.backend.entities.EditionEntity;
+import com.football.backend.models.CompetitionStrategy;
+import com.football.backend.models.MatchStatus;
+import com.football.backend.models.TeamPower;
+import com.football.backend.repositories.EditionRepository;
+import com.football.backend.repositories.MatchRepository;
+import com.football.backend.repositories.projections.FixtureTeamsView;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class LeagueSimulationServiceTest {
+
+    private final EditionRepository editionRepository = mock(EditionRepository.class);
+    private final MatchRepository matchRepository = mock(MatchRepository.class);
+    private final StandingsService standingsService = mock(StandingsService.class);
+    private final TeamPowerService teamPowerService = mock(TeamPowerService.class);
+    private final ChangeVersions changeVersions = new ChangeVersions(100, 100);
+    private final ForkJoinPool pool = new ForkJoinPool(2);
+    private final LeagueSimulationService service = new LeagueSimulationService(
+            editionRepository, matchRepository, standingsService, teamPowerService, changeVersions, pool, 1_000_000, 8);
+
+    private final UUID editionId = UUID.randomUUID();
+    private final UUID leader = UUID.randomUUID();
+    private final UUID chaser = UUID.randomUUID();
+
+    private record Fixture(Integer getRound, UUID getHomeTeamId, String getHomeTeamName,
+                           UUID getAwayTeamId, String getAwayTeamName) implements FixtureTeamsView {
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdown();
+    }
+
+    @Test
+    void simulate_servesTheSameOddsUntilTheEditionChanges() {
+        league(CompetitionStrategy.ROBIN_ROUND);
+
+        LeagueOddsDto first = service.simulate(editionId, 10_000, null);
+        assertThat(service.simulate(editionId, 10_000, null)).isSameAs(first);
+        assertThat(service.simulate(editionId, 10_000, first.getSeed())).isSameAs(first);
+
+        changeVersions.editionChanged(editionId);
+        LeagueOddsDto second = service.simulate(editionId, 10_000, first.getSeed());
+
+        assertThat(second).isNotSameAs(first);
+        // Same inputs and seed, same odds
+        assertThat(second.getTeams().get(0).getPositions()).isEqualTo(first.getTeams().get(0).getPositions());
+        verify(matchRepository, times(2)).findRemainingFixtures(editionId, MatchStatus.FINISHED);
+    }
+
+    @Test
+    void simulate_reportsPositionsInTableOrder() {
+        league(CompetitionStrategy.ROBIN_ROUND_DOUBLE);
+
+        LeagueOddsDto odds = service.simulate(editionId, 10_000, 11L);
+
+        assertThat(odds.getRemainingFixtures()).isEqualTo(1);
+        assertThat(odds.getTeams()).extracting(LeagueOddsDto.TeamPositionOddsDto::getTeamId)
+                .containsExactly(leader, chaser);
+        LeagueOddsDto.TeamPositionOddsDto top = odds.getTeams().get(0);
+        // Four points clear with one match left
+        assertThat(top.getTitle()).isEqualTo(1.0);
+        assertThat(top.getTopFour()).isEqualTo(1.0);
+        assertThat(top.getPositions()).containsExactly(1.0, 0.0);
+    }
+
+    @Test
+    void simulate_rejectsKnockoutEditions() {
+        when(editionRepository.findById(editionId)).thenReturn(Optional.of(
+                EditionEntity.builder().id(editionId).strategyType(CompetitionStrategy.KNOCKOUT).build()));
+
+        assertThatThrownBy(() -> service.simulate(editionId, 1_000, null))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(matchRepository, standingsService);
+    }
+
+    private void league(CompetitionStrategy strategy) {
+        when(editionRepository.findById(editionId)).thenReturn(Optional.of(
+                EditionEntity.builder().id(editionId).strategyType(strategy).build()));
+        when(standingsService.getStandingsSnapshot(editionId)).thenReturn(new StandingsSnapshotDto(editionId, 1, List.of(
+                new StandingsEntryDto(leader, "Leader", 7, 3, 2, 1, 0, 6, 2, 4),
+                new StandingsEntryDto(chaser, "Chaser", 3, 3, 1, 0, 2, 3, 5, -2))));
+        when(teamPowerService.evaluateTeams(any())).thenReturn(Map.of(
+                leader, new TeamPower(leader, 25, 60, 60, 60, 60, 60),
+                chaser, new TeamPower(chaser, 25, 60, 60, 60, 60, 60)));
+        when(matchRepository.findRemainingFixtures(editionId, MatchStatus.FINISHED)).thenReturn(List.of(
+                new Fixture(4, chaser, "Chaser", leader, "Leader")));
+    }
+}
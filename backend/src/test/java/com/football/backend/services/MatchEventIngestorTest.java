@@ -0,0 +1,124 @@
+package com.football.backend.services;
+
+import com.football.backend.dto.MatchEventAckDto;
+import com.football.backend.dto.MatchEventCreateRequest;
+import com.football.backend.entities.*;
+import com.football.backend.models.CompetitionStrategy;
+import com.football.backend.models.MatchStatus;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+
+@DataJpaTest(properties = {
+        // "minute" is a keyword in H2, which otherwise drops the match_event table
+        "spring.datasource.url=jdbc:h2:mem:ingest;NON_KEYWORDS=MINUTE",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "match-event-ingest.linger=200ms"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({MatchEventIngestor.class, MatchScoreUpdater.class, ChangeVersions.class})
+// The writer thread only sees committed rows, so the test commits too
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class MatchEventIngestorTest {
+
+    @MockBean
+    private DatabaseSeeder databaseSeeder;
+
+    @MockBean
+    private StandingsService standingsService;
+
+    @MockBean
+    private TeamRatingService teamRatingService;
+
+    @MockBean
+    private MatchStreamBroadcaster matchStreamBroadcaster;
+
+    @MockBean
+    private EditionTicker editionTicker;
+
+    @SpyBean
+    private MatchScoreUpdater matchScoreUpdater;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private MatchEventIngestor matchEventIngestor;
+
+    @Test
+    void submitAll_commitsOneGroupWithOneScoreUpdatePerMatch() throws Exception {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        UUID[] ids = tx.execute(status -> {
+            CompetitionEntity competition = persist(CompetitionEntity.builder().name("League").build());
+            EditionEntity edition = persist(EditionEntity.builder()
+                    .name("2024").strategyType(CompetitionStrategy.KNOCKOUT).competition(competition).build());
+            TeamEntity home = persist(TeamEntity.builder().name("Home").build());
+            TeamEntity away = persist(TeamEntity.builder().name("Away").build());
+            PlayerEntity striker = persist(PlayerEntity.builder().firstname("A").lastname("A").team(home).build());
+            PlayerEntity winger = persist(PlayerEntity.builder().firstname("B").lastname("B").team(away).build());
+            MatchEntity match = persist(MatchEntity.builder()
+                    .edition(edition).homeTeam(home).awayTeam(away).status(MatchStatus.SCHEDULED).build());
+            return new UUID[]{match.getId(), striker.getId(), winger.getId()};
+        });
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        List<MatchEventAckDto> acks = matchEventIngestor.submitAll(List.of(
+                event(ids[0], "GOAL", ids[1]),
+                event(ids[0], "GOAL", ids[1]),
+                event(ids[0], "NOT_A_TYPE", ids[1]),
+                event(ids[0], "GOAL", ids[2])
+        )).get(5, TimeUnit.SECONDS);
+
+        assertThat(acks).extracting(MatchEventAckDto::getError)
+                .containsExactly(null, null, "Unknown event type: NOT_A_TYPE", null);
+        assertThat(acks.get(0).getEvent().getPrimaryPlayerName()).isEqualTo("A A");
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(3);
+        verify(matchScoreUpdater).addGoals(any(), eq(2), eq(1));
+
+        MatchEntity match = tx.execute(status -> entityManager.find(MatchEntity.class, ids[0]));
+        assertThat(match.getHomeGoals()).isEqualTo(2);
+        assertThat(match.getAwayGoals()).isEqualTo(1);
+    }
+
+    private <T> T persist(T entity) {
+        entityManager.persist(entity);
+        return entity;
+    }
+
+    private static MatchEventCreateRequest event(UUID matchId, String type, UUID playerId) {
+        MatchEventCreateRequest request = new MatchEventCreateRequest();
+        request.setMatchId(matchId);
+        request.setType(type);
+        request.setPrimaryPlayerId(playerId);
+        request.setMinute(10);
+        return request;
+    }
+}
@@ -0,0 +1,150 @@
+package com.football.backend.services;
+
+import com.football.backend.entities.*;
+import com.football.backend.mappers.MatchMapper;
+import com.football.backend.models.CompetitionStrategy;
+import com.football.backend.models.MatchEventType;
+import com.football.backend.models.MatchStatus;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Guards the number of SQL statements behind each match read path, so a
+ * mapping change that reintroduces lazy loading per row fails the build.
+ */
+@DataJpaTest(properties = {
+        // "minute" is a keyword in H2, which otherwise drops the match_event table
+        "spring.datasource.url=jdbc:h2:mem:querycount;NON_KEYWORDS=MINUTE",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({MatchService.class, MatchEventService.class, EditionDashboardService.class, ChangeVersions.class,
+        MatchQueryCountTest.Mappers.class})
+class MatchQueryCountTest {
+
+    private static final int MATCHES = 20;
+
+    @TestConfiguration
+    @ComponentScan(basePackageClasses = MatchMapper.class)
+    static class Mappers {
+    }
+
+    @MockBean
+    private DatabaseSeeder databaseSeeder;
+
+    @MockBean
+    private StandingsService standingsService;
+
+    @MockBean
+    private TeamRatingService teamRatingService;
+
+    @MockBean
+    private MatchStreamBroadcaster matchStreamBroadcaster;
+
+    @MockBean
+    private EditionTicker editionTicker;
+
+    @MockBean
+    private MatchScoreUpdater matchScoreUpdater;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MatchService matchService;
+
+    @Autowired
+    private MatchEventService matchEventService;
+
+    @Autowired
+    private EditionDashboardService editionDashboardService;
+
+    private UUID editionId;
+    private UUID detailedMatchId;
+
+    @BeforeEach
+    void setUp() {
+        CompetitionEntity competition = entityManager.persist(CompetitionEntity.builder().name("League").build());
+        EditionEntity edition = entityManager.persist(EditionEntity.builder()
+                .name("2024")
+                .strategyType(CompetitionStrategy.KNOCKOUT)
+                .competition(competition)
+                .build());
+        editionId = edition.getId();
+
+        LocalDateTime start = LocalDateTime.now().minusDays(MATCHES / 2);
+        for (int i = 0; i < MATCHES; i++) {
+            TeamEntity home = persistTeam("Home " + i);
+            TeamEntity away = persistTeam("Away " + i);
+            MatchEntity match = entityManager.persist(MatchEntity.builder()
+                    .edition(edition)
+                    .homeTeam(home)
+                    .awayTeam(away)
+                    .matchDate(start.plusDays(i))
+                    .homeGoals(1)
+                    .awayGoals(0)
+                    .status(i < MATCHES / 2 ? MatchStatus.FINISHED : MatchStatus.SCHEDULED)
+                    .build());
+
+            for (TeamEntity team : new TeamEntity[]{home, away}) {
+                PlayerEntity scorer = entityManager.persist(PlayerEntity.builder()
+                        .firstname("Player").lastname(team.getName()).team(team).build());
+                entityManager.persist(MatchEventEntity.builder()
+                        .match(match).type(MatchEventType.GOAL).primaryPlayer(scorer).minute(10).build());
+            }
+            detailedMatchId = match.getId();
+        }
+        entityManager.flush();
+    }
+
+    @Test
+    void dashboard_loadsEditionRoundProgressAndCurrentRoundOnly() {
+        assertThat(countStatements(() -> editionDashboardService.getDashboard(editionId))).isEqualTo(3);
+    }
+
+    @Test
+    void listings_issueOneQueryPerPage() {
+        assertThat(countStatements(() -> matchService.getSchedule(null, 5))).isEqualTo(1);
+        assertThat(countStatements(() -> matchService.getAllMatches(null, 5))).isEqualTo(1);
+        // A short last page also looks for undated matches.
+        assertThat(countStatements(() -> matchService.getFinishedMatches(null, MATCHES))).isEqualTo(2);
+    }
+
+    @Test
+    void matchDetails_doNotDependOnEventCount() {
+        assertThat(countStatements(() -> matchService.getMatch(detailedMatchId))).isEqualTo(1);
+        assertThat(countStatements(() -> matchEventService.getEventsForMatch(detailedMatchId))).isEqualTo(1);
+    }
+
+    private TeamEntity persistTeam(String name) {
+        CoachEntity coach = entityManager.persist(CoachEntity.builder().firstname("Coach").lastname(name).build());
+        return entityManager.persist(TeamEntity.builder().name(name).coach(coach).build());
+    }
+
+    private long countStatements(Runnable action) {
+        entityManager.clear();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        action.run();
+        return statistics.getPrepareStatementCount();
+    }
+}
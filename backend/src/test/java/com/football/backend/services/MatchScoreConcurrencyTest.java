@@ -0,0 +1,172 @@
+package com.football.backend.services;
+
+import com.football.backend.dto.MatchEventCreateRequest;
+import com.football.backend.entities.*;
+import com.football.backend.mappers.MatchEventMapper;
+import com.football.backend.models.CompetitionStrategy;
+import com.football.backend.models.MatchStatus;
+import com.football.backend.repositories.MatchRepository;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Many writers scoring in the same match at once: every goal has to show up in
+ * the score, and edits made from an older read have to be refused.
+ */
+@DataJpaTest(properties = {
+        // "minute" is a keyword in H2, which otherwise drops the match_event table
+        "spring.datasource.url=jdbc:h2:mem:scorestress;NON_KEYWORDS=MINUTE;LOCK_TIMEOUT=30000",
+        "spring.datasource.hikari.maximum-pool-size=" + MatchScoreConcurrencyTest.WRITERS
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({MatchEventService.class, MatchScoreUpdater.class, ChangeVersions.class, MatchScoreConcurrencyTest.Mappers.class})
+// Writers run in their own transactions, so the fixture has to be committed
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Slf4j
+class MatchScoreConcurrencyTest {
+
+    static final int WRITERS = 64;
+    private static final int GOALS_PER_WRITER = 25;
+    // Untimed goals first, so the rate below is not mostly JIT and Hibernate warm-up
+    private static final int WARM_UP_GOALS = 200;
+
+    @TestConfiguration
+    @ComponentScan(basePackageClasses = MatchEventMapper.class)
+    static class Mappers {
+    }
+
+    @MockBean
+    private DatabaseSeeder databaseSeeder;
+
+    @MockBean
+    private StandingsService standingsService;
+
+    @MockBean
+    private TeamRatingService teamRatingService;
+
+    @MockBean
+    private MatchStreamBroadcaster matchStreamBroadcaster;
+
+    @MockBean
+    private EditionTicker editionTicker;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private MatchRepository matchRepository;
+
+    @Autowired
+    private MatchEventService matchEventService;
+
+    private TransactionTemplate tx;
+    private UUID matchId;
+    private UUID homeScorerId;
+    private UUID awayScorerId;
+
+    @BeforeEach
+    void setUp() {
+        tx = new TransactionTemplate(transactionManager);
+        // Each test commits its own fixture; competition names are unique
+        tx.executeWithoutResult(status -> {
+            CompetitionEntity competition = persist(CompetitionEntity.builder().name("League " + UUID.randomUUID()).build());
+            EditionEntity edition = persist(EditionEntity.builder()
+                    .name("2024").strategyType(CompetitionStrategy.KNOCKOUT).competition(competition).build());
+            TeamEntity home = persist(TeamEntity.builder().name("Home").build());
+            TeamEntity away = persist(TeamEntity.builder().name("Away").build());
+            homeScorerId = persist(PlayerEntity.builder().firstname("H").lastname("H").team(home).build()).getId();
+            awayScorerId = persist(PlayerEntity.builder().firstname("A").lastname("A").team(away).build()).getId();
+            matchId = persist(MatchEntity.builder()
+                    .edition(edition).homeTeam(home).awayTeam(away).status(MatchStatus.SCHEDULED).build()).getId();
+        });
+    }
+
+    @Test
+    void concurrentGoals_areNeverLost() throws Exception {
+        for (int i = 0; i < WARM_UP_GOALS; i++) {
+            matchEventService.addEvent(goal(i % 2 == 0 ? homeScorerId : awayScorerId));
+        }
+
+        ExecutorService writers = Executors.newFixedThreadPool(WRITERS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> done = new ArrayList<>();
+        for (int w = 0; w < WRITERS; w++) {
+            UUID scorer = w % 2 == 0 ? homeScorerId : awayScorerId;
+            done.add(writers.submit(() -> {
+                start.await();
+                for (int i = 0; i < GOALS_PER_WRITER; i++) {
+                    matchEventService.addEvent(goal(scorer));
+                }
+                return null;
+            }));
+        }
+
+        long begin = System.nanoTime();
+        start.countDown();
+        for (Future<?> writer : done) {
+            writer.get(2, TimeUnit.MINUTES);
+        }
+        long elapsed = System.nanoTime() - begin;
+        writers.shutdown();
+
+        int goals = WRITERS * GOALS_PER_WRITER;
+        log.info("{} goal events from {} writers in {} ms ({} events/s)",
+                goals, WRITERS, TimeUnit.NANOSECONDS.toMillis(elapsed), goals * TimeUnit.SECONDS.toNanos(1) / elapsed);
+
+        int total = WARM_UP_GOALS + goals;
+        MatchEntity match = matchRepository.findById(matchId).orElseThrow();
+        assertThat(match.getHomeGoals()).isEqualTo(total / 2);
+        assertThat(match.getAwayGoals()).isEqualTo(total / 2);
+        assertThat(match.getVersion()).isEqualTo(total);
+    }
+
+    @Test
+    void editFromStaleRead_isRejectedAfterAGoal() {
+        MatchEntity stale = matchRepository.findById(matchId).orElseThrow();
+
+        matchEventService.addEvent(goal(homeScorerId));
+        stale.setStatus(MatchStatus.FINISHED);
+
+        assertThatThrownBy(() -> matchRepository.save(stale)).isInstanceOf(OptimisticLockingFailureException.class);
+        assertThat(matchRepository.findById(matchId).orElseThrow().getHomeGoals()).isEqualTo(1);
+    }
+
+    private <T> T persist(T entity) {
+        entityManager.persist(entity);
+        return entity;
+    }
+
+    private MatchEventCreateRequest goal(UUID scorerId) {
+        MatchEventCreateRequest request = new MatchEventCreateRequest();
+        request.setMatchId(matchId);
+        request.setType("GOAL");
+        request.setPrimaryPlayerId(scorerId);
+        request.setMinute(10);
+        return request;
+    }
+}
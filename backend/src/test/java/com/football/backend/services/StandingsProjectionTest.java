@@ -0,0 +1,85 @@
+package com.football.backend.services;
+
+import com.football.backend.dto.StandingsSnapshotDto;
+import com.football.backend.entities.StandingsEntryEntity;
+import com.football.backend.entities.TeamEntity;
+import com.football.backend.exceptions.ResourceNotFoundException;
+import com.football.backend.repositories.EditionRepository;
+import com.football.backend.repositories.StandingsEntryRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class StandingsProjectionTest {
+
+    @Mock
+    private StandingsEntryRepository entryRepository;
+
+    @Mock
+    private EditionRepository editionRepository;
+
+    @InjectMocks
+    private StandingsProjection standingsProjection;
+
+    private final UUID editionId = UUID.randomUUID();
+
+    @Test
+    void getSnapshot_loadsOnceAndSortsTable() {
+        when(entryRepository.findStandingsByEditionId(editionId)).thenReturn(List.of(
+                entry("Low", 0, 1, 2, 1, 4),
+                entry("High", 2, 1, 0, 5, 1)
+        ));
+
+        StandingsSnapshotDto first = standingsProjection.getSnapshot(editionId);
+        StandingsSnapshotDto second = standingsProjection.getSnapshot(editionId);
+
+        assertThat(second).isSameAs(first);
+        assertThat(first.getTable()).extracting("teamName").containsExactly("High", "Low");
+        verify(entryRepository, times(1)).findStandingsByEditionId(editionId);
+    }
+
+    @Test
+    void refresh_publishesNewerVersion() {
+        when(entryRepository.findStandingsByEditionId(editionId)).thenReturn(List.of());
+        when(editionRepository.existsById(editionId)).thenReturn(true);
+
+        long before = standingsProjection.getSnapshot(editionId).getVersion();
+        standingsProjection.refreshAfterCommit(editionId);
+
+        assertThat(standingsProjection.getSnapshot(editionId).getVersion()).isGreaterThan(before);
+    }
+
+    @Test
+    void getSnapshot_keepsNothingForUnknownEditions() {
+        when(entryRepository.findStandingsByEditionId(editionId)).thenReturn(List.of());
+
+        assertThatThrownBy(() -> standingsProjection.getSnapshot(editionId))
+                .isInstanceOf(ResourceNotFoundException.class);
+        assertThatThrownBy(() -> standingsProjection.getSnapshot(editionId))
+                .isInstanceOf(ResourceNotFoundException.class);
+        verify(entryRepository, times(2)).findStandingsByEditionId(editionId);
+    }
+
+    private static StandingsEntryEntity entry(String team, int wins, int draws, int losses, int goalsFor, int goalsAgainst) {
+        return StandingsEntryEntity.builder()
+                .team(TeamEntity.builder().id(UUID.randomUUID()).name(team).build())
+                .wins(wins)
+                .draws(draws)
+                .losses(losses)
+                .goalsFor(goalsFor)
+                .goalsAgainst(goalsAgainst)
+                .build();
+    }
+}
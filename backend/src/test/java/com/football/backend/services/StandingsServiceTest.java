@@ -0,0 +1,105 @@
+package com.football.backend.services;
+
+import com.football.backend.entities.EditionEntity;
+import com.football.backend.entities.MatchEntity;
+import com.football.backend.entities.TeamEntity;
+import com.football.backend.models.MatchStatus;
+import com.football.backend.repositories.MatchRepository;
+import com.football.backend.repositories.StandingsEntryRepository;
+import com.football.backend.repositories.StandingsRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class StandingsServiceTest {
+
+    @Mock
+    private StandingsRepository standingsRepository;
+
+    @Mock
+    private StandingsEntryRepository entryRepository;
+
+    @Mock
+    private MatchRepository matchRepository;
+
+    @Mock
+    private StandingsProjection standingsProjection;
+
+    @Mock
+    private ChangeVersions changeVersions;
+
+    @InjectMocks
+    private StandingsService standingsService;
+
+    private EditionEntity edition;
+    private TeamEntity homeTeam;
+    private TeamEntity awayTeam;
+
+    @BeforeEach
+    void setUp() {
+        edition = EditionEntity.builder().id(UUID.randomUUID()).build();
+        homeTeam = TeamEntity.builder().id(UUID.randomUUID()).name("Home").build();
+        awayTeam = TeamEntity.builder().id(UUID.randomUUID()).name("Away").build();
+    }
+
+    @Test
+    void recordResult_appliesDeltaToBothEntries() {
+        stubEntries();
+
+        standingsService.recordResult(match(2, 1));
+
+        verify(entryRepository).addResult(edition.getId(), homeTeam.getId(), 1, 0, 0, 2, 1);
+        verify(entryRepository).addResult(edition.getId(), awayTeam.getId(), 0, 0, 1, 1, 2);
+        verify(standingsProjection).refreshAfterCommit(edition.getId());
+    }
+
+    @Test
+    void revokeResult_undoesRecordedResult() {
+        stubEntries();
+
+        standingsService.revokeResult(match(1, 1));
+
+        verify(entryRepository).addResult(edition.getId(), homeTeam.getId(), 0, -1, 0, -1, -1);
+        verify(entryRepository).addResult(edition.getId(), awayTeam.getId(), 0, -1, 0, -1, -1);
+    }
+
+    @Test
+    void recordResult_ignoresEditionsWithoutStandings() {
+        standingsService.recordResult(match(3, 0));
+
+        verify(entryRepository).addResult(edition.getId(), homeTeam.getId(), 1, 0, 0, 3, 0);
+        verify(entryRepository, never()).addResult(eq(edition.getId()), eq(awayTeam.getId()),
+                anyInt(), anyInt(), anyInt(), anyInt(), anyInt());
+        verify(standingsProjection, never()).refreshAfterCommit(any());
+    }
+
+    private void stubEntries() {
+        when(entryRepository.addResult(eq(edition.getId()), any(UUID.class),
+                anyInt(), anyInt(), anyInt(), anyInt(), anyInt())).thenReturn(1);
+    }
+
+    private MatchEntity match(int homeGoals, int awayGoals) {
+        return MatchEntity.builder()
+                .id(UUID.randomUUID())
+                .edition(edition)
+                .homeTeam(homeTeam)
+                .awayTeam(awayTeam)
+                .homeGoals(homeGoals)
+                .awayGoals(awayGoals)
+                .status(MatchStatus.FINISHED)
+                .build();
+    }
+}
@@ -0,0 +1,66 @@
+package com.football.backend.services;
+
+import com.football.backend.models.TeamPower;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TeamPowerCacheTest {
+
+    private final AtomicLong now = new AtomicLong();
+    private final TeamPowerCache cache = new TeamPowerCache(2, Duration.ofHours(1), now::get);
+
+    @Test
+    void get_countsHitsAndMisses() {
+        TeamPower power = TeamPower.empty(UUID.randomUUID());
+
+        assertThat(cache.get(power.getTeamId())).isNull();
+        cache.put(power, cache.currentEpoch());
+
+        assertThat(cache.get(power.getTeamId())).isSameAs(power);
+        assertThat(cache.getStats().getHits()).isEqualTo(1);
+        assertThat(cache.getStats().getMisses()).isEqualTo(1);
+    }
+
+    @Test
+    void put_evictsLeastRecentlyUsedBeyondMaxSize() {
+        TeamPower first = TeamPower.empty(UUID.randomUUID());
+        TeamPower second = TeamPower.empty(UUID.randomUUID());
+        TeamPower third = TeamPower.empty(UUID.randomUUID());
+
+        cache.put(first, cache.currentEpoch());
+        cache.put(second, cache.currentEpoch());
+        cache.get(first.getTeamId());
+        cache.put(third, cache.currentEpoch());
+
+        assertThat(cache.get(second.getTeamId())).isNull();
+        assertThat(cache.get(first.getTeamId())).isSameAs(first);
+        assertThat(cache.getStats().getEvictions()).isEqualTo(1);
+    }
+
+    @Test
+    void get_refreshesStaleEntries() {
+        TeamPower power = TeamPower.empty(UUID.randomUUID());
+        cache.put(power, cache.currentEpoch());
+
+        now.addAndGet(Duration.ofHours(1).toMillis());
+
+        assertThat(cache.get(power.getTeamId())).isNull();
+        assertThat(cache.getStats().getRefreshes()).isEqualTo(1);
+    }
+
+    @Test
+    void put_skipsLoadsStartedBeforeInvalidation() {
+        TeamPower power = TeamPower.empty(UUID.randomUUID());
+        long loadEpoch = cache.currentEpoch();
+
+        cache.invalidate(power.getTeamId());
+        cache.put(power, loadEpoch);
+
+        assertThat(cache.get(power.getTeamId())).isNull();
+    }
+}
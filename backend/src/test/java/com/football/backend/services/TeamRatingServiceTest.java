@@ -0,0 +1,166 @@
+package com.football.backend.services;
+
+import com.football.backend.dto.PowerRankingDto;
+import com.football.backend.entities.MatchEntity;
+import com.football.backend.entities.TeamEntity;
+import com.football.backend.entities.TeamRatingEntity;
+import com.football.backend.models.MatchStatus;
+import com.football.backend.models.rating.Elo;
+import com.football.backend.repositories.MatchRepository;
+import com.football.backend.repositories.TeamRatingRepository;
+import com.football.backend.repositories.TeamRepository;
+import com.football.backend.repositories.projections.FinishedResultView;
+import com.football.backend.repositories.projections.TeamRatingView;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+class TeamRatingServiceTest {
+
+    private final MatchRepository matchRepository = mock(MatchRepository.class);
+    private final TeamRatingRepository ratingRepository = mock(TeamRatingRepository.class);
+    private final TeamRepository teamRepository = mock(TeamRepository.class);
+    private final PowerRankings powerRankings = new PowerRankings(ratingRepository);
+    private final ForkJoinPool pool = new ForkJoinPool(2);
+    private final TeamRatingService service = new TeamRatingService(matchRepository, ratingRepository, teamRepository,
+            powerRankings, pool, mock(PlatformTransactionManager.class), 20, 60);
+
+    private final Elo elo = new Elo(20, 60);
+    private final UUID first = UUID.randomUUID();
+    private final UUID second = UUID.randomUUID();
+    private final UUID third = UUID.randomUUID();
+    private final UUID fourth = UUID.randomUUID();
+    private final UUID idle = UUID.randomUUID();
+
+    private record Rating(UUID getTeamId, String getTeamName, Double getRating, Integer getMatches)
+            implements TeamRatingView {
+    }
+
+    private record Result(UUID getHomeTeamId, UUID getAwayTeamId, Integer getHomeGoals, Integer getAwayGoals)
+            implements FinishedResultView {
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void rebuild_replaysEveryGroupOfTeamsInDateOrder() {
+        when(ratingRepository.findAllRatings()).thenReturn(List.of(unrated(first), unrated(second),
+                unrated(third), unrated(fourth), unrated(idle)));
+        when(teamRepository.getReferenceById(any())).thenAnswer(call ->
+                TeamEntity.builder().id(call.getArgument(0)).build());
+        // Two groups that never meet, interleaved in date order
+        when(matchRepository.findFinishedResults(MatchStatus.FINISHED)).thenReturn(List.of(
+                new Result(first, second, 2, 0),
+                new Result(third, fourth, 1, 1),
+                new Result(second, first, 3, 1),
+                new Result(fourth, third, 0, 1)));
+
+        service.rebuild();
+
+        ArgumentCaptor<List<TeamRatingEntity>> saved = ArgumentCaptor.forClass(List.class);
+        verify(ratingRepository).deleteAllInBatch();
+        verify(ratingRepository).saveAll(saved.capture());
+        Map<UUID, TeamRatingEntity> rows = new HashMap<>();
+        for (TeamRatingEntity row : saved.getValue()) {
+            rows.put(row.getTeam().getId(), row);
+        }
+
+        double firstGame = elo.homeDelta(Elo.INITIAL, Elo.INITIAL, 2, 0);
+        double secondGame = elo.homeDelta(Elo.INITIAL - firstGame, Elo.INITIAL + firstGame, 3, 1);
+        assertThat(rows.get(first).getRating()).isCloseTo(Elo.INITIAL + firstGame - secondGame, within(1e-9));
+        assertThat(rows.get(second).getRating()).isCloseTo(Elo.INITIAL - firstGame + secondGame, within(1e-9));
+        double draw = elo.homeDelta(Elo.INITIAL, Elo.INITIAL, 1, 1);
+        double awayWin = elo.homeDelta(Elo.INITIAL - draw, Elo.INITIAL + draw, 0, 1);
+        assertThat(rows.get(third).getRating()).isCloseTo(Elo.INITIAL + draw - awayWin, within(1e-9));
+        assertThat(rows.get(first).getMatches()).isEqualTo(2);
+        assertThat(rows.get(idle).getRating()).isEqualTo(Elo.INITIAL);
+        assertThat(rows.get(idle).getMatches()).isZero();
+        assertThat(rows.values().stream().mapToDouble(TeamRatingEntity::getRating).sum())
+                .isCloseTo(5 * Elo.INITIAL, within(1e-6));
+    }
+
+    @Test
+    void independentGroups_keepsTheResultsOfEachGroupInOrder() {
+        int[] home = {0, 2, 1, 3, 5};
+        int[] away = {1, 3, 4, 2, 0};
+
+        List<int[]> groups = TeamRatingService.independentGroups(6, home, away);
+
+        assertThat(groups).containsExactly(new int[]{0, 2, 4}, new int[]{1, 3});
+    }
+
+    @Test
+    void recordResult_movesBothRatingsAndTheRankings() {
+        when(ratingRepository.findAllRatings()).thenReturn(List.of(
+                new Rating(first, "First", 1510.0, 10), new Rating(second, "Second", 1490.0, 10)));
+        assertThat(service.getPowerRankings()).extracting(PowerRankingDto::getTeamId).containsExactly(first, second);
+        TeamRatingEntity away = rating(first, 1510, 10);
+        TeamRatingEntity home = rating(second, 1490, 10);
+        when(ratingRepository.findAllForUpdate(anyCollection())).thenReturn(List.of(away, home));
+
+        service.recordResult(match(second, first, 3, 0));
+
+        double delta = elo.homeDelta(1490, 1510, 3, 0);
+        assertThat(home.getRating()).isCloseTo(1490 + delta, within(1e-9));
+        assertThat(away.getRating()).isCloseTo(1510 - delta, within(1e-9));
+        assertThat(home.getMatches()).isEqualTo(11);
+        List<PowerRankingDto> rankings = service.getPowerRankings();
+        assertThat(rankings).extracting(PowerRankingDto::getTeamId).containsExactly(second, first);
+        assertThat(rankings).extracting(PowerRankingDto::getRank).containsExactly(1, 2);
+        verify(ratingRepository, times(1)).findAllRatings();
+    }
+
+    @Test
+    void recordResult_startsTeamsWithoutARatingAtTheInitialOne() {
+        TeamRatingEntity home = rating(first, 1600, 4);
+        when(ratingRepository.findAllForUpdate(anyCollection())).thenReturn(new ArrayList<>(List.of(home)));
+        when(teamRepository.findByIdForUpdate(second)).thenReturn(Optional.of(TeamEntity.builder().id(second).build()));
+        when(ratingRepository.findById(second)).thenReturn(Optional.empty());
+        when(ratingRepository.save(any())).thenAnswer(call -> call.getArgument(0));
+
+        service.recordResult(match(first, second, 0, 1));
+
+        ArgumentCaptor<TeamRatingEntity> created = ArgumentCaptor.forClass(TeamRatingEntity.class);
+        verify(ratingRepository).save(created.capture());
+        double delta = elo.homeDelta(1600, Elo.INITIAL, 0, 1);
+        assertThat(created.getValue().getRating()).isCloseTo(Elo.INITIAL - delta, within(1e-9));
+        assertThat(created.getValue().getMatches()).isEqualTo(1);
+    }
+
+    private static Rating unrated(UUID teamId) {
+        return new Rating(teamId, null, null, null);
+    }
+
+    private static TeamRatingEntity rating(UUID teamId, double rating, int matches) {
+        return TeamRatingEntity.builder().teamId(teamId).rating(rating).matches(matches).build();
+    }
+
+    private static MatchEntity match(UUID home, UUID away, int homeGoals, int awayGoals) {
+        return MatchEntity.builder()
+                .homeTeam(TeamEntity.builder().id(home).build())
+                .awayTeam(TeamEntity.builder().id(away).build())
+                .homeGoals(homeGoals)
+                .awayGoals(awayGoals)
+                .status(MatchStatus.FINISHED)
+                .build();
+    }
+}
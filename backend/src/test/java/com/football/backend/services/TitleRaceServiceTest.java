@@ -0,0 +1,115 @@
+package com.football.backend.services;
+
+import com.football.backend.dto.StandingsEntryDto;
+import com.football.backend.dto.StandingsSnapshotDto;
+import com.football.backend.dto.TitleRaceDto;
+import com.football.backend.entities.EditionEntity;
+import com.football.backend.models.CompetitionStrategy;
+import com.football.backend.models.MatchStatus;
+import com.football.backend.repositories.EditionRepository;
+import com.football.backend.repositories.MatchRepository;
+import com.football.backend.repositories.projections.FixtureTeamsView;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static com.football.backend.models.race.TitleRace.Status.ALIVE;
+import static com.football.backend.models.race.TitleRace.Status.ELIMINATED;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+class TitleRaceServiceTest {
+
+    private final EditionRepository editionRepository = mock(EditionRepository.class);
+    private final MatchRepository matchRepository = mock(MatchRepository.class);
+    private final StandingsService standingsService = mock(StandingsService.class);
+    private final ChangeVersions changeVersions = new ChangeVersions(100, 100);
+    private final TitleRaceService service = new TitleRaceService(
+            editionRepository, matchRepository, standingsService, changeVersions, 8);
+
+    private final UUID editionId = UUID.randomUUID();
+    private final UUID first = UUID.randomUUID();
+    private final UUID second = UUID.randomUUID();
+    private final UUID third = UUID.randomUUID();
+
+    private record Fixture(Integer getRound, UUID getHomeTeamId, String getHomeTeamName,
+                           UUID getAwayTeamId, String getAwayTeamName) implements FixtureTeamsView {
+    }
+
+    @BeforeEach
+    void setUp() {
+        when(editionRepository.findById(editionId)).thenReturn(Optional.of(
+                EditionEntity.builder().id(editionId).strategyType(CompetitionStrategy.ROBIN_ROUND_DOUBLE).build()));
+    }
+
+    @Test
+    void getTitleRace_carriesSettledTeamsOverWhenMatchesFinish() {
+        standings(12, 11, 3);
+        remaining(fixture(first, second), fixture(second, first), fixture(third, second));
+
+        TitleRaceService.TaggedRace before = service.getTitleRace(editionId);
+        assertThat(service.getTitleRace(editionId).race()).isSameAs(before.race());
+        assertThat(before.race().isIncremental()).isFalse();
+        assertThat(before.race().getTeams()).extracting(TitleRaceDto.TeamRaceDto::getStatus)
+                .containsExactly(ALIVE, ALIVE, ELIMINATED);
+
+        // The first team wins the first of the two games against the second
+        standings(15, 11, 3);
+        remaining(fixture(second, first), fixture(third, second));
+        changeVersions.editionChanged(editionId);
+        TitleRaceService.TaggedRace after = service.getTitleRace(editionId);
+
+        assertThat(after.etag()).isNotEqualTo(before.etag());
+        assertThat(after.race().isIncremental()).isTrue();
+        assertThat(after.race().getRemainingFixtures()).isEqualTo(2);
+        assertThat(after.race().getTeams()).extracting(TitleRaceDto.TeamRaceDto::getStatus)
+                .containsExactly(ALIVE, ALIVE, ELIMINATED);
+        assertThat(after.race().getTeams().get(1).getMaxPoints()).isEqualTo(17);
+    }
+
+    @Test
+    void getTitleRace_startsOverWhenPointsChangeWithoutAMatchFinishing() {
+        standings(12, 11, 3);
+        remaining(fixture(first, second), fixture(second, first), fixture(third, second));
+        service.getTitleRace(editionId);
+
+        // A corrected result elsewhere: same fixtures left, different points
+        standings(13, 11, 3);
+        changeVersions.editionChanged(editionId);
+
+        assertThat(service.getTitleRace(editionId).race().isIncremental()).isFalse();
+        verify(matchRepository, times(2)).findRemainingFixtures(editionId, MatchStatus.FINISHED);
+    }
+
+    @Test
+    void getTitleRace_rejectsKnockoutEditions() {
+        when(editionRepository.findById(editionId)).thenReturn(Optional.of(
+                EditionEntity.builder().id(editionId).strategyType(CompetitionStrategy.KNOCKOUT).build()));
+
+        assertThatThrownBy(() -> service.getTitleRace(editionId)).isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(matchRepository, standingsService);
+    }
+
+    private void standings(int firstPoints, int secondPoints, int thirdPoints) {
+        when(standingsService.getStandingsSnapshot(editionId)).thenReturn(new StandingsSnapshotDto(editionId, 1, List.of(
+                entry(first, "First", firstPoints),
+                entry(second, "Second", secondPoints),
+                entry(third, "Third", thirdPoints))));
+    }
+
+    private void remaining(FixtureTeamsView... fixtures) {
+        when(matchRepository.findRemainingFixtures(editionId, MatchStatus.FINISHED)).thenReturn(List.of(fixtures));
+    }
+
+    private static FixtureTeamsView fixture(UUID home, UUID away) {
+        return new Fixture(5, home, null, away, null);
+    }
+
+    private static StandingsEntryDto entry(UUID teamId, String name, int points) {
+        return StandingsEntryDto.builder().teamId(teamId).teamName(name).poIntegers(points).build();
+    }
+}
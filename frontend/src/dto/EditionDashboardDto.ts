@@ -6,6 +6,7 @@ export interface MatchListDto {
     awayGoals: number;
     matchDate: string;
     status: string;
+    round: number | null; // Null for matches added outside of the schedule
 }
 
 export interface StandingsEntryDto {
@@ -27,5 +28,8 @@ export interface EditionDashboardDto {
     editionName: string;
     competitionName: string;
     table: StandingsEntryDto[]; // Empty if Knockout
-    rounds: MatchListDto[][];
+    roundCount: number;
+    currentRound: number | null; // First round with a match left to finish
+    matches: MatchListDto[]; // Of the current round only, the others are fetched by number
+    unscheduled: MatchListDto[];
 }
\ No newline at end of file
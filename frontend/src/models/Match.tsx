@@ -45,6 +45,11 @@ export interface Match {
     events?: MatchEvent[];
 }
 
+export interface MatchPage {
+    items: Match[];
+    nextCursor?: string | null;
+}
+
 export interface MatchDetailsDto {
     id: string;
     homeTeam?: Team | null;
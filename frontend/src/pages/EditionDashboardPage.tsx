@@ -1,7 +1,7 @@
 import { useEffect, useState } from 'react';
 import { useParams, useNavigate, Link } from 'react-router-dom';
-import { getEditionDashboard, updateEdition, deleteEdition } from '../services/EditionService';
-import type { EditionDashboardDto } from '../dto/EditionDashboardDto';
+import { getEditionDashboard, getEditionRound, updateEdition, deleteEdition } from '../services/EditionService';
+import type { EditionDashboardDto, MatchListDto } from '../dto/EditionDashboardDto';
 import {
     Table, TableBody, TableCell, TableHead, TableRow,
     Paper, Card, CardContent, Typography, Box, IconButton,
@@ -11,12 +11,18 @@ import {
 import EditIcon from '@mui/icons-material/Edit';
 import DeleteIcon from '@mui/icons-material/Delete';
 import ArrowBackIcon from '@mui/icons-material/ArrowBack';
+import ChevronLeftIcon from '@mui/icons-material/ChevronLeft';
+import ChevronRightIcon from '@mui/icons-material/ChevronRight';
 
 export const EditionDashboardPage = () => {
     const { id } = useParams<{ id: string }>();
     const navigate = useNavigate();
     const [dashboard, setDashboard] = useState<EditionDashboardDto | null>(null);
 
+    // Round State: the dashboard ships the current round, the others are fetched on demand
+    const [round, setRound] = useState<number | null>(null);
+    const [roundMatches, setRoundMatches] = useState<MatchListDto[]>([]);
+
     // Edit State
     const [openEdit, setOpenEdit] = useState(false);
     const [editName, setEditName] = useState('');
@@ -32,10 +38,20 @@ export const EditionDashboardPage = () => {
             getEditionDashboard(id).then(data => {
                 setDashboard(data);
                 setEditName(data.editionName);
+                setRound(data.currentRound);
+                setRoundMatches(data.matches);
             }).catch(console.error);
         }
     }
 
+    const showRound = (next: number) => {
+        if (!id) return;
+        getEditionRound(id, next).then(matches => {
+            setRound(next);
+            setRoundMatches(matches);
+        }).catch(console.error);
+    };
+
     // --- ACTIONS ---
     const handleUpdate = async () => {
         if (!id || !dashboard) return;
@@ -139,43 +155,32 @@ export const EditionDashboardPage = () => {
 
             <Typography variant="h5" gutterBottom>Matches</Typography>
             <div style={{ display: 'flex', flexDirection: 'column', gap: '20px' }}>
-                {dashboard.rounds.map((roundMatches, index) => (
-                    <Card key={index}>
+                {round !== null && (
+                    <Card>
                         <CardContent>
-                            <Typography variant="h6" color="textSecondary">Matchday {index + 1}</Typography>
-                            <Table size="small" style={{ tableLayout: 'fixed' }}>
-                                <TableBody>
-                                    {roundMatches.map(match => (
-                                        <TableRow
-                                            key={match.id}
-                                            hover
-                                            style={{ cursor: 'pointer' }}
-                                            onClick={() => navigate(`/matches/${match.id}`)}
-                                        >
-                                            <TableCell style={{ width: '15%' }}>
-                                                {new Date(match.matchDate).toLocaleDateString()}
-                                            </TableCell>
-                                            <TableCell align="right" style={{ width: '30%' }}>
-                                                {match.homeTeamName}
-                                            </TableCell>
-                                            <TableCell align="center" style={{ width: '10%', fontWeight: 'bold', fontSize: '1.1em' }}>
-                                                {match.status === 'FINISHED'
-                                                    ? `${match.homeGoals ?? 0} - ${match.awayGoals ?? 0}`
-                                                    : 'v'}
-                                            </TableCell>
-                                            <TableCell align="left" style={{ width: '30%' }}>
-                                                {match.awayTeamName}
-                                            </TableCell>
-                                            <TableCell style={{ width: '15%' }}>
-                                                {match.status}
-                                            </TableCell>
-                                        </TableRow>
-                                    ))}
-                                </TableBody>
-                            </Table>
+                            <Box display="flex" justifyContent="space-between" alignItems="center">
+                                <IconButton disabled={round <= 1} onClick={() => showRound(round - 1)}>
+                                    <ChevronLeftIcon />
+                                </IconButton>
+                                <Typography variant="h6" color="textSecondary">
+                                    Matchday {round} of {dashboard.roundCount}
+                                </Typography>
+                                <IconButton disabled={round >= dashboard.roundCount} onClick={() => showRound(round + 1)}>
+                                    <ChevronRightIcon />
+                                </IconButton>
+                            </Box>
+                            <MatchTable matches={roundMatches} onSelect={matchId => navigate(`/matches/${matchId}`)} />
                         </CardContent>
                     </Card>
-                ))}
+                )}
+                {dashboard.unscheduled.length > 0 && (
+                    <Card>
+                        <CardContent>
+                            <Typography variant="h6" color="textSecondary">Other Matches</Typography>
+                            <MatchTable matches={dashboard.unscheduled} onSelect={matchId => navigate(`/matches/${matchId}`)} />
+                        </CardContent>
+                    </Card>
+                )}
             </div>
 
             <Dialog open={openEdit} onClose={() => setOpenEdit(false)}>
@@ -195,4 +200,37 @@ export const EditionDashboardPage = () => {
             </Dialog>
         </Container>
     );
-};
\ No newline at end of file
+};
+
+const MatchTable = ({ matches, onSelect }: { matches: MatchListDto[], onSelect: (matchId: string) => void }) => (
+    <Table size="small" style={{ tableLayout: 'fixed' }}>
+        <TableBody>
+            {matches.map(match => (
+                <TableRow
+                    key={match.id}
+                    hover
+                    style={{ cursor: 'pointer' }}
+                    onClick={() => onSelect(match.id)}
+                >
+                    <TableCell style={{ width: '15%' }}>
+                        {new Date(match.matchDate).toLocaleDateString()}
+                    </TableCell>
+                    <TableCell align="right" style={{ width: '30%' }}>
+                        {match.homeTeamName}
+                    </TableCell>
+                    <TableCell align="center" style={{ width: '10%', fontWeight: 'bold', fontSize: '1.1em' }}>
+                        {match.status === 'FINISHED'
+                            ? `${match.homeGoals ?? 0} - ${match.awayGoals ?? 0}`
+                            : 'v'}
+                    </TableCell>
+                    <TableCell align="left" style={{ width: '30%' }}>
+                        {match.awayTeamName}
+                    </TableCell>
+                    <TableCell style={{ width: '15%' }}>
+                        {match.status}
+                    </TableCell>
+                </TableRow>
+            ))}
+        </TableBody>
+    </Table>
+);
@@ -1,5 +1,5 @@
 import type { CreateEditionRequest } from '../dto/CreateEditionRequest';
-import type { EditionDashboardDto } from '../dto/EditionDashboardDto';
+import type { EditionDashboardDto, MatchListDto } from '../dto/EditionDashboardDto';
 import type {Edition} from "../models/Edition.ts";
 
 const API_URL = 'http://localhost:8080/api/editions';
@@ -43,6 +43,17 @@ export const getEditionDashboard = async (editionId: string): Promise<EditionDas
     return await response.json();
 };
 
+export const getEditionRound = async (editionId: string, round: number): Promise<MatchListDto[]> => {
+    const response = await fetch(`${API_URL}/${editionId}/rounds/${round}`);
+
+    if (!response.ok) {
+        const errorText = await response.text();
+        throw new Error(`Failed to fetch round: ${response.status} ${response.statusText} - ${errorText}`);
+    }
+
+    return await response.json();
+};
+
 export const updateEdition = async (id: string, name: string) => {
     const response = await fetch(`${API_URL}/${id}`, {
         method: 'PUT',
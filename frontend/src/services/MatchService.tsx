@@ -1,15 +1,30 @@
-import type {TeamSummary} from "../models/Team.tsx";
-import type {MatchDetailsDto} from "../models/Match.tsx";
+import type {Match, MatchDetailsDto, MatchPage} from "../models/Match.tsx";
 import type {CreateMatchFormData} from "../dto/CreateMatchRequest.ts";
 
 const API_BASE_URL = 'http://localhost:8080/api/matches';
 
-export const getAllMatches = async (): Promise<TeamSummary[]> => {
-    const response = await fetch(API_BASE_URL);
+export const getMatchesPage = async (cursor?: string | null, limit = 200): Promise<MatchPage> => {
+    const params = new URLSearchParams({ limit: String(limit) });
+    if (cursor) {
+        params.set('cursor', cursor);
+    }
+    const response = await fetch(`${API_BASE_URL}?${params}`);
     if (!response.ok) {
-        throw new Error('Failed to fetch teams');
+        throw new Error('Failed to fetch matches');
     }
-    return await response.json() as TeamSummary[];
+    return await response.json() as MatchPage;
+};
+
+// Follows the cursors until the last page.
+export const getAllMatches = async (): Promise<Match[]> => {
+    const matches: Match[] = [];
+    let cursor: string | null | undefined = undefined;
+    do {
+        const page = await getMatchesPage(cursor);
+        matches.push(...page.items);
+        cursor = page.nextCursor;
+    } while (cursor);
+    return matches;
 };
 
 export const getMatchById = async (id: string): Promise<MatchDetailsDto> => {